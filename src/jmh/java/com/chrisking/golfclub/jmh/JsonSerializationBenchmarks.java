@@ -0,0 +1,88 @@
+package com.chrisking.golfclub.jmh;
+
+import com.chrisking.golfclub.benchmark.GolfClubDataGenerator;
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.TournamentSummary;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the member and tournament payloads the API returns, without a database.
+ * Each operation writes the whole list, so the score is lists per second at the given size.
+ * Run with: mvn -Pjmh -DskipTests verify -Djmh.includes=JsonSerializationBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonSerializationBenchmarks {
+
+    // Tournaments each member response lists
+    private static final int TOURNAMENTS_PER_MEMBER = 3;
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    // The same sink is written on every invocation, so it must stay open
+    private final ObjectMapper objectMapper = JsonMapper.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    private List<Member> members;
+
+    private List<Tournament> tournaments;
+
+    private List<MemberResponse> memberResponses;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        GolfClubDataGenerator generator = new GolfClubDataGenerator(42);
+        members = generator.members(rows);
+        tournaments = generator.tournaments(rows);
+
+        List<TournamentSummary> summaries = new ArrayList<>(tournaments.size());
+        for (int i = 0; i < tournaments.size(); i++) {
+            Tournament t = tournaments.get(i);
+            summaries.add(new TournamentSummary((long) i, t.getStartDate(), t.getEndDate(), t.getLocation()));
+        }
+        memberResponses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            List<TournamentSummary> played = new ArrayList<>(TOURNAMENTS_PER_MEMBER);
+            for (int j = 0; j < TOURNAMENTS_PER_MEMBER; j++) {
+                played.add(summaries.get((i * 7 + j * 13) % summaries.size()));
+            }
+            memberResponses.add(MemberResponse.of(members.get(i), played));
+        }
+    }
+
+    @Benchmark
+    public void members() {
+        objectMapper.writeValue(out, members);
+    }
+
+    @Benchmark
+    public void tournaments() {
+        objectMapper.writeValue(out, tournaments);
+    }
+
+    @Benchmark
+    public void memberResponses() {
+        objectMapper.writeValue(out, memberResponses);
+    }
+}
@@ -0,0 +1,85 @@
+package com.chrisking.golfclub.jmh;
+
+import com.chrisking.golfclub.GolfClubApiApplication;
+import com.chrisking.golfclub.benchmark.GolfClubDataGenerator;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.MemberImportService;
+import com.chrisking.golfclub.service.MemberService;
+import com.chrisking.golfclub.service.SearchIndexService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Starts the application against the embedded test database and seeds it with a deterministic data set:
+ * {@code rows} members, one "featured" tournament whose roster holds every member, and a set of
+ * open tournaments that the enrollment benchmark fills.
+ */
+@State(Scope.Benchmark)
+public class SeededApplicationState {
+
+    // Number of open tournaments the enrollment benchmark cycles through
+    static final int OPEN_TOURNAMENTS = 50;
+
+    // Roster ids are enrolled in chunks of this size
+    private static final int ENROLLMENT_CHUNK = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+
+    MemberService memberService;
+
+    TournamentService tournamentService;
+
+    List<Long> memberIds;
+
+    Tournament featuredTournament;
+
+    List<Tournament> openTournaments;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(GolfClubApiApplication.class)
+                .profiles("test")
+                .properties("logging.level.root=WARN",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "golfclub.metrics.slow-query.threshold=1h")
+                .run();
+
+        List<Member> members = new GolfClubDataGenerator(42).members(rows);
+        context.getBean(MemberImportService.class).importMembers(members);
+        memberIds = members.stream().map(Member::getId).toList();
+
+        TournamentRepository tournamentRepository = context.getBean(TournamentRepository.class);
+        // The featured tournament starts on a date no generated tournament can have
+        featuredTournament = tournamentRepository.save(new Tournament(LocalDate.of(2030, 6, 1),
+                LocalDate.of(2030, 6, 3), "Featured Links, St. John's", null, null));
+        openTournaments = tournamentRepository.saveAll(new GolfClubDataGenerator(7).tournaments(OPEN_TOURNAMENTS));
+
+        memberService = context.getBean(MemberService.class);
+        tournamentService = context.getBean(TournamentService.class);
+        for (int from = 0; from < memberIds.size(); from += ENROLLMENT_CHUNK) {
+            tournamentService.enrollMembers(featuredTournament.getId(),
+                    memberIds.subList(from, Math.min(from + ENROLLMENT_CHUNK, memberIds.size())));
+        }
+        context.getBean(SearchIndexService.class).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
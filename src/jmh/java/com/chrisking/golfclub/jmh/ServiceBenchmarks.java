@@ -0,0 +1,72 @@
+package com.chrisking.golfclub.jmh;
+
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.model.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the member and tournament service hot paths against the seeded embedded database.
+ * Run with: mvn -Pjmh -DskipTests verify -Djmh.includes=ServiceBenchmarks
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ServiceBenchmarks {
+
+    // Front-desk style name queries: prefixes, full surnames and substrings
+    private static final String[] NAME_QUERIES = {"smi", "johnson", "garc", "ann", "lee", "williams"};
+
+    /**
+     * Per-thread position in the query list and in the sequence of (tournament, member) enrollments.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int query;
+
+        long enrollment;
+
+        // Empties the open tournaments after every iteration, so each enrollment adds a new roster row
+        @TearDown(Level.Iteration)
+        public void resetOpenTournaments(SeededApplicationState state) {
+            JdbcTemplate jdbcTemplate = state.context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("delete from tournament_members where tournament_id <> ?", state.featuredTournament.getId());
+            jdbcTemplate.update("update tournaments set registered_players = 0 where id <> ?", state.featuredTournament.getId());
+            enrollment = 0;
+        }
+    }
+
+    @Benchmark
+    public List<MemberResponse> searchByName(SeededApplicationState state, Cursor cursor) {
+        String query = NAME_QUERIES[cursor.query++ % NAME_QUERIES.length];
+        return state.memberService.searchByName(query, 50);
+    }
+
+    @Benchmark
+    public List<MemberResponse> searchByTournamentStartDate(SeededApplicationState state) {
+        return state.memberService.searchByTournamentStartDate(state.featuredTournament.getStartDate());
+    }
+
+    @Benchmark
+    public Tournament addMemberToTournament(SeededApplicationState state, Cursor cursor) {
+        long next = cursor.enrollment++;
+        Tournament tournament = state.openTournaments.get((int) (next % SeededApplicationState.OPEN_TOURNAMENTS));
+        Long memberId = state.memberIds.get((int) (next / SeededApplicationState.OPEN_TOURNAMENTS % state.memberIds.size()));
+        return state.tournamentService.addMemberToTournament(tournament.getId(), memberId);
+    }
+
+    @Benchmark
+    public List<MemberResponse> getMembersInTournament(SeededApplicationState state) {
+        return state.tournamentService.getMembersInTournament(state.featuredTournament.getId());
+    }
+}
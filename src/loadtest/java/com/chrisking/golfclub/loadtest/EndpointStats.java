@@ -0,0 +1,58 @@
+package com.chrisking.golfclub.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one scenario during the measured run.
+ */
+class EndpointStats {
+
+    // Latencies in microseconds, up to one minute at three significant digits
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    // First unexpected outcome, reported to make failures diagnosable
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+
+    void record(long latencyNanos, boolean success, String outcome) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencies.getHighestTrackableValue()));
+        requests.increment();
+        if (!success) {
+            errors.increment();
+            firstError.compareAndSet(null, outcome);
+        }
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double errorRate() {
+        long total = requests();
+        return total == 0 ? 0 : (double) errors() / total;
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+
+    String firstError() {
+        return firstError.get();
+    }
+}
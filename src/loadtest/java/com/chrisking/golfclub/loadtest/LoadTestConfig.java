@@ -0,0 +1,109 @@
+package com.chrisking.golfclub.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from loadtest.* system properties.
+ * @param members members seeded into the embedded database
+ * @param tournaments tournaments seeded into the embedded database
+ * @param rosterSize members enrolled in each tournament before the run
+ * @param clients concurrent clients (closed model) or worker threads (open model)
+ * @param rate target requests per second for the open model; 0 runs the closed model
+ * @param warmup traffic sent before measuring
+ * @param duration measured traffic
+ * @param burstSize registrations sent back to back for one tournament when a registration is picked
+ * @param mix relative weight of each scenario
+ * @param result where the JSON results are written
+ * @param baseline results of an earlier run to compare against, or null
+ * @param maxRegression tolerated relative regression of p99 latency and throughput against the baseline
+ * @param maxErrorRate highest tolerated error rate per endpoint
+ * @param maxP99 highest tolerated p99 latency per endpoint, or null for no absolute limit
+ * @param maxP99ByScenario per-endpoint overrides of maxP99
+ * @param enforce whether threshold violations make the runner exit with a failure
+ */
+record LoadTestConfig(int members,
+                      int tournaments,
+                      int rosterSize,
+                      int clients,
+                      int rate,
+                      Duration warmup,
+                      Duration duration,
+                      int burstSize,
+                      Map<Scenario, Integer> mix,
+                      Path result,
+                      Path baseline,
+                      double maxRegression,
+                      double maxErrorRate,
+                      Duration maxP99,
+                      Map<Scenario, Duration> maxP99ByScenario,
+                      boolean enforce) {
+
+    private static final String DEFAULT_MIX = "searchByName=25,searchByPhone=15,searchByType=5,roster=25,register=15,listing=15";
+
+    static LoadTestConfig fromSystemProperties() {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : property("mix", DEFAULT_MIX).split(",")) {
+            String[] weight = entry.trim().split("=");
+            mix.put(Scenario.fromKey(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        Map<Scenario, Duration> maxP99ByScenario = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            String limit = System.getProperty("loadtest.max-p99." + scenario.key());
+            if (limit != null && !limit.isBlank()) {
+                maxP99ByScenario.put(scenario, duration(limit));
+            }
+        }
+        String baseline = property("baseline", "");
+        String maxP99 = property("max-p99", "");
+
+        return new LoadTestConfig(
+                Integer.parseInt(property("members", "20000")),
+                Integer.parseInt(property("tournaments", "20")),
+                Integer.parseInt(property("roster-size", "200")),
+                Integer.parseInt(property("clients", "32")),
+                Integer.parseInt(property("rate", "0")),
+                duration(property("warmup", "10s")),
+                duration(property("duration", "60s")),
+                Integer.parseInt(property("burst-size", "10")),
+                mix,
+                Path.of(property("result", "target/loadtest-result.json")),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(property("max-regression", "0.25")),
+                Double.parseDouble(property("max-error-rate", "0.01")),
+                maxP99.isBlank() ? null : duration(maxP99),
+                maxP99ByScenario,
+                Boolean.parseBoolean(property("enforce", "true")));
+    }
+
+    /**
+     * Returns the p99 limit for a scenario: its own override, else the global limit.
+     * @param scenario the scenario
+     * @return the limit, or null if there is none
+     */
+    Duration maxP99For(Scenario scenario) {
+        return maxP99ByScenario.getOrDefault(scenario, maxP99);
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    // Accepts 500ms, 30s, 2m or an ISO-8601 duration
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.parse(value.trim());
+    }
+}
@@ -0,0 +1,297 @@
+package com.chrisking.golfclub.loadtest;
+
+import com.chrisking.golfclub.GolfClubApiApplication;
+import com.chrisking.golfclub.benchmark.GolfClubDataGenerator;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.MemberImportService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: boots the application on a random port against the embedded database, seeds it,
+ * replays a weighted mix of golf-club traffic over HTTP and reports throughput, error rate and latency
+ * percentiles per endpoint. Thresholds (error rate, absolute p99, regression against a baseline run)
+ * turn the report into a pass/fail result; with loadtest.enforce=true a violation exits with status 1.
+ * <p>
+ * With loadtest.rate=0 a fixed number of clients send requests back to back (closed model). With a rate,
+ * requests are started on a fixed schedule and latency is measured from the scheduled start (open model),
+ * so time spent queued behind a slow server is included rather than hidden.
+ * <p>
+ * Run with: mvn -Ploadtest -DskipTests verify [-Dloadtest.duration=2m -Dloadtest.baseline=previous.json]
+ */
+public class LoadTestRunner {
+
+    private final LoadTestConfig config;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private final HttpClient httpClient;
+
+    private URI baseUri;
+
+    private SeedData data;
+
+    // Entries of the weighted mix, expanded so a uniform pick honours the weights
+    private final List<Scenario> weightedMix = new ArrayList<>();
+
+    // Where each client thread is in the member listing
+    private final ThreadLocal<String> listingCursor = new ThreadLocal<>();
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        config.mix().forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weightedMix.add(scenario);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadTestRunner runner = new LoadTestRunner(config);
+        List<String> violations;
+        try (ConfigurableApplicationContext context = runner.start()) {
+            System.out.printf("[loadtest] warming up for %s%n", config.warmup());
+            runner.run(config.warmup());
+            System.out.printf("[loadtest] measuring for %s with %d clients%s%n", config.duration(), config.clients(),
+                    config.rate() > 0 ? " at " + config.rate() + " req/s" : "");
+            Map<Scenario, EndpointStats> stats = runner.run(config.duration());
+            ObjectNode result = runner.report(stats);
+            violations = runner.checkThresholds(result);
+        }
+        violations.forEach(violation -> System.out.println("[loadtest] THRESHOLD VIOLATED: " + violation));
+        if (!violations.isEmpty() && config.enforce()) {
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // Boots the application and seeds members, tournaments and rosters through the services
+    private ConfigurableApplicationContext start() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GolfClubApiApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "logging.level.root=WARN",
+                        "golfclub.metrics.slow-query.sample-rate=0")
+                .run();
+        baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+
+        List<Member> members = new GolfClubDataGenerator(42).members(config.members());
+        context.getBean(MemberImportService.class).importMembers(members);
+        List<Tournament> tournaments = context.getBean(TournamentRepository.class)
+                .saveAll(new GolfClubDataGenerator(7).tournaments(config.tournaments()));
+
+        List<Long> memberIds = members.stream().map(Member::getId).toList();
+        TournamentService tournamentService = context.getBean(TournamentService.class);
+        Random random = new Random(42);
+        for (Tournament tournament : tournaments) {
+            List<Long> roster = new ArrayList<>();
+            for (int i = 0; i < config.rosterSize(); i++) {
+                roster.add(memberIds.get(random.nextInt(memberIds.size())));
+            }
+            tournamentService.enrollMembers(tournament.getId(), roster);
+        }
+
+        data = new SeedData(memberIds,
+                members.stream().map(Member::getMemberName).toList(),
+                members.stream().map(Member::getPhoneNumber).toList(),
+                tournaments.stream().map(Tournament::getId).toList());
+        System.out.printf("[loadtest] seeded %d members, %d tournaments with %d players each at %s%n",
+                config.members(), config.tournaments(), config.rosterSize(), baseUri);
+        return context;
+    }
+
+    private Map<Scenario, EndpointStats> run(Duration duration) throws InterruptedException {
+        Map<Scenario, EndpointStats> stats = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new EndpointStats());
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(config.clients());
+        try {
+            if (config.rate() > 0) {
+                runOpenModel(clients, deadline, stats);
+            } else {
+                for (int i = 0; i < config.clients(); i++) {
+                    clients.execute(() -> {
+                        while (System.nanoTime() < deadline) {
+                            sendPick(stats);
+                        }
+                    });
+                }
+            }
+        } finally {
+            clients.shutdown();
+            if (!clients.awaitTermination(1, TimeUnit.MINUTES)) {
+                clients.shutdownNow();
+            }
+        }
+        return stats;
+    }
+
+    // Starts one request per scheduled slot; requests that wait for a free worker accrue latency while they wait.
+    // Each request of a registration burst takes its own slot, so none is charged for the ones sent before it
+    private void runOpenModel(ExecutorService clients, long deadline, Map<Scenario, EndpointStats> stats) {
+        Random random = ThreadLocalRandom.current();
+        long interval = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long next = System.nanoTime();
+        while (next < deadline) {
+            Scenario scenario = pick(random);
+            long tournamentId = scenario == Scenario.REGISTER ? data.randomTournament(random) : 0;
+            int requests = scenario == Scenario.REGISTER ? config.burstSize() : 1;
+            for (int i = 0; i < requests && next < deadline; i++) {
+                long scheduled = next;
+                clients.execute(() -> send(scenario, tournamentId, scheduled, stats.get(scenario)));
+                next += interval;
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+        }
+    }
+
+    // Sends one weighted pick back to back; a registration pick is a burst of registrations for the same tournament
+    private void sendPick(Map<Scenario, EndpointStats> stats) {
+        Random random = ThreadLocalRandom.current();
+        Scenario scenario = pick(random);
+        if (scenario != Scenario.REGISTER) {
+            send(scenario, 0, System.nanoTime(), stats.get(scenario));
+            return;
+        }
+        long tournamentId = data.randomTournament(random);
+        for (int i = 0; i < config.burstSize(); i++) {
+            send(scenario, tournamentId, System.nanoTime(), stats.get(scenario));
+        }
+    }
+
+    private Scenario pick(Random random) {
+        return weightedMix.get(random.nextInt(weightedMix.size()));
+    }
+
+    private void send(Scenario scenario, long tournamentId, long start, EndpointStats stats) {
+        HttpRequest request = scenario.request(baseUri, data, ThreadLocalRandom.current(), listingCursor.get(),
+                tournamentId);
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - start;
+            boolean success = scenario.isSuccess(response.statusCode());
+            stats.record(latency, success, "HTTP " + response.statusCode() + " " + request.uri());
+            if (scenario == Scenario.LISTING && success) {
+                JsonNode next = objectMapper.readTree(response.body()).path("next");
+                listingCursor.set(next.isTextual() ? next.asText() : null);
+            }
+        } catch (IOException e) {
+            stats.record(System.nanoTime() - start, false, e + " " + request.uri());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ObjectNode report(Map<Scenario, EndpointStats> stats) throws IOException {
+        double seconds = config.duration().toNanos() / 1e9;
+        ObjectNode result = objectMapper.createObjectNode();
+        ObjectNode settings = result.putObject("config");
+        settings.put("members", config.members());
+        settings.put("tournaments", config.tournaments());
+        settings.put("clients", config.clients());
+        settings.put("rate", config.rate());
+        settings.put("durationSeconds", seconds);
+        ObjectNode endpoints = result.putObject("endpoints");
+
+        System.out.printf("%n%-14s %9s %10s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<Scenario, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            if (endpoint.requests() == 0) {
+                continue;
+            }
+            double throughput = endpoint.requests() / seconds;
+            System.out.printf("%-14s %9d %10.1f %7.2f%% %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey().key(), endpoint.requests(), throughput, endpoint.errorRate() * 100,
+                    endpoint.percentileMillis(50), endpoint.percentileMillis(95), endpoint.percentileMillis(99),
+                    endpoint.maxMillis());
+            if (endpoint.firstError() != null) {
+                System.out.printf("%14s first error: %s%n", "", endpoint.firstError());
+            }
+
+            ObjectNode node = endpoints.putObject(entry.getKey().key());
+            node.put("requests", endpoint.requests());
+            node.put("throughput", throughput);
+            node.put("errorRate", endpoint.errorRate());
+            node.put("p50", endpoint.percentileMillis(50));
+            node.put("p95", endpoint.percentileMillis(95));
+            node.put("p99", endpoint.percentileMillis(99));
+            node.put("max", endpoint.maxMillis());
+        }
+
+        if (config.result().getParent() != null) {
+            Files.createDirectories(config.result().getParent());
+        }
+        Files.writeString(config.result(), objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(result));
+        System.out.printf("%n[loadtest] results written to %s%n", config.result());
+        return result;
+    }
+
+    private List<String> checkThresholds(ObjectNode result) throws IOException {
+        JsonNode baseline = config.baseline() == null ? null
+                : objectMapper.readTree(Files.readAllBytes(config.baseline())).path("endpoints");
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : result.path("endpoints").properties()) {
+            String endpoint = entry.getKey();
+            JsonNode current = entry.getValue();
+            Scenario scenario = Scenario.fromKey(endpoint);
+
+            if (current.path("errorRate").asDouble() > config.maxErrorRate()) {
+                violations.add(String.format("%s error rate %.2f%% > %.2f%%", endpoint,
+                        current.path("errorRate").asDouble() * 100, config.maxErrorRate() * 100));
+            }
+            Duration maxP99 = config.maxP99For(scenario);
+            if (maxP99 != null && current.path("p99").asDouble() > maxP99.toNanos() / 1e6) {
+                violations.add(String.format("%s p99 %.1f ms > %d ms", endpoint,
+                        current.path("p99").asDouble(), maxP99.toMillis()));
+            }
+            if (baseline != null && baseline.has(endpoint)) {
+                JsonNode previous = baseline.path(endpoint);
+                double p99Limit = previous.path("p99").asDouble() * (1 + config.maxRegression());
+                if (current.path("p99").asDouble() > p99Limit) {
+                    violations.add(String.format("%s p99 %.1f ms regressed beyond %.1f ms (baseline %.1f ms)", endpoint,
+                            current.path("p99").asDouble(), p99Limit, previous.path("p99").asDouble()));
+                }
+                double throughputFloor = previous.path("throughput").asDouble() * (1 - config.maxRegression());
+                if (current.path("throughput").asDouble() < throughputFloor) {
+                    violations.add(String.format("%s throughput %.1f req/s regressed below %.1f req/s (baseline %.1f)",
+                            endpoint, current.path("throughput").asDouble(), throughputFloor,
+                            previous.path("throughput").asDouble()));
+                }
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,79 @@
+package com.chrisking.golfclub.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The kinds of requests in the traffic mix, each reported as its own endpoint.
+ */
+enum Scenario {
+
+    SEARCH_BY_NAME("searchByName", Set.of(200)),
+    SEARCH_BY_PHONE("searchByPhone", Set.of(200)),
+    SEARCH_BY_TYPE("searchByType", Set.of(200)),
+    ROSTER("roster", Set.of(200)),
+    // A full tournament answers 409, which is an expected outcome of a registration burst
+    REGISTER("register", Set.of(200, 409)),
+    LISTING("listing", Set.of(200));
+
+    private static final String[] MEMBERSHIP_TYPES = {"standard", "premium", "junior", "senior", "corporate"};
+
+    // Key used in loadtest.mix, thresholds and reports
+    private final String key;
+
+    // Status codes that count as success
+    private final Set<Integer> expectedStatuses;
+
+    Scenario(String key, Set<Integer> expectedStatuses) {
+        this.key = key;
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    String key() {
+        return key;
+    }
+
+    boolean isSuccess(int status) {
+        return expectedStatuses.contains(status);
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario: " + key);
+    }
+
+    /**
+     * Builds one request of this scenario.
+     * @param baseUri the application's base URI
+     * @param data the seeded data to draw ids, names and phone numbers from
+     * @param random the caller's random source
+     * @param cursor the listing cursor to continue from, or null for the first page (listing only)
+     * @param tournamentId the tournament of the current registration burst (registration only)
+     * @return the request
+     */
+    HttpRequest request(URI baseUri, SeedData data, Random random, String cursor, long tournamentId) {
+        String path = switch (this) {
+            case SEARCH_BY_NAME -> "/api/members/search/by-name?limit=20&name=" + encode(data.nameQuery(random));
+            case SEARCH_BY_PHONE -> "/api/members/search/by-phone?phoneNumber=" + encode(data.randomPhone(random));
+            case SEARCH_BY_TYPE -> "/api/members/search/by-membership-type?membershipType="
+                    + MEMBERSHIP_TYPES[random.nextInt(MEMBERSHIP_TYPES.length)];
+            case ROSTER -> "/api/tournaments/" + data.randomTournament(random) + "/members";
+            case REGISTER -> "/api/tournaments/" + tournamentId + "/members/" + data.randomMember(random);
+            case LISTING -> "/api/members?size=50" + (cursor == null ? "" : "&cursor=" + encode(cursor));
+        };
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path));
+        return this == REGISTER ? builder.POST(HttpRequest.BodyPublishers.noBody()).build() : builder.GET().build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,34 @@
+package com.chrisking.golfclub.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Ids, names and phone numbers of the seeded rows, used to build requests that hit existing data.
+ * @param memberIds ids of the seeded members
+ * @param memberNames names of the seeded members
+ * @param phoneNumbers phone numbers of the seeded members
+ * @param tournamentIds ids of the seeded tournaments
+ */
+record SeedData(List<Long> memberIds, List<String> memberNames, List<String> phoneNumbers, List<Long> tournamentIds) {
+
+    long randomMember(Random random) {
+        return memberIds.get(random.nextInt(memberIds.size()));
+    }
+
+    long randomTournament(Random random) {
+        return tournamentIds.get(random.nextInt(tournamentIds.size()));
+    }
+
+    String randomPhone(Random random) {
+        return phoneNumbers.get(random.nextInt(phoneNumbers.size()));
+    }
+
+    // A 3 to 6 character piece of a real member name, as typed into the front-desk search box
+    String nameQuery(Random random) {
+        String name = memberNames.get(random.nextInt(memberNames.size())).toLowerCase();
+        int length = Math.min(name.length(), 3 + random.nextInt(4));
+        int start = random.nextInt(name.length() - length + 1);
+        return name.substring(start, start + length).trim();
+    }
+}
@@ -0,0 +1,70 @@
+package com.chrisking.golfclub.config;
+
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.TournamentResponse;
+import com.chrisking.golfclub.service.CacheFill;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded in-memory caches for member and tournament lookups by id.
+ * Each cache takes its own Caffeine spec (size and TTL) from application.properties and records
+ * hit/miss statistics, which are published as cache.* metrics through the actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Member responses by member id
+    public static final String MEMBERS = "members";
+
+    // Tournament responses by tournament id
+    public static final String TOURNAMENTS = "tournaments";
+
+    /**
+     * Builds the cache manager with one cache per entity.
+     * Puts and evictions made inside a transaction are applied after it commits, so a rolled back
+     * write never touches the cache and an eviction cannot be undone by a read of uncommitted state.
+     * @param memberSpec Caffeine spec for the member cache
+     * @param tournamentSpec Caffeine spec for the tournament cache
+     * @return the transaction-aware cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${golfclub.cache.members.spec:maximumSize=10000,expireAfterWrite=10m}")
+                                     String memberSpec,
+                                     @Value("${golfclub.cache.tournaments.spec:maximumSize=1000,expireAfterWrite=10m}")
+                                     String tournamentSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Missing ids are not cached, so a later create is visible immediately
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(MEMBERS, Caffeine.from(memberSpec).recordStats().build());
+        cacheManager.registerCustomCache(TOURNAMENTS, Caffeine.from(tournamentSpec).recordStats().build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * Fills the member cache, shared by every service that loads or invalidates member responses.
+     * @param cacheManager the cache manager
+     * @return the member cache fill
+     */
+    @Bean
+    public CacheFill<Long, MemberResponse> memberCacheFill(CacheManager cacheManager) {
+        return new CacheFill<>(cacheManager.getCache(MEMBERS), MemberResponse.class);
+    }
+
+    /**
+     * Fills the tournament cache.
+     * @param cacheManager the cache manager
+     * @return the tournament cache fill
+     */
+    @Bean
+    public CacheFill<Long, TournamentResponse> tournamentCacheFill(CacheManager cacheManager) {
+        return new CacheFill<>(cacheManager.getCache(TOURNAMENTS), TournamentResponse.class);
+    }
+}
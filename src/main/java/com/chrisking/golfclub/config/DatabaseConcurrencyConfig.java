@@ -0,0 +1,71 @@
+package com.chrisking.golfclub.config;
+
+import com.chrisking.golfclub.datasource.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Bounds how many callers can hold a database connection at once. Enabled together with virtual
+ * threads (spring.threads.virtual.enabled), where request concurrency is no longer capped by the
+ * servlet thread pool, and sized to the connection pool by default.
+ */
+@Configuration
+public class DatabaseConcurrencyConfig {
+
+    /**
+     * Wraps the application's data source in a {@link ConcurrencyLimitingDataSource}.
+     * Wrapping happens after initialization so the pool's own properties are bound first. With a read replica
+     * each pool is limited on its own; the lazy routing proxy in front of them hands out their connections
+     * and is left alone.
+     * @param enabled whether the limit applies; defaults to whether virtual threads are enabled
+     * @param maxConcurrency connections that may be in use at once; defaults to the Hikari pool size
+     * @param acquireTimeout how long a caller waits for a free connection before the request fails
+     * @return the bean post-processor that wraps the data source
+     */
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyLimiter(
+            @Value("${golfclub.db.limiter.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${golfclub.db.limiter.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrency,
+            @Value("${golfclub.db.limiter.acquire-timeout:10s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitingDataSource)
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Publishes the limiter's golfclub.db.limiter.* metrics when the limit is in place.
+     * @param dataSource the application's data source
+     * @return the binder registering the limiter gauges and counter
+     */
+    @Bean
+    public MeterBinder databaseConcurrencyLimiterMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            DataSource target = dataSource.getIfAvailable();
+            try {
+                if (target != null && target.isWrapperFor(ConcurrencyLimitingDataSource.class)) {
+                    target.unwrap(ConcurrencyLimitingDataSource.class).registerMetrics(registry);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not inspect the data source", e);
+            }
+        };
+    }
+}
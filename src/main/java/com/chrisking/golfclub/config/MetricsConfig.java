@@ -0,0 +1,48 @@
+package com.chrisking.golfclub.config;
+
+import com.chrisking.golfclub.metrics.RepositoryMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+
+/**
+ * Persistence metrics beyond what Spring Boot publishes on its own: rows returned per repository
+ * method and a sampled log of slow repository calls.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Adds the metrics interceptor to every Spring Data repository proxy.
+     * Declared static so the post-processor does not force early creation of this configuration.
+     * @param meterRegistry the registry, resolved when the first metric is recorded
+     * @param slowThreshold calls at least this slow are counted and may be logged
+     * @param sampleRate fraction of slow calls that are logged, between 0 and 1
+     * @return the bean post-processor that customizes the repository factories
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${golfclub.metrics.slow-query.threshold:250ms}") Duration slowThreshold,
+            @Value("${golfclub.metrics.slow-query.sample-rate:0.1}") double sampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositoryMetricsInterceptor(
+                                            repositoryInformation.getRepositoryInterface().getSimpleName(),
+                                            meterRegistry::getObject, slowThreshold, sampleRate))));
+                }
+                return bean;
+            }
+        };
+    }
+}
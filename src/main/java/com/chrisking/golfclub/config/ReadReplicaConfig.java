@@ -0,0 +1,82 @@
+package com.chrisking.golfclub.config;
+
+import com.chrisking.golfclub.datasource.ReadYourWritesFilter;
+import com.chrisking.golfclub.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits reads from writes when a replica is configured (golfclub.datasource.replica.url).
+ * Read-only transactions use the replica pool and everything else the primary pool; the application sees a
+ * single data source that picks between them per transaction. Without a replica URL the auto-configured
+ * single pool is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "golfclub.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    /**
+     * The primary pool, configured from the usual spring.datasource.* properties.
+     * @param properties the spring.datasource properties
+     * @return the primary connection pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * The replica pool; pool settings are read from golfclub.datasource.replica.hikari.*.
+     * @param url the replica JDBC URL
+     * @param username the replica user, by default the primary's
+     * @param password the replica password, by default the primary's
+     * @return the replica connection pool
+     */
+    @Bean
+    @ConfigurationProperties("golfclub.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${golfclub.datasource.replica.url}") String url,
+            @Value("${golfclub.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${golfclub.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * The data source the application uses, routing each transaction to the primary or the replica.
+     * @param primary the primary pool
+     * @param replica the replica pool
+     * @return the routing data source behind a lazy connection proxy
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    /**
+     * Pins the rest of a request to the primary once it has written, so it reads its own writes.
+     * @return the request filter
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+}
@@ -0,0 +1,13 @@
+package com.chrisking.golfclub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled batch jobs, such as the nightly membership renewal run.
+ * Each job has its own cron expression and on/off switch in application.properties.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package com.chrisking.golfclub.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+/**
+ * Answers request parameters the services reject (sort, cursor, fields, formats, date ranges, batch sizes)
+ * with 400 Bad Request for every controller, the same way a ResponseStatusException would.
+ */
+@RestControllerAdvice
+public class BadRequestHandler {
+
+    /**
+     * Sends 400 Bad Request with the service's message as the reason.
+     * @param ex the rejected argument
+     * @param response the current response
+     * @throws IOException if the error cannot be sent
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public void handleIllegalArgument(IllegalArgumentException ex, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+    }
+}
@@ -0,0 +1,40 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.service.ChangeFeedService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for the change feed.
+ * Streams member, tournament and roster changes as server-sent events, replacing polling of the listings.
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeFeedController {
+
+    // Service dependency for change feed subscriptions
+    private final ChangeFeedService changeFeedService;
+
+    // Constructor injection for the change feed service
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    /**
+     * Subscribes to the change feed.
+     * Events are named member.created, tournament.created and roster.enrolled and carry the changed member,
+     * tournament or roster as JSON. A client reconnecting with the Last-Event-ID header first receives the
+     * events it missed, or a "reset" event when they are no longer buffered and it should reload.
+     * @param lastEventId the id of the last event the client received, absent for a new subscription
+     * @return the event stream
+     * @throws IllegalArgumentException if the Last-Event-ID is not a valid event id, answered with 400
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeedService.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,32 @@
+package com.chrisking.golfclub.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+/**
+ * Answers requests that could not get a database connection in time, for instance because the concurrency
+ * limiter shed them, with 503 Service Unavailable and Retry-After for every controller, so clients back off
+ * and retry instead of seeing a server error.
+ */
+@RestControllerAdvice
+public class DatabaseUnavailableHandler {
+
+    /**
+     * Sends 503 Service Unavailable asking the client to retry after a second.
+     * @param ex the failure to obtain a connection
+     * @param response the current response
+     * @throws IOException if the error cannot be sent
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public void handleUnavailable(RuntimeException ex, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Database unavailable, retry later");
+    }
+}
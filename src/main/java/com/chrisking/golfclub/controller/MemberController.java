@@ -1,12 +1,27 @@
 package com.chrisking.golfclub.controller;
 
+import com.chrisking.golfclub.dto.ExportFormat;
+import com.chrisking.golfclub.dto.ImportResult;
+import com.chrisking.golfclub.dto.KeysetPage;
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.MemberSearchCriteria;
 import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.service.MemberExportService;
+import com.chrisking.golfclub.service.MemberImportService;
 import com.chrisking.golfclub.service.MemberService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -21,9 +36,19 @@ public class MemberController {
     // Service dependency for member operations
     private final MemberService memberService;
 
-    // Constructor injection for MemberService
-    public MemberController(MemberService memberService) {
+    // Service dependency for streaming exports
+    private final MemberExportService memberExportService;
+
+    // Service dependency for bulk imports
+    private final MemberImportService memberImportService;
+
+    // Constructor injection for the member, export and import services
+    public MemberController(MemberService memberService,
+                            MemberExportService memberExportService,
+                            MemberImportService memberImportService) {
         this.memberService = memberService;
+        this.memberExportService = memberExportService;
+        this.memberImportService = memberImportService;
     }
 
     /**
@@ -33,49 +58,183 @@ public class MemberController {
      */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Member createMember(@RequestBody Member member) {
+    public MemberResponse createMember(@RequestBody Member member) {
         return memberService.createMember(member);
     }
 
     /**
-     * Retrieves all members from the system.
-     * @return list of all members
+     * Imports many members at once from a JSON array.
+     * Rows are inserted in batched chunks; duplicate emails and invalid rows are reported per row
+     * without aborting the rest of the import.
+     * @param members the members to create
+     * @return the summary and per-row results
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ImportResult importMembers(@RequestBody List<Member> members) {
+        return memberImportService.importMembers(members);
+    }
+
+    /**
+     * Imports many members at once from a CSV request body with a header row.
+     * @param body the CSV content
+     * @return the summary and per-row results
+     * @throws ResponseStatusException if the CSV content cannot be read
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportResult importMembersCsv(InputStream body) {
+        try {
+            return memberImportService.importCsv(body);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    /**
+     * Imports many members at once from an uploaded CSV file with a header row.
+     * @param file the uploaded CSV file
+     * @return the summary and per-row results
+     * @throws ResponseStatusException if the file cannot be read
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ImportResult importMembersCsvUpload(@RequestParam("file") MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return memberImportService.importCsv(in);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves members one keyset page at a time.
+     * @param size the page size (at most 500)
+     * @param sort the sort order, "id" or "name"
+     * @param cursor the "next" cursor returned with the previous page, omitted for the first page
+     * @param fields comma-separated fields to return, e.g. "id,memberName"; omitted for full members
+     * @return the page of members and the cursor of the following page
+     * @throws ResponseStatusException if the sort, cursor or a field is invalid
      */
     @GetMapping
-    public List<Member> getAllMembers() {
-        return memberService.getAllMembers();
+    public KeysetPage<?> getAllMembers(@RequestParam(defaultValue = "50") int size,
+                                       @RequestParam(defaultValue = "id") String sort,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) String fields) {
+        return fields == null
+                ? memberService.getAllMembers(size, sort, cursor)
+                : memberService.getAllMembers(size, sort, cursor, fields);
+    }
+
+    /**
+     * Streams every member as NDJSON or CSV.
+     * Rows are written as they are read from the database, so the response is never buffered in memory.
+     * @param format the output format, "ndjson" or "csv"
+     * @param request the current request, whose async timeout is raised for the export
+     * @return the streaming response body
+     * @throws ResponseStatusException if the format is not supported
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam(defaultValue = "ndjson") String format,
+                                                               WebRequest request) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        // The streaming body runs as an async request; exports get their own, longer timeout
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(memberExportService.getRequestTimeout().toMillis());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .body(out -> memberExportService.exportAllMembers(exportFormat, out));
     }
 
     /**
      * Retrieves a specific member by their ID.
+     * The ETag is the member's version; a matching If-None-Match is answered with 304 from the version alone,
+     * without loading or serializing the member.
      * @param id the member ID
-     * @return the member with the specified ID
+     * @param request the current request, for its conditional headers
+     * @return the member with the specified ID and its ETag, or null when 304 Not Modified has been sent
      * @throws ResponseStatusException if member not found
      */
     @GetMapping("/{id}")
-    public Member getMemberById(@PathVariable Long id) {
-        return memberService.getMemberById(id)
+    public ResponseEntity<MemberResponse> getMemberById(@PathVariable Long id, WebRequest request) {
+        Long version = memberService.getMemberVersion(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Member not found"));
+        if (request.checkNotModified(String.valueOf(version))) {
+            return null;
+        }
+        MemberResponse member = memberService.getMemberById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Member not found"));
+        return ResponseEntity.ok().eTag(String.valueOf(member.version())).body(member);
+    }
+
+    /**
+     * Searches members with any combination of filters in one query, one keyset page at a time.
+     * Filters that are omitted are not applied; the ones given must all match.
+     * @param name text the member name contains, ignoring case
+     * @param membershipType the membership type, ignoring case
+     * @param phoneNumber the exact phone number
+     * @param tournamentStartDate the start date of a tournament the member plays in
+     * @param membershipStartFrom earliest membership start date, inclusive
+     * @param membershipStartTo latest membership start date, inclusive
+     * @param size the page size (at most 500)
+     * @param sort the sort order, "id" or "name"
+     * @param cursor the "next" cursor returned with the previous page, omitted for the first page
+     * @param fields comma-separated fields to return, e.g. "id,memberName"; omitted for full members
+     * @return the page of matching members and the cursor of the following page
+     * @throws ResponseStatusException if the date range, sort, cursor or a field is invalid
+     */
+    @GetMapping("/search")
+    public KeysetPage<?> searchMembers(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String membershipType,
+            @RequestParam(required = false) String phoneNumber,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate tournamentStartDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate membershipStartFrom,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate membershipStartTo,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String fields) {
+
+        MemberSearchCriteria criteria = new MemberSearchCriteria(name, membershipType, phoneNumber,
+                tournamentStartDate, membershipStartFrom, membershipStartTo);
+        return fields == null
+                ? memberService.searchMembers(criteria, size, sort, cursor)
+                : memberService.searchMembers(criteria, size, sort, cursor, fields);
     }
 
     /**
-     * Searches for members by their name.
+     * Searches for members by their name, best match first.
      * @param name the member name to search for
+     * @param limit the maximum number of results (at most 500)
+     * @param fields comma-separated fields to return, e.g. "id,memberName"; omitted for full members
      * @return list of members matching the name
+     * @throws ResponseStatusException if a field is invalid
      */
     @GetMapping("/search/by-name")
-    public List<Member> searchByName(@RequestParam String name) {
-        return memberService.searchByName(name);
+    public List<?> searchByName(@RequestParam String name,
+                                @RequestParam(defaultValue = "50") int limit,
+                                @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return memberService.searchByName(name, limit);
+        }
+        return memberService.searchByName(name, limit, fields);
     }
 
     /**
      * Searches for members by their membership type.
      * @param membershipType the membership type to filter by
+     * @param fields comma-separated fields to return, e.g. "id,memberName"; omitted for full members
      * @return list of members with the specified membership type
+     * @throws ResponseStatusException if a field is invalid
      */
     @GetMapping("/search/by-membership-type")
-    public List<Member> searchByMembershipType(@RequestParam String membershipType) {
-        return memberService.searchByMembershipType(membershipType);
+    public List<?> searchByMembershipType(@RequestParam String membershipType,
+                                          @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return memberService.searchByMembershipType(membershipType);
+        }
+        return memberService.searchByMembershipType(membershipType, fields);
     }
 
     /**
@@ -85,7 +244,7 @@ public class MemberController {
      * @throws ResponseStatusException if member not found
      */
     @GetMapping("/search/by-phone")
-    public Member searchByPhoneNumber(@RequestParam String phoneNumber) {
+    public MemberResponse searchByPhoneNumber(@RequestParam String phoneNumber) {
         return memberService.searchByPhoneNumber(phoneNumber)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Member not found for phone"));
     }
@@ -93,13 +252,53 @@ public class MemberController {
     /**
      * Searches for members participating in tournaments starting on a specific date.
      * @param startDate the tournament start date to filter by
+     * @param fields comma-separated fields to return, e.g. "id,memberName"; omitted for full members
      * @return list of members with tournaments starting on the specified date
+     * @throws ResponseStatusException if a field is invalid
      */
     @GetMapping("/search/by-tournament-start-date")
-    public List<Member> searchByTournamentStartDate(
+    public List<?> searchByTournamentStartDate(
             @RequestParam("startDate")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate) {
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) String fields) {
 
-        return memberService.searchByTournamentStartDate(startDate);
+        if (fields == null) {
+            return memberService.searchByTournamentStartDate(startDate);
+        }
+        return memberService.searchByTournamentStartDate(startDate, fields);
+    }
+
+    /**
+     * Searches for members playing in a tournament that runs on at least one day of a date range.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of results (at most 500)
+     * @return the members playing during the range, ordered by id
+     * @throws ResponseStatusException if the range ends before it starts
+     */
+    @GetMapping("/search/by-tournament-date-range")
+    public List<MemberResponse> searchByTournamentDateRange(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit) {
+        return memberService.searchByTournamentDateRange(from, to, limit);
+    }
+
+    /**
+     * Lists the members whose membership expires within a date range, one keyset page at a time, soonest first.
+     * @param from the first expiry date to include
+     * @param to the last expiry date to include
+     * @param size the page size (at most 500)
+     * @param cursor the "next" cursor of the previous page, absent for the first page
+     * @return the page of expiring members and the cursor of the following page
+     * @throws ResponseStatusException if the range ends before it starts or the cursor is invalid
+     */
+    @GetMapping("/expiring")
+    public KeysetPage<MemberResponse> getExpiringMembers(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String cursor) {
+        return memberService.getExpiringMembers(from, to, size, cursor);
     }
 }
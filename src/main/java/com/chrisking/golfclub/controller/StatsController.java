@@ -0,0 +1,54 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.dto.ClubStats;
+import com.chrisking.golfclub.dto.TournamentStats;
+import com.chrisking.golfclub.exception.TournamentNotFoundException;
+import com.chrisking.golfclub.service.StatsService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller for the club statistics used by the finance and operations dashboards.
+ * Figures come from aggregates kept in memory, so reading them does not touch the database.
+ */
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    // Service dependency for the statistics
+    private final StatsService statsService;
+
+    // Constructor injection for the statistics service
+    public StatsController(StatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    /**
+     * Retrieves the club-wide totals: members per membership type, registered players, entry fee revenue
+     * and prize money.
+     * @return the club statistics
+     */
+    @GetMapping
+    public ClubStats getClubStats() {
+        return statsService.getClubStats();
+    }
+
+    /**
+     * Retrieves one tournament's registered players, entry fee revenue and prize money.
+     * @param tournamentId the ID of the tournament
+     * @return the tournament's figures
+     * @throws ResponseStatusException if the tournament is not found
+     */
+    @GetMapping("/tournaments/{tournamentId}")
+    public TournamentStats getTournamentStats(@PathVariable Long tournamentId) {
+        try {
+            return statsService.getTournamentStats(tournamentId);
+        } catch (TournamentNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+}
@@ -1,13 +1,39 @@
 package com.chrisking.golfclub.controller;
 
-import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.dto.EnrollmentResult;
+import com.chrisking.golfclub.dto.ExportFormat;
+import com.chrisking.golfclub.dto.KeysetPage;
+import com.chrisking.golfclub.dto.Leaderboard;
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.RegistrationTicket;
+import com.chrisking.golfclub.dto.RosterCount;
+import com.chrisking.golfclub.dto.RosterVersion;
+import com.chrisking.golfclub.dto.ScoreIngestResult;
+import com.chrisking.golfclub.dto.ScoreSubmission;
+import com.chrisking.golfclub.dto.TournamentResponse;
+import com.chrisking.golfclub.exception.MemberNotFoundException;
+import com.chrisking.golfclub.exception.RegistrationQueueFullException;
+import com.chrisking.golfclub.exception.ScoringUnavailableException;
+import com.chrisking.golfclub.exception.TournamentFullException;
+import com.chrisking.golfclub.exception.TournamentNotFoundException;
 import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.service.MemberExportService;
+import com.chrisking.golfclub.service.RegistrationPipeline;
+import com.chrisking.golfclub.service.ScoringService;
 import com.chrisking.golfclub.service.TournamentService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -19,18 +45,35 @@ import java.util.List;
 @RequestMapping("/api/tournaments")
 public class TournamentController {
 
+    // Upper bound for how long a registration poll waits for its outcome
+    private static final long MAX_REGISTRATION_WAIT_MILLIS = 30_000;
+
     // Service dependency for tournament operations
     private final TournamentService tournamentService;
 
-    // Constructor injection for TournamentService
-    public TournamentController(TournamentService tournamentService) {
+    // Service dependency for streaming roster exports
+    private final MemberExportService memberExportService;
+
+    // Service dependency for live scores and leaderboards
+    private final ScoringService scoringService;
+
+    // Service dependency for asynchronous registrations
+    private final RegistrationPipeline registrationPipeline;
+
+    // Constructor injection for TournamentService, MemberExportService, ScoringService and RegistrationPipeline
+    public TournamentController(TournamentService tournamentService, MemberExportService memberExportService,
+                                ScoringService scoringService, RegistrationPipeline registrationPipeline) {
         this.tournamentService = tournamentService;
+        this.memberExportService = memberExportService;
+        this.scoringService = scoringService;
+        this.registrationPipeline = registrationPipeline;
     }
 
     /**
      * Creates a new tournament in the system.
      * @param tournament the tournament to create
      * @return the created tournament with assigned ID
+     * @throws ResponseStatusException if maxPlayers is negative
      */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -39,25 +82,45 @@ public class TournamentController {
     }
 
     /**
-     * Retrieves all tournaments from the system.
-     * @return list of all tournaments
+     * Retrieves tournaments one keyset page at a time.
+     * @param size the page size (at most 500)
+     * @param sort the sort order, "id" or "location"
+     * @param cursor the "next" cursor returned with the previous page, omitted for the first page
+     * @param fields comma-separated fields to return, e.g. "id,location"; omitted for full tournaments
+     * @return the page of tournaments and the cursor of the following page
+     * @throws ResponseStatusException if the sort, cursor or a field is invalid
      */
     @GetMapping
-    public List<Tournament> getAllTournaments() {
-        return tournamentService.getAllTournaments();
+    public KeysetPage<?> getAllTournaments(@RequestParam(defaultValue = "50") int size,
+                                           @RequestParam(defaultValue = "id") String sort,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) String fields) {
+        return fields == null
+                ? tournamentService.getAllTournaments(size, sort, cursor)
+                : tournamentService.getAllTournaments(size, sort, cursor, fields);
     }
 
     /**
      * Retrieves a specific tournament by its ID.
+     * The ETag is the tournament's version; a matching If-None-Match is answered with 304 from the version
+     * alone, without loading or serializing the tournament.
      * @param id the tournament ID
-     * @return the tournament with the specified ID
+     * @param request the current request, for its conditional headers
+     * @return the tournament with the specified ID and its ETag, or null when 304 Not Modified has been sent
      * @throws ResponseStatusException if tournament not found
      */
     @GetMapping("/{id}")
-    public Tournament getTournamentById(@PathVariable Long id) {
+    public ResponseEntity<TournamentResponse> getTournamentById(@PathVariable Long id, WebRequest request) {
+        Long version = tournamentService.getTournamentVersion(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Tournament not found with id: " + id));
+        if (request.checkNotModified(String.valueOf(version))) {
+            return null;
+        }
         try {
-            return tournamentService.getTournamentById(id);
-        } catch (RuntimeException ex) {
+            TournamentResponse tournament = tournamentService.getTournamentById(id);
+            return ResponseEntity.ok().eTag(String.valueOf(tournament.version())).body(tournament);
+        } catch (TournamentNotFoundException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
@@ -65,50 +128,275 @@ public class TournamentController {
     /**
      * Searches for tournaments by their start date.
      * @param startDate the start date to filter by
+     * @param fields comma-separated fields to return, e.g. "id,location"; omitted for full tournaments
      * @return list of tournaments starting on the specified date
+     * @throws ResponseStatusException if a field is invalid
      */
     @GetMapping("/search/by-start-date")
-    public List<Tournament> searchByStartDate(
+    public List<?> searchByStartDate(
             @RequestParam("startDate")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate) {
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) String fields) {
+
+        if (fields == null) {
+            return tournamentService.searchByStartDate(startDate);
+        }
+        return tournamentService.searchByStartDate(startDate, fields);
+    }
+
+    /**
+     * Searches for tournaments running on at least one day of a date range.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of results (at most 500)
+     * @return the overlapping tournaments, ordered by start date
+     * @throws ResponseStatusException if the range ends before it starts
+     */
+    @GetMapping("/search/by-date-range")
+    public List<Tournament> searchByDateRange(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit) {
+        return tournamentService.searchByDateRange(from, to, limit);
+    }
 
-        return tournamentService.searchByStartDate(startDate);
+    /**
+     * Searches for tournaments in progress on a given day.
+     * @param date the day
+     * @param limit the maximum number of results (at most 500)
+     * @return the tournaments running on that day, ordered by start date
+     */
+    @GetMapping("/search/active-on")
+    public List<Tournament> searchActiveOn(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "50") int limit) {
+        return tournamentService.searchActiveOn(date, limit);
     }
 
     /**
-     * Searches for tournaments by their location.
+     * Searches for tournaments by their location, best match first.
      * @param location the location to filter by
+     * @param limit the maximum number of results (at most 500)
+     * @param fields comma-separated fields to return, e.g. "id,location"; omitted for full tournaments
      * @return list of tournaments at the specified location
+     * @throws ResponseStatusException if a field is invalid
      */
     @GetMapping("/search/by-location")
-    public List<Tournament> searchByLocation(@RequestParam String location) {
-        return tournamentService.searchByLocation(location);
+    public List<?> searchByLocation(@RequestParam String location,
+                                    @RequestParam(defaultValue = "50") int limit,
+                                    @RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return tournamentService.searchByLocation(location, limit);
+        }
+        return tournamentService.searchByLocation(location, limit, fields);
     }
 
     /**
      * Adds a member to a tournament.
      * @param tournamentId the ID of the tournament
      * @param memberId the ID of the member to add
-     * @return the updated tournament
-     * @throws ResponseStatusException if tournament or member not found
+     * @return the tournament
+     * @throws ResponseStatusException if the tournament is full (409), or tournament or member not found
      */
     @PostMapping("/{tournamentId}/members/{memberId}")
     public Tournament addMemberToTournament(@PathVariable Long tournamentId,
                                             @PathVariable Long memberId) {
         try {
             return tournamentService.addMemberToTournament(tournamentId, memberId);
-        } catch (RuntimeException ex) {
+        } catch (TournamentFullException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+        } catch (TournamentNotFoundException | MemberNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    /**
+     * Queues a member's registration for a tournament instead of committing it within the request.
+     * Queued registrations are committed in batches; poll the returned ticket, found at the Location header,
+     * for the outcome.
+     * @param tournamentId the ID of the tournament
+     * @param memberId the ID of the member to add
+     * @return the pending ticket, or 429 Too Many Requests with Retry-After when the queue is full
+     */
+    @PostMapping("/{tournamentId}/members/{memberId}/registrations")
+    public ResponseEntity<RegistrationTicket> registerMember(@PathVariable Long tournamentId,
+                                                             @PathVariable Long memberId) {
+        try {
+            RegistrationTicket ticket = registrationPipeline.submit(tournamentId, memberId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/tournaments/registrations/" + ticket.ticketId()))
+                    .body(ticket);
+        } catch (RegistrationQueueFullException ex) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+    }
+
+    /**
+     * Retrieves a queued registration's ticket, optionally waiting for it to complete.
+     * @param ticketId the ticket's identifier
+     * @param waitMillis how long to wait for the outcome (at most 30000); 0 returns the current state at once
+     * @return the ticket, still PENDING if it did not complete in time
+     * @throws ResponseStatusException if the ticket is unknown or has expired
+     * @throws InterruptedException if the request thread is interrupted while waiting
+     */
+    @GetMapping("/registrations/{ticketId}")
+    public RegistrationTicket getRegistration(@PathVariable String ticketId,
+                                              @RequestParam(defaultValue = "0") long waitMillis)
+            throws InterruptedException {
+        long wait = Math.max(0, Math.min(waitMillis, MAX_REGISTRATION_WAIT_MILLIS));
+        return (wait == 0 ? registrationPipeline.getTicket(ticketId)
+                : registrationPipeline.awaitTicket(ticketId, Duration.ofMillis(wait)))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Registration not found with id: " + ticketId));
+    }
+
+    /**
+     * Adds a batch of members to a tournament.
+     * @param tournamentId the ID of the tournament
+     * @param memberIds the IDs of the members to add (at most 1000)
+     * @return which ids were added, which were already enrolled and which do not exist
+     * @throws ResponseStatusException if too many ids are given, the members do not all fit (409)
+     *         or the tournament is not found
+     */
+    @PostMapping("/{tournamentId}/members")
+    public EnrollmentResult enrollMembers(@PathVariable Long tournamentId,
+                                          @RequestBody List<Long> memberIds) {
+        try {
+            return tournamentService.enrollMembers(tournamentId, memberIds);
+        } catch (TournamentFullException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+        } catch (TournamentNotFoundException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
         }
     }
 
     /**
      * Retrieves all members participating in a specific tournament.
+     * The ETag combines the roster version with the versions of the members on it, read with one aggregate
+     * query; a matching If-None-Match is answered with 304 without loading or serializing the roster.
      * @param tournamentId the ID of the tournament
-     * @return list of members in the tournament
+     * @param request the current request, for its conditional headers
+     * @return list of members in the tournament and its ETag, or null when 304 Not Modified has been sent
+     * @throws ResponseStatusException if tournament not found
      */
     @GetMapping("/{tournamentId}/members")
-    public List<Member> getMembersInTournament(@PathVariable Long tournamentId) {
-        return tournamentService.getMembersInTournament(tournamentId);
+    public ResponseEntity<List<MemberResponse>> getMembersInTournament(@PathVariable Long tournamentId,
+                                                                       WebRequest request) {
+        RosterVersion version = tournamentService.getRosterVersion(tournamentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Tournament not found with id: " + tournamentId));
+        if (request.checkNotModified(version.eTag())) {
+            return null;
+        }
+        try {
+            // Read after the version: if the roster changes in between, the body is newer than its ETag,
+            // which only costs the client one more full response
+            return ResponseEntity.ok().eTag(version.eTag())
+                    .body(tournamentService.getMembersInTournament(tournamentId));
+        } catch (TournamentNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    /**
+     * Streams the members participating in a tournament as NDJSON or CSV.
+     * Rows are written as they are read from the database, so the response is never buffered in memory.
+     * @param tournamentId the ID of the tournament
+     * @param format the output format, "ndjson" or "csv"
+     * @param request the current request, whose async timeout is raised for the export
+     * @return the streaming response body
+     * @throws ResponseStatusException if the format is not supported or the tournament is not found
+     */
+    @GetMapping("/{tournamentId}/members/export")
+    public ResponseEntity<StreamingResponseBody> exportMembersInTournament(@PathVariable Long tournamentId,
+                                                                           @RequestParam(defaultValue = "ndjson") String format,
+                                                                           WebRequest request) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        if (!memberExportService.tournamentExists(tournamentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Tournament not found with id: " + tournamentId);
+        }
+        // The streaming body runs as an async request; exports get their own, longer timeout
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(memberExportService.getRequestTimeout().toMillis());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .body(out -> memberExportService.exportTournamentMembers(tournamentId, exportFormat, out));
+    }
+
+    /**
+     * Lists the members resulting from a set operation over tournament rosters, one keyset page at a time,
+     * e.g. the members who played in both of two tournaments, or in the first but not the second.
+     * @param operation "intersection", "union" or "difference" (the first roster minus all the others)
+     * @param ids the comma-separated tournament IDs (at most 100)
+     * @param size the page size (at most 500)
+     * @param cursor the "next" cursor of the previous page, absent for the first page
+     * @return the page of members ordered by id and the cursor of the following page
+     * @throws ResponseStatusException if the operation, ids or cursor are invalid, or a tournament is not found
+     */
+    @GetMapping("/rosters/{operation}")
+    public KeysetPage<MemberResponse> searchRosterMembers(@PathVariable String operation,
+                                                          @RequestParam List<Long> ids,
+                                                          @RequestParam(defaultValue = "50") int size,
+                                                          @RequestParam(required = false) String cursor) {
+        try {
+            return tournamentService.searchRosterMembers(operation, ids, size, cursor);
+        } catch (TournamentNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    /**
+     * Counts the members resulting from a set operation over tournament rosters, without listing them.
+     * @param operation "intersection", "union" or "difference" (the first roster minus all the others)
+     * @param ids the comma-separated tournament IDs (at most 100)
+     * @return the operation, the tournament IDs and the member count
+     * @throws ResponseStatusException if the operation or ids are invalid, or a tournament is not found
+     */
+    @GetMapping("/rosters/{operation}/count")
+    public RosterCount countRosterMembers(@PathVariable String operation, @RequestParam List<Long> ids) {
+        try {
+            return new RosterCount(operation.toLowerCase(), ids, tournamentService.countRosterMembers(operation, ids));
+        } catch (TournamentNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    /**
+     * Accepts a batch of hole scores from a course tablet.
+     * The scores are applied to the live leaderboard at once and written to the database in the background.
+     * @param tournamentId the ID of the tournament
+     * @param scores the hole scores (at most 1000)
+     * @return the number of scores accepted and the resulting leaderboard version
+     * @throws ResponseStatusException if a score is invalid or its member not enrolled (400), the tournament is
+     *         not found (404), or scoring cannot take the batch right now (503)
+     */
+    @PostMapping("/{tournamentId}/scores")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ScoreIngestResult submitScores(@PathVariable Long tournamentId,
+                                          @RequestBody List<ScoreSubmission> scores) {
+        try {
+            return scoringService.submitScores(tournamentId, scores);
+        } catch (ScoringUnavailableException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        } catch (TournamentNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the top of a tournament's live leaderboard, served from memory.
+     * @param tournamentId the ID of the tournament
+     * @param limit the maximum number of players (at most 500)
+     * @return the leading players, best first, with the leaderboard version
+     * @throws ResponseStatusException if tournament not found
+     */
+    @GetMapping("/{tournamentId}/leaderboard")
+    public Leaderboard getLeaderboard(@PathVariable Long tournamentId,
+                                      @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return scoringService.getLeaderboard(tournamentId, limit);
+        } catch (TournamentNotFoundException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage());
+        }
     }
 }
@@ -0,0 +1,158 @@
+package com.chrisking.golfclub.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections that can be checked out at once. Each connection holds a permit
+ * from a fair semaphore until it is closed; callers beyond the limit park in FIFO order and give up
+ * after the acquire timeout. With virtual threads there is no request thread pool bounding how many
+ * callers reach the database, so this is where excess requests wait instead of the connection pool.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    // Permits, one per connection in use
+    private final Semaphore permits;
+
+    private final int maxConcurrency;
+
+    private final Duration acquireTimeout;
+
+    // Set once registerMetrics has been called
+    private volatile Counter rejected;
+
+    /**
+     * @param targetDataSource the pooled data source that hands out the connections
+     * @param maxConcurrency connections that may be in use at once; normally the pool size
+     * @param acquireTimeout how long a caller waits for a permit before giving up
+     */
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, was " + maxConcurrency);
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return connections currently checked out through this data source
+     */
+    public int getActiveConnections() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * @return callers currently waiting for a permit
+     */
+    public int getWaitingCallers() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Registers the golfclub.db.limiter.* gauges and the rejection counter.
+     * @param registry the registry to publish to
+     */
+    public void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("golfclub.db.limiter.active", this, ConcurrencyLimitingDataSource::getActiveConnections)
+                .description("Connections in use under the database concurrency limit")
+                .register(registry);
+        Gauge.builder("golfclub.db.limiter.waiting", this, ConcurrencyLimitingDataSource::getWaitingCallers)
+                .description("Callers waiting for a database concurrency permit")
+                .register(registry);
+        Gauge.builder("golfclub.db.limiter.max", this, limiter -> limiter.maxConcurrency)
+                .description("Database concurrency limit")
+                .register(registry);
+        rejected = Counter.builder("golfclub.db.limiter.rejected")
+                .description("Callers that timed out waiting for a database concurrency permit")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                Counter counter = rejected;
+                if (counter != null) {
+                    counter.increment();
+                }
+                throw new SQLTransientConnectionException("Database concurrency limit of " + maxConcurrency
+                        + " reached; no connection became free within " + acquireTimeout.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    // Wraps the connection so that closing it (once) gives the permit back
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> invoke(proxy, connection, released, method, args);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+    }
+
+    private Object invoke(Object proxy, Connection connection, AtomicBoolean released, Method method, Object[] args)
+            throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                try {
+                    connection.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+        }
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.chrisking.golfclub.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The target is chosen when a connection is first used, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks for
+ * a connection before it publishes the transaction's read-only flag, and the proxy defers the real checkout
+ * until the first statement. Within a request, once a read-write transaction has run, later read-only
+ * transactions of the same request also go to the primary, so the request reads its own writes even while
+ * the replica lags behind.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Where a connection is taken from.
+     */
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    // Set for the duration of a web request; true once the request has run a read-write transaction
+    private static final ThreadLocal<boolean[]> REQUEST_WROTE = new ThreadLocal<>();
+
+    /**
+     * @param primary the data source taking writes and read-your-writes reads
+     * @param replica the data source serving read-only transactions
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Starts tracking the writes of the web request handled by the current thread.
+     */
+    public static void beginRequest() {
+        REQUEST_WROTE.set(new boolean[1]);
+    }
+
+    /**
+     * Stops tracking the writes of the current thread's request.
+     */
+    public static void endRequest() {
+        REQUEST_WROTE.remove();
+    }
+
+    /**
+     * @return the target the current thread's next connection will be taken from
+     */
+    public static Target currentTarget() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        boolean[] wrote = REQUEST_WROTE.get();
+        if (!readOnly) {
+            if (wrote != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                wrote[0] = true;
+            }
+            return Target.PRIMARY;
+        }
+        return wrote != null && wrote[0] ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentTarget();
+    }
+}
@@ -0,0 +1,10 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * A committed change, as kept by the change feed for subscribers resuming from an earlier event.
+ * @param id the event id; ids increase in publication order
+ * @param type the kind of change
+ * @param data the changed member, tournament or roster, sent as the event's JSON data
+ */
+public record ChangeEvent(long id, ChangeType type, Object data) {
+}
@@ -0,0 +1,27 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Kinds of change published on the change feed.
+ */
+public enum ChangeType {
+
+    // A member was created; the data is the member
+    MEMBER_CREATED("member.created"),
+
+    // A tournament was created; the data is the tournament
+    TOURNAMENT_CREATED("tournament.created"),
+
+    // Members were added to a tournament's roster; the data lists them
+    ROSTER_ENROLLED("roster.enrolled");
+
+    // Name of the server-sent event
+    private final String eventName;
+
+    ChangeType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
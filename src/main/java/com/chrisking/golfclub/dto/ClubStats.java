@@ -0,0 +1,26 @@
+package com.chrisking.golfclub.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Club-wide membership and tournament finance totals.
+ * @param members the number of members
+ * @param membersByType the number of members per membership type (lower-cased; "unspecified" when absent)
+ * @param tournaments the number of tournaments
+ * @param registeredPlayers the number of roster places taken across all tournaments
+ * @param entryFeeRevenue the entry fee revenue across all tournaments
+ * @param cashPrizes the prize money across all tournaments
+ * @param margin the entry fee revenue minus the prize money
+ * @param reconciledAt when the totals were last checked against the database, null before the first check
+ */
+public record ClubStats(long members,
+                        Map<String, Long> membersByType,
+                        long tournaments,
+                        long registeredPlayers,
+                        BigDecimal entryFeeRevenue,
+                        BigDecimal cashPrizes,
+                        BigDecimal margin,
+                        LocalDateTime reconciledAt) {
+}
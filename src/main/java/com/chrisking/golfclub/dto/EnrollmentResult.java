@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of enrolling a batch of members in a tournament.
+ * @param added the member ids that were added to the roster
+ * @param alreadyEnrolled the member ids that were already on the roster
+ * @param missing the member ids that do not belong to any member
+ */
+public record EnrollmentResult(List<Long> added,
+                               List<Long> alreadyEnrolled,
+                               List<Long> missing) {
+}
@@ -0,0 +1,47 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Output formats supported by the streaming member exports.
+ */
+public enum ExportFormat {
+
+    // One JSON object per line
+    NDJSON("ndjson", "application/x-ndjson"),
+
+    // Comma-separated values with a header row
+    CSV("csv", "text/csv");
+
+    // Value accepted in the "format" request parameter
+    private final String param;
+
+    // Content type of the response body
+    private final String mediaType;
+
+    ExportFormat(String param, String mediaType) {
+        this.param = param;
+        this.mediaType = mediaType;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves a "format" request parameter.
+     * @param param the parameter value
+     * @return the matching format
+     * @throws IllegalArgumentException if the value is not a supported format
+     */
+    public static ExportFormat fromParam(String param) {
+        for (ExportFormat format : values()) {
+            if (format.param.equalsIgnoreCase(param)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format '" + param + "', expected ndjson or csv");
+    }
+}
@@ -0,0 +1,76 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields a client asked for with the "fields" request parameter, in request order.
+ * The id is always included, first, so rows can be told apart and paged.
+ * @param names the requested field names
+ */
+public record FieldSet(List<String> names) {
+
+    // Field that every projection returns
+    public static final String ID = "id";
+
+    /**
+     * Parses a comma-separated "fields" request parameter.
+     * @param param the parameter value, e.g. "id,memberName"
+     * @param allowed the fields the endpoint can return
+     * @return the requested fields, with the id first
+     * @throws IllegalArgumentException if a field is not one of the allowed ones
+     */
+    public static FieldSet parse(String param, List<String> allowed) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add(ID);
+        for (String field : param.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "', expected any of " + allowed);
+            }
+            names.add(name);
+        }
+        return new FieldSet(List.copyOf(names));
+    }
+
+    /**
+     * @param name a field name
+     * @return true if the field was requested
+     */
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * The requested fields plus any others a query needs, such as a sort key, without the given ones.
+     * @param needed fields the query needs whether or not they were requested
+     * @param excluded requested fields that are not columns and are filled in separately
+     * @return the attributes to select
+     */
+    public List<String> selecting(List<String> needed, List<String> excluded) {
+        Set<String> attributes = new LinkedHashSet<>(names);
+        attributes.addAll(needed);
+        attributes.removeAll(excluded);
+        return new ArrayList<>(attributes);
+    }
+
+    /**
+     * Keeps only the requested fields of a row, in request order.
+     * @param row a row that may hold additional fields
+     * @return the row as returned to the client
+     */
+    public Map<String, Object> retain(Map<String, Object> row) {
+        Map<String, Object> retained = new LinkedHashMap<>();
+        for (String name : names) {
+            retained.put(name, row.get(name));
+        }
+        return retained;
+    }
+}
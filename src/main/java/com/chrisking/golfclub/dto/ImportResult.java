@@ -0,0 +1,37 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.List;
+
+/**
+ * Summary and per-row results of a bulk member import.
+ * @param total the number of rows received
+ * @param created the number of members inserted
+ * @param duplicates the number of rows rejected for a duplicate email
+ * @param invalid the number of rows rejected as invalid
+ * @param rows the result of every row, in import order
+ */
+public record ImportResult(int total,
+                           int created,
+                           int duplicates,
+                           int invalid,
+                           List<ImportRowResult> rows) {
+
+    /**
+     * Builds the summary counts from the per-row results.
+     * @param rows the result of every row
+     * @return the import result
+     */
+    public static ImportResult of(List<ImportRowResult> rows) {
+        int created = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        for (ImportRowResult row : rows) {
+            switch (row.status()) {
+                case CREATED -> created++;
+                case DUPLICATE_EMAIL -> duplicates++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new ImportResult(rows.size(), created, duplicates, invalid, List.copyOf(rows));
+    }
+}
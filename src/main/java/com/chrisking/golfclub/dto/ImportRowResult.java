@@ -0,0 +1,16 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Result of one row of a bulk member import.
+ * @param row the 1-based position of the row in the import (excluding any CSV header)
+ * @param status the outcome of the row
+ * @param id the id of the created member, or null if the row was not imported
+ * @param email the email of the row, if present
+ * @param message the reason the row was rejected, or null if it was created
+ */
+public record ImportRowResult(int row,
+                              ImportRowStatus status,
+                              Long id,
+                              String email,
+                              String message) {
+}
@@ -0,0 +1,16 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Outcome of importing a single row of a bulk member import.
+ */
+public enum ImportRowStatus {
+
+    // The member was inserted
+    CREATED,
+
+    // The email already belongs to a member, or appears earlier in the same import
+    DUPLICATE_EMAIL,
+
+    // The row is missing required values or could not be parsed
+    INVALID
+}
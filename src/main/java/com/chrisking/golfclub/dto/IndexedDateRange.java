@@ -0,0 +1,9 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * An entity id with the date range that is indexed for it, read when building the in-memory interval index.
+ */
+public record IndexedDateRange(Long id, LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,7 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * An entity id with the text that is indexed for it, read when building in-memory search indexes.
+ */
+public record IndexedText(Long id, String text) {
+}
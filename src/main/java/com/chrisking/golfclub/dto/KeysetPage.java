@@ -0,0 +1,38 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * The "next" cursor is null on the last page.
+ * @param items the rows of this page, in sort order
+ * @param next the opaque cursor for the following page, or null if there is none
+ */
+public record KeysetPage<T>(List<T> items, String next) {
+
+    /**
+     * Builds a page from a query that fetched one row more than the page size.
+     * The extra row is only used to detect whether another page exists and is not returned.
+     * @param rows the fetched rows, at most size + 1
+     * @param size the requested page size
+     * @param cursorOf builds the cursor pointing past a given row
+     * @return the page
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    /**
+     * Converts the items of this page, keeping the same cursor.
+     * @param mapper the conversion to apply to each item
+     * @return a page of converted items
+     */
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), next);
+    }
+}
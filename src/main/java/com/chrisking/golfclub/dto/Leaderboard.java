@@ -0,0 +1,16 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.List;
+
+/**
+ * The top of a tournament's live leaderboard.
+ * @param tournamentId the tournament
+ * @param version the number of scores applied so far; unchanged between two reads means nothing moved
+ * @param players the number of players with at least one score
+ * @param entries the leading players, best first
+ */
+public record Leaderboard(Long tournamentId,
+                          long version,
+                          int players,
+                          List<LeaderboardEntry> entries) {
+}
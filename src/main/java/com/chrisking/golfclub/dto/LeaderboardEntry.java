@@ -0,0 +1,16 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * One player's line on a tournament leaderboard.
+ * @param position the position, shared by players with the same score relative to par
+ * @param memberId the member
+ * @param toPar the strokes relative to par over the holes played
+ * @param strokes the total strokes over the holes played
+ * @param thru the number of holes played
+ */
+public record LeaderboardEntry(int position,
+                               Long memberId,
+                               int toPar,
+                               int strokes,
+                               int thru) {
+}
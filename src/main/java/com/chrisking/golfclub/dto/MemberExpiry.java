@@ -0,0 +1,9 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A member id with its membership expiry date, read in chunks by the renewal job.
+ */
+public record MemberExpiry(Long id, LocalDate expiryDate) {
+}
@@ -0,0 +1,45 @@
+package com.chrisking.golfclub.dto;
+
+import com.chrisking.golfclub.model.Member;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read model returned by the member endpoints.
+ * Built inside the service transaction, so serializing it never triggers lazy loading.
+ * The member's version is kept for the ETag header and not serialized.
+ */
+public record MemberResponse(Long id,
+                             String memberName,
+                             String address,
+                             String email,
+                             String phoneNumber,
+                             LocalDate membershipStartDate,
+                             Integer membershipDurationMonths,
+                             LocalDate membershipExpiryDate,
+                             String membershipType,
+                             List<TournamentSummary> tournaments,
+                             @JsonIgnore Long version) {
+
+    /**
+     * Combines a member's columns with its already loaded tournament summaries.
+     * @param member the member entity
+     * @param tournaments the summaries of the tournaments the member participates in
+     * @return the member response
+     */
+    public static MemberResponse of(Member member, List<TournamentSummary> tournaments) {
+        return new MemberResponse(member.getId(),
+                member.getMemberName(),
+                member.getAddress(),
+                member.getEmail(),
+                member.getPhoneNumber(),
+                member.getMembershipStartDate(),
+                member.getMembershipDurationMonths(),
+                member.getMembershipExpiryDate(),
+                member.getMembershipType(),
+                List.copyOf(tournaments),
+                member.getVersion());
+    }
+}
@@ -0,0 +1,35 @@
+package com.chrisking.golfclub.dto;
+
+import com.chrisking.golfclub.model.Member;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, association-free view of a member used for exports.
+ * Holds only the member's own columns so writing a row never touches the tournaments collection.
+ */
+public record MemberRow(Long id,
+                        String memberName,
+                        String address,
+                        String email,
+                        String phoneNumber,
+                        LocalDate membershipStartDate,
+                        Integer membershipDurationMonths,
+                        String membershipType) {
+
+    /**
+     * Copies the columns of a member entity.
+     * @param member the member to copy
+     * @return the flat row
+     */
+    public static MemberRow of(Member member) {
+        return new MemberRow(member.getId(),
+                member.getMemberName(),
+                member.getAddress(),
+                member.getEmail(),
+                member.getPhoneNumber(),
+                member.getMembershipStartDate(),
+                member.getMembershipDurationMonths(),
+                member.getMembershipType());
+    }
+}
@@ -0,0 +1,31 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Filters of the combined member search. Every filter is optional; the ones given must all match.
+ * @param name text the member name contains, ignoring case
+ * @param membershipType the membership type, ignoring case
+ * @param phoneNumber the exact phone number
+ * @param tournamentStartDate the start date of a tournament the member plays in
+ * @param membershipStartFrom earliest membership start date, inclusive
+ * @param membershipStartTo latest membership start date, inclusive
+ */
+public record MemberSearchCriteria(String name,
+                                   String membershipType,
+                                   String phoneNumber,
+                                   LocalDate tournamentStartDate,
+                                   LocalDate membershipStartFrom,
+                                   LocalDate membershipStartTo) {
+
+    /**
+     * Checks the filters for combinations that can never match.
+     * @throws IllegalArgumentException if the membership start range is empty
+     */
+    public void validate() {
+        if (membershipStartFrom != null && membershipStartTo != null
+                && membershipStartFrom.isAfter(membershipStartTo)) {
+            throw new IllegalArgumentException("membershipStartFrom must not be after membershipStartTo");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Sort orders supported by the keyset-paginated member listing.
+ * Every order ends with the member id so the seek predicate is unique.
+ */
+public enum MemberSort {
+
+    // Ascending by member id
+    ID("id"),
+
+    // Ascending by member name, then id
+    NAME("name");
+
+    // Value accepted in the "sort" request parameter
+    private final String param;
+
+    MemberSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Resolves a "sort" request parameter.
+     * @param param the parameter value
+     * @return the matching sort
+     * @throws IllegalArgumentException if the value is not a supported sort
+     */
+    public static MemberSort fromParam(String param) {
+        for (MemberSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(param)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort '" + param + "', expected id or name");
+    }
+}
@@ -0,0 +1,22 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One (member, tournament) pair read by the batched tournament-summary query.
+ * Rows are grouped by member id to build the tournaments list of each member response.
+ */
+public record MemberTournamentRow(Long memberId,
+                                  Long tournamentId,
+                                  LocalDate startDate,
+                                  LocalDate endDate,
+                                  String location) {
+
+    /**
+     * Drops the member id, keeping the tournament part of the row.
+     * @return the tournament summary
+     */
+    public TournamentSummary toSummary() {
+        return new TournamentSummary(tournamentId, startDate, endDate, location);
+    }
+}
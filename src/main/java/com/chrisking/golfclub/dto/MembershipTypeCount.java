@@ -0,0 +1,7 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Number of members with one membership type, read when reconciling the club statistics.
+ */
+public record MembershipTypeCount(String membershipType, long members) {
+}
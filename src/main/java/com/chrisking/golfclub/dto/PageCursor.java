@@ -0,0 +1,58 @@
+package com.chrisking.golfclub.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor pointing just past the last row of a page.
+ * Carries the sort it was issued for, the sort key of the last row and that row's id,
+ * so the next page can be read with a seek predicate instead of an OFFSET.
+ */
+public record PageCursor(String sort, String key, long id) {
+
+    // Separator between the encoded parts; the sort key goes last so it may contain anything
+    private static final String SEPARATOR = "\n";
+
+    // Prefixes telling a present sort key apart from a null one
+    private static final char KEY_PRESENT = 'v';
+    private static final char KEY_NULL = '-';
+
+    /**
+     * Encodes this cursor into a URL-safe token for the "next" field of a page.
+     * @return the opaque cursor token
+     */
+    public String encode() {
+        String encodedKey = key == null ? String.valueOf(KEY_NULL) : KEY_PRESENT + key;
+        String raw = sort + SEPARATOR + id + SEPARATOR + encodedKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token previously produced by {@link #encode()}.
+     * @param token the opaque cursor token
+     * @param expectedSort the sort of the current request; a cursor issued for another sort is rejected
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed or was issued for a different sort
+     */
+    public static PageCursor decode(String token, String expectedSort) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split(SEPARATOR, 3);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!parts[0].equals(expectedSort)) {
+            throw new IllegalArgumentException("Cursor does not match sort '" + expectedSort + "'");
+        }
+        String key = parts[2].charAt(0) == KEY_PRESENT ? parts[2].substring(1) : null;
+        try {
+            return new PageCursor(parts[0], key, Long.parseLong(parts[1]));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * The leaderboard-relevant columns of a persisted score event, read when the leaderboards are rebuilt.
+ */
+public record RecordedScore(Long tournamentId, Long memberId, short hole, short strokes, short par) {
+}
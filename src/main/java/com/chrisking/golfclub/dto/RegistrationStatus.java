@@ -0,0 +1,33 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * State of a queued tournament registration.
+ */
+public enum RegistrationStatus {
+
+    // Accepted and waiting for the registration writer
+    PENDING,
+
+    // The member was added to the roster
+    ENROLLED,
+
+    // The member was already on the roster, or asked twice in the same batch
+    ALREADY_ENROLLED,
+
+    // The tournament had no seat left when the request's batch was committed
+    TOURNAMENT_FULL,
+
+    // The tournament or the member does not exist
+    NOT_FOUND,
+
+    // The request's batch could not be committed
+    FAILED;
+
+    /**
+     * Tells whether the registration has been processed.
+     * @return true for every status except PENDING
+     */
+    public boolean isDone() {
+        return this != PENDING;
+    }
+}
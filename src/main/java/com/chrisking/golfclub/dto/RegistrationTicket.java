@@ -0,0 +1,30 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Receipt for a queued tournament registration, polled until its status is no longer PENDING.
+ * @param ticketId the ticket's identifier
+ * @param tournamentId the ID of the tournament
+ * @param memberId the ID of the member
+ * @param status the registration's current state
+ * @param acceptedAt when the request was queued
+ * @param completedAt when its batch was committed or given up on, null while pending
+ */
+public record RegistrationTicket(String ticketId,
+                                 Long tournamentId,
+                                 Long memberId,
+                                 RegistrationStatus status,
+                                 LocalDateTime acceptedAt,
+                                 LocalDateTime completedAt) {
+
+    /**
+     * Returns this ticket with its final status.
+     * @param status the outcome of the registration
+     * @param now when it completed
+     * @return the completed ticket
+     */
+    public RegistrationTicket complete(RegistrationStatus status, LocalDateTime now) {
+        return new RegistrationTicket(ticketId, tournamentId, memberId, status, acceptedAt, now);
+    }
+}
@@ -0,0 +1,20 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of one invocation of the membership renewal job.
+ * @param runDate the date the run is for
+ * @param windowEnd the last expiry date covered by the run, inclusive
+ * @param chunks the number of chunks committed by this invocation
+ * @param processed the number of expiring memberships processed by the run so far, including earlier invocations
+ * @param noticesCreated the number of renewal notices created by this invocation
+ * @param completed whether the run has processed every expiring membership
+ */
+public record RenewalRunResult(LocalDate runDate,
+                               LocalDate windowEnd,
+                               int chunks,
+                               long processed,
+                               long noticesCreated,
+                               boolean completed) {
+}
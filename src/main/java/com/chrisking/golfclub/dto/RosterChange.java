@@ -0,0 +1,11 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.List;
+
+/**
+ * Data of a roster change event: the members just added to a tournament.
+ * @param tournamentId the ID of the tournament
+ * @param memberIds the IDs of the members added
+ */
+public record RosterChange(Long tournamentId, List<Long> memberIds) {
+}
@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.dto;
+
+import java.util.List;
+
+/**
+ * Size of the result of a set operation over tournament rosters.
+ * @param operation the set operation
+ * @param tournamentIds the tournaments that were combined, in request order
+ * @param count the number of members in the result
+ */
+public record RosterCount(String operation,
+                          List<Long> tournamentIds,
+                          long count) {
+}
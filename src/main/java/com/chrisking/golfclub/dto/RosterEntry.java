@@ -0,0 +1,7 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * One row of the tournament_members join table, read when building the in-memory roster index.
+ */
+public record RosterEntry(Long tournamentId, Long memberId) {
+}
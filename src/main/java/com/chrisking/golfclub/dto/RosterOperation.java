@@ -0,0 +1,43 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Set operations over tournament rosters supported by the cross-tournament member queries.
+ */
+public enum RosterOperation {
+
+    // Members on every one of the rosters
+    INTERSECTION("intersection"),
+
+    // Members on at least one of the rosters
+    UNION("union"),
+
+    // Members on the first roster and on none of the others
+    DIFFERENCE("difference");
+
+    // Value accepted in the request path
+    private final String param;
+
+    RosterOperation(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Resolves an operation request parameter.
+     * @param param the parameter value
+     * @return the matching operation
+     * @throws IllegalArgumentException if the value is not a supported operation
+     */
+    public static RosterOperation fromParam(String param) {
+        for (RosterOperation operation : values()) {
+            if (operation.param.equalsIgnoreCase(param)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported operation '" + param
+                + "', expected intersection, union or difference");
+    }
+}
@@ -0,0 +1,16 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * What a tournament roster response depends on, read with one aggregate query instead of loading the roster.
+ * The roster version changes when members are enrolled; member versions only ever increase, so their sum
+ * changes whenever any member on the roster changes.
+ */
+public record RosterVersion(Long rosterVersion, Long memberCount, Long memberVersionSum) {
+
+    /**
+     * @return the entity tag of the roster response
+     */
+    public String eTag() {
+        return rosterVersion + "-" + memberCount + "-" + memberVersionSum;
+    }
+}
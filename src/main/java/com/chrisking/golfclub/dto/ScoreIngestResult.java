@@ -0,0 +1,10 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Outcome of a batch of hole scores: applied to the leaderboard and queued for persistence.
+ * @param accepted the number of scores accepted
+ * @param leaderboardVersion the leaderboard version once the batch was applied
+ */
+public record ScoreIngestResult(int accepted,
+                                long leaderboardVersion) {
+}
@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * One hole score in a batch sent by a course tablet.
+ * @param memberId the member who played the hole
+ * @param hole the hole number, 1 to 18
+ * @param strokes the strokes taken, 1 to 20
+ * @param par the par of the hole, 3 to 6
+ */
+public record ScoreSubmission(Long memberId,
+                              Integer hole,
+                              Integer strokes,
+                              Integer par) {
+}
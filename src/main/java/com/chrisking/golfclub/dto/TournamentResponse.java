@@ -0,0 +1,40 @@
+package com.chrisking.golfclub.dto;
+
+import com.chrisking.golfclub.model.Tournament;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read model returned when a single tournament is fetched by id.
+ * Immutable, so one cached instance can be shared by every request that reads it.
+ * The tournament's version is kept for the ETag header and not serialized.
+ */
+public record TournamentResponse(Long id,
+                                 LocalDate startDate,
+                                 LocalDate endDate,
+                                 String location,
+                                 BigDecimal entryFee,
+                                 BigDecimal cashPrizeAmount,
+                                 Integer maxPlayers,
+                                 int registeredPlayers,
+                                 @JsonIgnore Long version) {
+
+    /**
+     * Copies a tournament's columns.
+     * @param tournament the tournament entity
+     * @return the tournament response
+     */
+    public static TournamentResponse of(Tournament tournament) {
+        return new TournamentResponse(tournament.getId(),
+                tournament.getStartDate(),
+                tournament.getEndDate(),
+                tournament.getLocation(),
+                tournament.getEntryFee(),
+                tournament.getCashPrizeAmount(),
+                tournament.getMaxPlayers(),
+                tournament.getRegisteredPlayers(),
+                tournament.getVersion());
+    }
+}
@@ -0,0 +1,41 @@
+package com.chrisking.golfclub.dto;
+
+/**
+ * Sort orders supported by the keyset-paginated tournament listing.
+ * Tournaments have no name column, so the location is their human-readable sort key.
+ * Every order ends with the tournament id so the seek predicate is unique.
+ */
+public enum TournamentSort {
+
+    // Ascending by tournament id
+    ID("id"),
+
+    // Ascending by location, then id
+    LOCATION("location");
+
+    // Value accepted in the "sort" request parameter
+    private final String param;
+
+    TournamentSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Resolves a "sort" request parameter.
+     * @param param the parameter value
+     * @return the matching sort
+     * @throws IllegalArgumentException if the value is not a supported sort
+     */
+    public static TournamentSort fromParam(String param) {
+        for (TournamentSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(param)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort '" + param + "', expected id or location");
+    }
+}
@@ -0,0 +1,47 @@
+package com.chrisking.golfclub.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Finance figures of one tournament.
+ * @param tournamentId the ID of the tournament
+ * @param registeredPlayers the number of players on the roster
+ * @param entryFee the entry fee per player
+ * @param entryFeeRevenue the entry fee times the number of registered players
+ * @param cashPrizeAmount the prize money paid out
+ * @param margin the entry fee revenue minus the prize money
+ */
+public record TournamentStats(Long tournamentId,
+                              int registeredPlayers,
+                              BigDecimal entryFee,
+                              BigDecimal entryFeeRevenue,
+                              BigDecimal cashPrizeAmount,
+                              BigDecimal margin) {
+
+    /**
+     * Derives the revenue and margin; a missing fee or prize counts as zero.
+     * Also used by the reconciliation query.
+     * @param tournamentId the ID of the tournament
+     * @param entryFee the entry fee per player
+     * @param cashPrizeAmount the prize money paid out
+     * @param registeredPlayers the number of players on the roster
+     */
+    public TournamentStats(Long tournamentId, BigDecimal entryFee, BigDecimal cashPrizeAmount,
+                           long registeredPlayers) {
+        this(tournamentId, Math.toIntExact(registeredPlayers), entryFee, revenue(entryFee, registeredPlayers), cashPrizeAmount,
+                revenue(entryFee, registeredPlayers).subtract(cashPrizeAmount == null ? BigDecimal.ZERO
+                        : cashPrizeAmount));
+    }
+
+    /**
+     * @param players the number of players to add
+     * @return these figures with the players added to the roster
+     */
+    public TournamentStats withPlayersAdded(int players) {
+        return new TournamentStats(tournamentId, entryFee, cashPrizeAmount, registeredPlayers + players);
+    }
+
+    private static BigDecimal revenue(BigDecimal entryFee, long registeredPlayers) {
+        return entryFee == null ? BigDecimal.ZERO : entryFee.multiply(BigDecimal.valueOf(registeredPlayers));
+    }
+}
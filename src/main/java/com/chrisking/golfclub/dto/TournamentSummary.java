@@ -0,0 +1,12 @@
+package com.chrisking.golfclub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Lightweight view of a tournament embedded in member responses.
+ */
+public record TournamentSummary(Long id,
+                                LocalDate startDate,
+                                LocalDate endDate,
+                                String location) {
+}
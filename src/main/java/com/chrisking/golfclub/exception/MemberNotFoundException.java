@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.exception;
+
+/**
+ * Thrown when a member the request refers to does not exist.
+ * Controllers translate it into 404 Not Found.
+ */
+public class MemberNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MemberNotFoundException(Long memberId) {
+        super("Member not found with id: " + memberId);
+    }
+}
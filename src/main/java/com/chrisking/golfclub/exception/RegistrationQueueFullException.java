@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.exception;
+
+/**
+ * Thrown when the asynchronous registration queue has no room for another request.
+ * Controllers translate it into 429 Too Many Requests so clients back off and retry.
+ */
+public class RegistrationQueueFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RegistrationQueueFullException(String message) {
+        super(message);
+    }
+}
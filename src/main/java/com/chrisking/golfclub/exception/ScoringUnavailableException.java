@@ -0,0 +1,15 @@
+package com.chrisking.golfclub.exception;
+
+/**
+ * Thrown when live scoring cannot take a batch of scores right now: the leaderboards are still being loaded
+ * or the persistence queue has no room for the batch. Nothing from the batch is applied.
+ * Controllers translate it into 503 Service Unavailable so tablets retry.
+ */
+public class ScoringUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ScoringUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.exception;
+
+/**
+ * Thrown when a registration would take a tournament past its maximum number of players.
+ * Controllers translate it into 409 Conflict.
+ */
+public class TournamentFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TournamentFullException(Long tournamentId) {
+        super("Tournament is full: " + tournamentId);
+    }
+}
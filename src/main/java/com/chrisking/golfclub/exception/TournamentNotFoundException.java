@@ -0,0 +1,14 @@
+package com.chrisking.golfclub.exception;
+
+/**
+ * Thrown when a tournament the request refers to does not exist.
+ * Controllers translate it into 404 Not Found.
+ */
+public class TournamentNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TournamentNotFoundException(Long tournamentId) {
+        super("Tournament not found with id: " + tournamentId);
+    }
+}
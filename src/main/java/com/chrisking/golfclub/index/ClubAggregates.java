@@ -0,0 +1,233 @@
+package com.chrisking.golfclub.index;
+
+import com.chrisking.golfclub.dto.ClubStats;
+import com.chrisking.golfclub.dto.TournamentStats;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally maintained club statistics: member counts per membership type and per-tournament finance
+ * figures with their totals.
+ * <p>
+ * Writers are serialized; after each change an immutable snapshot of the totals is published, so reading them
+ * costs the same however many members and tournaments there are. Reconciliation rebuilds the figures from the
+ * database into a fresh {@link Rebuild}; changes applied while the rebuild runs are recorded and replayed onto
+ * it before it replaces the current figures, so they are not lost.
+ */
+public class ClubAggregates {
+
+    // Key of members without a membership type
+    public static final String UNSPECIFIED_TYPE = "unspecified";
+
+    // Current figures; replaced by reconciliation, otherwise changed only while holding this object's lock
+    private volatile Figures figures = new Figures();
+
+    // Totals of the current figures, republished after every change
+    private volatile ClubStats totals = figures.totals(null);
+
+    // When the figures were last rebuilt from the database
+    private LocalDateTime reconciledAt;
+
+    // Changes applied since a reconciliation started; null when none is running
+    private List<Consumer<Figures>> sinceRebuildStarted;
+
+    /**
+     * Counts a new member.
+     * @param membershipType the member's membership type, may be null
+     */
+    public void memberAdded(String membershipType) {
+        apply(figures -> figures.addMembers(typeKey(membershipType), 1));
+    }
+
+    /**
+     * Adds a new tournament's figures.
+     * @param tournament the tournament's figures
+     */
+    public void tournamentAdded(TournamentStats tournament) {
+        apply(figures -> figures.putTournament(tournament));
+    }
+
+    /**
+     * Adds players to a tournament's roster. Unknown tournaments are ignored until the next reconciliation.
+     * @param tournamentId the ID of the tournament
+     * @param players the number of players added
+     */
+    public void playersAdded(Long tournamentId, int players) {
+        apply(figures -> figures.addPlayers(tournamentId, players));
+    }
+
+    /**
+     * Returns the club-wide totals.
+     * @return the latest totals snapshot
+     */
+    public ClubStats totals() {
+        return totals;
+    }
+
+    /**
+     * Returns one tournament's figures.
+     * @param tournamentId the ID of the tournament
+     * @return the figures, or null if the tournament is not known
+     */
+    public TournamentStats tournament(Long tournamentId) {
+        return figures.tournaments.get(tournamentId);
+    }
+
+    /**
+     * Starts a reconciliation. Must be called before the database is read, so every change committed after
+     * the read started is replayed onto the rebuilt figures. A change committing in the instant between this
+     * call and the start of the read is counted twice until the next reconciliation.
+     * @return the rebuild to fill from the database
+     */
+    public synchronized Rebuild beginRebuild() {
+        sinceRebuildStarted = new ArrayList<>();
+        return new Rebuild();
+    }
+
+    /**
+     * Replays the changes applied since the rebuild started onto it and makes it the current figures.
+     * @param rebuild the rebuild filled from the database
+     * @param now the time of the reconciliation
+     * @return true if the rebuilt figures differ from the ones they replace
+     */
+    public synchronized boolean finishRebuild(Rebuild rebuild, LocalDateTime now) {
+        Figures rebuilt = rebuild.figures;
+        if (sinceRebuildStarted != null) {
+            sinceRebuildStarted.forEach(change -> change.accept(rebuilt));
+        }
+        sinceRebuildStarted = null;
+        boolean drifted = !rebuilt.sameAs(figures);
+        figures = rebuilt;
+        reconciledAt = now;
+        totals = rebuilt.totals(reconciledAt);
+        return drifted;
+    }
+
+    /**
+     * Normalizes a membership type the way reconciliation groups them.
+     * @param membershipType the membership type, may be null
+     * @return the lower-cased type, or UNSPECIFIED_TYPE if it is blank
+     */
+    public static String typeKey(String membershipType) {
+        return membershipType == null || membershipType.isBlank() ? UNSPECIFIED_TYPE
+                : membershipType.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized void apply(Consumer<Figures> change) {
+        change.accept(figures);
+        if (sinceRebuildStarted != null) {
+            sinceRebuildStarted.add(change);
+        }
+        totals = figures.totals(reconciledAt);
+    }
+
+    /**
+     * Figures read back from the database during a reconciliation.
+     */
+    public static final class Rebuild {
+
+        private final Figures figures = new Figures();
+
+        private Rebuild() {
+        }
+
+        /**
+         * @param membershipType the membership type as stored, may be null
+         * @param members the number of members with it
+         */
+        public void members(String membershipType, long members) {
+            figures.addMembers(typeKey(membershipType), members);
+        }
+
+        /**
+         * @param tournament one tournament's figures
+         */
+        public void tournament(TournamentStats tournament) {
+            figures.putTournament(tournament);
+        }
+    }
+
+    // Mutable figures; guarded by the enclosing aggregates' lock once published
+    private static final class Figures {
+
+        private final Map<String, Long> membersByType = new HashMap<>();
+
+        // Read without the lock by tournament lookups
+        private final Map<Long, TournamentStats> tournaments = new ConcurrentHashMap<>();
+
+        private long members;
+
+        private long registeredPlayers;
+
+        private BigDecimal entryFeeRevenue = BigDecimal.ZERO;
+
+        private BigDecimal cashPrizes = BigDecimal.ZERO;
+
+        void addMembers(String type, long count) {
+            membersByType.merge(type, count, Long::sum);
+            members += count;
+        }
+
+        void putTournament(TournamentStats tournament) {
+            TournamentStats previous = tournaments.put(tournament.tournamentId(), tournament);
+            if (previous != null) {
+                subtract(previous);
+            }
+            registeredPlayers += tournament.registeredPlayers();
+            entryFeeRevenue = entryFeeRevenue.add(tournament.entryFeeRevenue());
+            cashPrizes = cashPrizes.add(prize(tournament));
+        }
+
+        void addPlayers(Long tournamentId, int players) {
+            TournamentStats previous = tournaments.get(tournamentId);
+            if (previous != null) {
+                putTournament(previous.withPlayersAdded(players));
+            }
+        }
+
+        // Amounts are compared by value, since the database may return them with a different scale
+        boolean sameAs(Figures other) {
+            if (members != other.members || !membersByType.equals(other.membersByType)
+                    || tournaments.size() != other.tournaments.size()) {
+                return false;
+            }
+            for (TournamentStats tournament : tournaments.values()) {
+                TournamentStats theirs = other.tournaments.get(tournament.tournamentId());
+                if (theirs == null || tournament.registeredPlayers() != theirs.registeredPlayers()
+                        || !sameAmount(tournament.entryFee(), theirs.entryFee())
+                        || !sameAmount(tournament.cashPrizeAmount(), theirs.cashPrizeAmount())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        ClubStats totals(LocalDateTime reconciledAt) {
+            return new ClubStats(members, Map.copyOf(membersByType), tournaments.size(), registeredPlayers,
+                    entryFeeRevenue, cashPrizes, entryFeeRevenue.subtract(cashPrizes), reconciledAt);
+        }
+
+        private void subtract(TournamentStats tournament) {
+            registeredPlayers -= tournament.registeredPlayers();
+            entryFeeRevenue = entryFeeRevenue.subtract(tournament.entryFeeRevenue());
+            cashPrizes = cashPrizes.subtract(prize(tournament));
+        }
+
+        private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+            return a == null ? b == null : b != null && a.compareTo(b) == 0;
+        }
+
+        private static BigDecimal prize(TournamentStats tournament) {
+            return Objects.requireNonNullElse(tournament.cashPrizeAmount(), BigDecimal.ZERO);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.chrisking.golfclub.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index for date-range overlap queries, such as tournaments running during a given week.
+ * <p>
+ * An AVL tree ordered by (start, end, id), where every node also records the latest end date in its subtree.
+ * An overlap query skips every subtree whose latest end is before the range and, thanks to the ordering, every
+ * right subtree once the start passes the end of the range, so it visits O(log n + k) nodes for k matches.
+ * Intervals are closed: an interval overlaps the range if it starts on or before the range's last day and ends
+ * on or after its first day. Results come back in (start, end, id) order.
+ * Thread-safe: queries run concurrently, updates are serialized.
+ */
+public class IntervalTree {
+
+    // Root of the AVL tree, null when empty
+    private Node root;
+
+    // Current interval of every indexed id, to find its node again on update or removal
+    private final Map<Long, Node> byId = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces the interval of an id. A null start removes the id; a null end is treated as a
+     * single-day interval.
+     * @param id the document id
+     * @param start the first day of the interval
+     * @param end the last day of the interval, inclusive
+     */
+    public void put(long id, LocalDate start, LocalDate end) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (start != null) {
+                long from = start.toEpochDay();
+                long to = end == null ? from : end.toEpochDay();
+                Node node = new Node(id, from, to);
+                root = insert(root, node);
+                byId.put(id, node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an id from the index.
+     * @param id the document id
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every interval from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            byId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed intervals.
+     * @return the interval count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the intervals that share at least one day with the range.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of ids to return
+     * @return the ids of the overlapping intervals, in (start, end, id) order
+     */
+    public List<Long> overlapping(LocalDate from, LocalDate to, int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (limit <= 0 || to.isBefore(from)) {
+            return ids;
+        }
+        lock.readLock().lock();
+        try {
+            collect(root, from.toEpochDay(), to.toEpochDay(), limit, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    // In-order walk that prunes subtrees ending before the range and nodes starting after it
+    private static void collect(Node node, long from, long to, int limit, List<Long> ids) {
+        if (node == null || node.maxEnd < from || ids.size() >= limit) {
+            return;
+        }
+        collect(node.left, from, to, limit, ids);
+        if (node.start > to || ids.size() >= limit) {
+            return;
+        }
+        if (node.end >= from) {
+            ids.add(node.id);
+        }
+        collect(node.right, from, to, limit, ids);
+    }
+
+    private void removeLocked(long id) {
+        Node previous = byId.remove(id);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(removed, node);
+        if (order < 0) {
+            node.left = delete(node.left, removed);
+        } else if (order > 0) {
+            node.right = delete(node.right, removed);
+        } else if (node.left == null || node.right == null) {
+            return node.left != null ? node.left : node.right;
+        } else {
+            // Replace the node with its in-order successor
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(Node a, Node b) {
+        if (a.start != b.start) {
+            return Long.compare(a.start, b.start);
+        }
+        if (a.end != b.end) {
+            return Long.compare(a.end, b.end);
+        }
+        return Long.compare(a.id, b.id);
+    }
+
+    // Restores the AVL balance of a node whose subtrees changed height by at most one
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    // Recomputes the height and latest end of a node from its children
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * One interval, with its dates as epoch days, and the AVL bookkeeping of its subtree.
+     */
+    private static final class Node {
+
+        private final long id;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.chrisking.golfclub.index;
+
+import com.chrisking.golfclub.dto.Leaderboard;
+import com.chrisking.golfclub.dto.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory leaderboard of one tournament, kept in order as scores arrive.
+ * <p>
+ * Every player has a scorecard with one slot per hole, and the cards are held in a sorted set ordered by
+ * score relative to par, then holes played (more first), then member id. A score takes the player's card out of
+ * the set, updates its running totals and puts it back, O(log n); reading the top k walks the first k cards,
+ * so reads never sort and cost the same however many scores arrive. A score for a hole that already has one
+ * replaces it, which is how corrections are made.
+ * Thread-safe: reads run concurrently, scores are applied one at a time.
+ */
+public class LiveLeaderboard {
+
+    // Number of holes on a scorecard
+    public static final int HOLES = 18;
+
+    // Best score relative to par first, then the player further round the course, then the lowest id
+    private static final Comparator<Scorecard> ORDER = Comparator.comparingInt((Scorecard card) -> card.toPar)
+            .thenComparing(Comparator.comparingInt((Scorecard card) -> card.thru).reversed())
+            .thenComparingLong(card -> card.memberId);
+
+    // Scorecard of every player with at least one score
+    private final Map<Long, Scorecard> cards = new HashMap<>();
+
+    // The same scorecards in leaderboard order
+    private final TreeSet<Scorecard> ranking = new TreeSet<>(ORDER);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Number of scores applied
+    private long version;
+
+    /**
+     * Applies one hole score, replacing an earlier score for the same hole.
+     * @param memberId the member who played the hole
+     * @param hole the hole number, 1 to HOLES
+     * @param strokes the strokes taken
+     * @param par the par of the hole
+     * @return the leaderboard version after the score
+     */
+    public long record(long memberId, int hole, int strokes, int par) {
+        lock.writeLock().lock();
+        try {
+            Scorecard card = cards.computeIfAbsent(memberId, Scorecard::new);
+            // The card's position depends on its totals, so it leaves the set while they change
+            ranking.remove(card);
+            card.record(hole, strokes, par);
+            ranking.add(card);
+            return ++version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the leading players, best first, together with the version and player count they belong to.
+     * Players level on score relative to par share a position, and the next position skips accordingly.
+     * @param tournamentId the tournament, echoed in the result
+     * @param limit the maximum number of players to return
+     * @return the top of the leaderboard
+     */
+    public Leaderboard read(Long tournamentId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.min(limit, ranking.size()));
+            Iterator<Scorecard> iterator = ranking.iterator();
+            int position = 0;
+            int previousToPar = 0;
+            while (iterator.hasNext() && entries.size() < limit) {
+                Scorecard card = iterator.next();
+                if (entries.isEmpty() || card.toPar != previousToPar) {
+                    position = entries.size() + 1;
+                    previousToPar = card.toPar;
+                }
+                entries.add(new LeaderboardEntry(position, card.memberId, card.toPar, card.strokes, card.thru));
+            }
+            return new Leaderboard(tournamentId, version, cards.size(), entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One player's holes and running totals; only modified while out of the ranking set.
+     */
+    private static final class Scorecard {
+
+        private final long memberId;
+
+        // Strokes and par per hole, index 0 unused; 0 strokes means not played yet
+        private final int[] holeStrokes = new int[HOLES + 1];
+        private final int[] holePar = new int[HOLES + 1];
+
+        private int strokes;
+        private int toPar;
+        private int thru;
+
+        private Scorecard(long memberId) {
+            this.memberId = memberId;
+        }
+
+        private void record(int hole, int newStrokes, int newPar) {
+            if (holeStrokes[hole] == 0) {
+                thru++;
+            } else {
+                strokes -= holeStrokes[hole];
+                toPar -= holeStrokes[hole] - holePar[hole];
+            }
+            holeStrokes[hole] = newStrokes;
+            holePar[hole] = newPar;
+            strokes += newStrokes;
+            toPar += newStrokes - newPar;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.chrisking.golfclub.index;
+
+import com.chrisking.golfclub.dto.RosterOperation;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of tournament rosters for cross-tournament membership queries.
+ * <p>
+ * Each tournament's roster is a compressed (Roaring) bitmap of member ids. Set operations between rosters
+ * run on the compressed containers, a few machine words per 64 members, so intersecting, merging or
+ * subtracting rosters of thousands of members takes microseconds and never touches the database.
+ * The bitmaps cover the full long id range, with ids sharing their high 32 bits kept in one 32-bit bitmap.
+ * Thread-safe: queries run concurrently, updates are serialized.
+ */
+public class RosterBitmapIndex {
+
+    // Stands in for unknown tournaments; never modified
+    private static final Roaring64NavigableMap EMPTY = new Roaring64NavigableMap();
+
+    // Roster of every known tournament, empty for tournaments nobody has joined yet
+    private final Map<Long, Roaring64NavigableMap> rosters = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Registers a tournament with an empty roster, keeping its members if it is already known.
+     * @param tournamentId the tournament id
+     */
+    public void addTournament(long tournamentId) {
+        lock.writeLock().lock();
+        try {
+            rosters.computeIfAbsent(tournamentId, id -> new Roaring64NavigableMap());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds members to a tournament's roster, registering the tournament if needed.
+     * @param tournamentId the tournament id
+     * @param memberIds the ids of the members to add
+     */
+    public void addMembers(long tournamentId, Collection<Long> memberIds) {
+        long[] ids = toLongs(memberIds);
+        lock.writeLock().lock();
+        try {
+            rosters.computeIfAbsent(tournamentId, id -> new Roaring64NavigableMap()).add(ids);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces a tournament's roster.
+     * @param tournamentId the tournament id
+     * @param memberIds the ids of all its members
+     */
+    public void replaceMembers(long tournamentId, Collection<Long> memberIds) {
+        replaceMembers(tournamentId, Roaring64NavigableMap.bitmapOf(toLongs(memberIds)));
+    }
+
+    /**
+     * Replaces a tournament's roster with a bitmap built elsewhere, such as during an index build.
+     * @param tournamentId the tournament id
+     * @param roster the ids of all its members; owned by the index from now on
+     */
+    public void replaceMembers(long tournamentId, Roaring64NavigableMap roster) {
+        roster.runOptimize();
+        lock.writeLock().lock();
+        try {
+            rosters.put(tournamentId, roster);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops a tournament and its roster.
+     * @param tournamentId the tournament id
+     */
+    public void removeTournament(long tournamentId) {
+        lock.writeLock().lock();
+        try {
+            rosters.remove(tournamentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a member off every roster.
+     * @param memberId the member id
+     */
+    public void removeMember(long memberId) {
+        lock.writeLock().lock();
+        try {
+            rosters.values().forEach(roster -> roster.removeLong(memberId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every tournament from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            rosters.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed tournaments.
+     * @return the tournament count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rosters.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns which of the given tournaments are not in the index.
+     * @param tournamentIds the tournament ids
+     * @return the unknown ids, in the given order
+     */
+    public List<Long> unknown(Collection<Long> tournamentIds) {
+        lock.readLock().lock();
+        try {
+            return tournamentIds.stream().filter(id -> !rosters.containsKey(id)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns which of the given members are not on a tournament's roster.
+     * @param tournamentId the tournament id
+     * @param memberIds the member ids to check
+     * @return the ids not on the roster, in the given order; all of them if the tournament is unknown
+     */
+    public List<Long> notOnRoster(long tournamentId, Collection<Long> memberIds) {
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap roster = rosters.getOrDefault(tournamentId, EMPTY);
+            return memberIds.stream().filter(id -> !roster.contains(id)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Combines the rosters of the given tournaments. Unknown tournaments count as empty rosters.
+     * @param operation the set operation; for a difference, the first roster minus all the others
+     * @param tournamentIds the tournament ids, at least one
+     * @return a new bitmap of the resulting member ids, owned by the caller
+     */
+    public Roaring64NavigableMap combine(RosterOperation operation, List<Long> tournamentIds) {
+        lock.readLock().lock();
+        try {
+            // The result starts as a copy of the first roster and is narrowed or widened by the others in place
+            Roaring64NavigableMap result = rosters.getOrDefault(tournamentIds.get(0), EMPTY).clone();
+            for (Long id : tournamentIds.subList(1, tournamentIds.size())) {
+                Roaring64NavigableMap roster = rosters.getOrDefault(id, EMPTY);
+                switch (operation) {
+                    case INTERSECTION -> result.and(roster);
+                    case UNION -> result.or(roster);
+                    case DIFFERENCE -> result.andNot(roster);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads one page of a combined roster in ascending id order.
+     * @param members the combined roster
+     * @param afterId the last id of the previous page, or 0 for the first page
+     * @param limit the maximum number of ids to return
+     * @return the ids greater than afterId, at most limit of them
+     */
+    public static List<Long> page(Roaring64NavigableMap members, long afterId, int limit) {
+        long cardinality = members.getLongCardinality();
+        List<Long> ids = new ArrayList<>((int) Math.min(limit, cardinality));
+        // The 64-bit iterator cannot skip ahead, so the page starts at the rank of afterId instead
+        long next = afterId > 0 ? members.rankLong(afterId) : 0;
+        while (next < cardinality && ids.size() < limit) {
+            ids.add(members.select(next++));
+        }
+        return ids;
+    }
+
+    private static long[] toLongs(Collection<Long> memberIds) {
+        return memberIds.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,81 @@
+package com.chrisking.golfclub.index;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.service.SearchIndexService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * JPA entity listener that keeps the search indexes in step with member and tournament writes,
+ * including rosters saved through the tournament's members collection.
+ * Changes are applied after the transaction commits, so a rolled-back write never shows up in search results.
+ */
+public class SearchIndexEntityListener {
+
+    // Resolved lazily: the listener is created while the entity manager factory is still being built
+    private final ObjectProvider<SearchIndexService> searchIndexService;
+
+    public SearchIndexEntityListener(ObjectProvider<SearchIndexService> searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void saved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            String memberName = member.getMemberName();
+            afterCommit(() -> searchIndexService.getObject().memberSaved(id, memberName));
+        } else if (entity instanceof Tournament tournament) {
+            Long id = tournament.getId();
+            String location = tournament.getLocation();
+            LocalDate startDate = tournament.getStartDate();
+            LocalDate endDate = tournament.getEndDate();
+            // Rosters are normally written by set-based SQL and reported by the service; a tournament saved
+            // with its members loaded carries its whole roster, which is never loaded just for the index
+            List<Long> memberIds = Hibernate.isInitialized(tournament.getMembers())
+                    ? tournament.getMembers().stream().map(Member::getId).filter(Objects::nonNull).toList()
+                    : null;
+            afterCommit(() -> {
+                searchIndexService.getObject().tournamentSaved(id, location, startDate, endDate);
+                if (memberIds != null) {
+                    searchIndexService.getObject().rosterSaved(id, memberIds);
+                }
+            });
+        }
+    }
+
+    @PostRemove
+    void removed(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            afterCommit(() -> searchIndexService.getObject().memberRemoved(id));
+        } else if (entity instanceof Tournament tournament) {
+            Long id = tournament.getId();
+            afterCommit(() -> searchIndexService.getObject().tournamentRemoved(id));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,257 @@
+package com.chrisking.golfclub.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index for case-insensitive substring search over short texts such as names.
+ * <p>
+ * Every text is split into overlapping three-character grams, each mapped to a posting list of document ids.
+ * A query is answered by scanning the shortest posting list among the query's trigrams and verifying the
+ * candidates, so the cost depends on how selective the query is rather than on the number of documents.
+ * Queries shorter than three characters fall back to scanning the documents in memory.
+ * <p>
+ * Results are ranked: exact matches first, then prefix matches, then matches at the start of a word,
+ * then any other substring match; ties go to the shorter text and then the lower id.
+ * Thread-safe: searches run concurrently, updates are serialized.
+ */
+public class TrigramIndex {
+
+    // Rank buckets, lower is better
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int WORD_START = 2;
+    private static final int SUBSTRING = 3;
+
+    // Posting lists keyed by packed trigram
+    private final Map<Long, LongList> postings = new HashMap<>();
+
+    // Normalized text of every indexed document
+    private final Map<Long, String> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces the text of a document. A null text removes the document.
+     * @param id the document id
+     * @param text the text to index
+     */
+    public void put(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (text != null) {
+                String normalized = normalize(text);
+                documents.put(id, normalized);
+                for (long trigram : distinctTrigrams(normalized)) {
+                    postings.computeIfAbsent(trigram, key -> new LongList()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index.
+     * @param id the document id
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every document from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     * @return the document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents whose text contains the query, case-insensitively.
+     * @param query the substring to search for
+     * @param limit the maximum number of ids to return
+     * @return the matching document ids, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Max-heap on rank, so the worst of the current best "limit" matches is evicted first
+        Comparator<Match> byRank = Comparator.comparingInt(Match::rank)
+                .thenComparingInt(Match::length)
+                .thenComparingLong(Match::id);
+        PriorityQueue<Match> best = new PriorityQueue<>(byRank.reversed());
+
+        lock.readLock().lock();
+        try {
+            if (needle.length() < 3) {
+                for (Map.Entry<Long, String> document : documents.entrySet()) {
+                    offer(best, limit, byRank, document.getKey(), document.getValue(), needle);
+                }
+            } else {
+                LongList candidates = shortestPosting(needle);
+                if (candidates != null) {
+                    for (int i = 0; i < candidates.size(); i++) {
+                        long id = candidates.get(i);
+                        offer(best, limit, byRank, id, documents.get(id), needle);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(byRank);
+        return ranked.stream().map(Match::id).toList();
+    }
+
+    // Returns the posting list of the rarest trigram of the query, or null if one trigram has no documents
+    private LongList shortestPosting(String needle) {
+        LongList shortest = null;
+        for (long trigram : distinctTrigrams(needle)) {
+            LongList posting = postings.get(trigram);
+            if (posting == null) {
+                return null;
+            }
+            if (shortest == null || posting.size() < shortest.size()) {
+                shortest = posting;
+            }
+        }
+        return shortest;
+    }
+
+    // Verifies a candidate and keeps it if it ranks among the best "limit" matches
+    private static void offer(PriorityQueue<Match> best, int limit, Comparator<Match> byRank,
+                              long id, String text, String needle) {
+        int position = text == null ? -1 : text.indexOf(needle);
+        if (position < 0) {
+            return;
+        }
+        int rank;
+        if (position == 0) {
+            rank = text.length() == needle.length() ? EXACT : PREFIX;
+        } else {
+            rank = isWordStart(text, needle) ? WORD_START : SUBSTRING;
+        }
+        Match match = new Match(id, rank, text.length());
+        if (best.size() < limit) {
+            best.add(match);
+        } else if (byRank.compare(match, best.peek()) < 0) {
+            best.poll();
+            best.add(match);
+        }
+    }
+
+    private static boolean isWordStart(String text, String needle) {
+        for (int at = text.indexOf(needle); at >= 0; at = text.indexOf(needle, at + 1)) {
+            if (at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeLocked(long id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long trigram : distinctTrigrams(previous)) {
+            LongList posting = postings.get(trigram);
+            if (posting != null && posting.remove(id) && posting.size() == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Packs every distinct three-character window of the text into a long
+    private static long[] distinctTrigrams(String text) {
+        if (text.length() < 3) {
+            return new long[0];
+        }
+        long[] trigrams = new long[text.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    private record Match(long id, int rank, int length) {
+    }
+
+    /**
+     * Growable list of primitive longs, avoiding one boxed object per posting.
+     */
+    private static final class LongList {
+
+        private long[] values = new long[4];
+
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // Order within a posting list does not matter, so removal swaps in the last element
+        boolean remove(long value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.chrisking.golfclub.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Records the number of rows each repository method returns and logs a sample of slow calls.
+ * Call timings themselves come from Spring Boot's spring.data.repository.invocations timer.
+ * Streamed results are counted as they are consumed and recorded when the stream is closed. Their slow query
+ * check covers only the call that opens the stream: the rest of its time is spent by the caller consuming it,
+ * for an export as long as the download takes.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RepositoryMetricsInterceptor.class);
+
+    // Simple name of the repository interface, used as the repository tag
+    private final String repository;
+
+    // Resolved on first use; repositories are created before the registry is fully configured
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    // Calls slower than this count as slow queries
+    private final Duration slowThreshold;
+
+    // Fraction of slow calls that are logged; all of them are counted
+    private final double sampleRate;
+
+    // Row summaries by method name
+    private final Map<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    // Slow call counters by method name
+    private final Map<String, Counter> slowCounters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(String repository,
+                                        Supplier<MeterRegistry> meterRegistry,
+                                        Duration slowThreshold,
+                                        double sampleRate) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.slowThreshold = slowThreshold;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String method = invocation.getMethod().getName();
+        long start = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (result instanceof Stream<?> stream) {
+            checkSlow(method, -1, elapsedNanos);
+            AtomicLong rows = new AtomicLong();
+            return stream.peek(row -> rows.incrementAndGet()).onClose(() -> recordRows(method, rows.get()));
+        }
+        long rows = rowCount(result);
+        recordRows(method, rows);
+        checkSlow(method, rows, elapsedNanos);
+        return result;
+    }
+
+    private void recordRows(String method, long rows) {
+        if (rows >= 0) {
+            rowSummaries.computeIfAbsent(method, m -> DistributionSummary.builder("golfclub.repository.rows")
+                    .description("Rows returned per repository method call")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", m)
+                    .register(meterRegistry.get())).record(rows);
+        }
+    }
+
+    private void checkSlow(String method, long rows, long elapsedNanos) {
+        if (elapsedNanos >= slowThreshold.toNanos()) {
+            slowCounters.computeIfAbsent(method, m -> Counter.builder("golfclub.repository.slow")
+                    .description("Repository method calls slower than the slow query threshold")
+                    .tag("repository", repository)
+                    .tag("method", m)
+                    .register(meterRegistry.get())).increment();
+            if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.warn("Slow query: {}.{} took {} ms and returned {} rows",
+                        repository, method, elapsedNanos / 1_000_000, rows < 0 ? "n/a" : rows);
+            }
+        }
+    }
+
+    // Number of rows in a query result, or -1 for results that are not rows (counts, flags, update counts)
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?> iterable) {
+            long rows = 0;
+            for (Object ignored : iterable) {
+                rows++;
+            }
+            return rows;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+}
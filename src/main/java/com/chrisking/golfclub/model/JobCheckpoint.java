@@ -0,0 +1,124 @@
+package com.chrisking.golfclub.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class recording the progress of one run of a batch job.
+ * Persisted to the "job_checkpoints" table, one row per job and run date. The position of the last processed
+ * row is advanced in the same transaction as the chunk it covers, so a run that stops part way resumes
+ * right after the last committed chunk.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+public class JobCheckpoint {
+
+    // Primary key - auto-generated ID
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Name of the batch job
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    // The date the run is for
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    // Sort key of the last processed row; null before the first chunk
+    @Column(name = "last_date")
+    private LocalDate lastDate;
+
+    // Id of the last processed row; null before the first chunk
+    @Column(name = "last_id")
+    private Long lastId;
+
+    // Number of rows processed so far
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    // Whether the run has processed every row
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    // When the checkpoint was last advanced
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Optimistic-locking version, so two instances can never both commit the same chunk
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // No-argument constructor for JPA
+    public JobCheckpoint() {
+    }
+
+    // Constructor for starting a new run
+    public JobCheckpoint(String jobName, LocalDate runDate, LocalDateTime updatedAt) {
+        this.jobName = jobName;
+        this.runDate = runDate;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Moves the checkpoint past a processed chunk.
+     * @param lastDate the sort key of the last row of the chunk
+     * @param lastId the id of the last row of the chunk
+     * @param rows the number of rows in the chunk
+     * @param now the current time
+     */
+    public void advance(LocalDate lastDate, Long lastId, int rows, LocalDateTime now) {
+        this.lastDate = lastDate;
+        this.lastId = lastId;
+        this.processed += rows;
+        this.updatedAt = now;
+    }
+
+    /**
+     * Marks the run as finished.
+     * @param now the current time
+     */
+    public void complete(LocalDateTime now) {
+        this.completed = true;
+        this.updatedAt = now;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public LocalDate getRunDate() {
+        return runDate;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -1,5 +1,7 @@
 package com.chrisking.golfclub.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.chrisking.golfclub.index.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -11,11 +13,13 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "members")
+@EntityListeners(SearchIndexEntityListener.class)
 public class Member {
 
-    // Primary key - auto-generated ID
+    // Primary key - generated from a sequence with a pooled optimizer, so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_id_generator")
+    @SequenceGenerator(name = "member_id_generator", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
 
     // Member's full name (required field)
@@ -42,12 +46,24 @@ public class Member {
     @Column(name = "membership_duration_months")
     private Integer membershipDurationMonths;
 
+    // Date when the membership expires: the start date plus the duration, kept current on every write
+    @Column(name = "membership_expiry_date")
+    private LocalDate membershipExpiryDate;
+
     // Type of membership (e.g., standard, premium, etc.)
     @Column(name = "membership_type")
     private String membershipType;
 
+    // Optimistic-locking version, also bumped when the member joins a tournament; the member's ETag
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private Long version;
+
     // Many-to-many relationship: a member can participate in multiple tournaments
+    // JsonIgnore keeps the lazy collection out of serialization; responses use MemberResponse instead
     @ManyToMany(mappedBy = "members")
+    @JsonIgnore
     private Set<Tournament> tournaments = new HashSet<>();
 
     // No-argument constructor for JPA
@@ -125,6 +141,10 @@ public class Member {
         this.membershipDurationMonths = membershipDurationMonths;
     }
 
+    public LocalDate getMembershipExpiryDate() {
+        return membershipExpiryDate;
+    }
+
     public String getMembershipType() {
         return membershipType;
     }
@@ -133,6 +153,10 @@ public class Member {
         this.membershipType = membershipType;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public Set<Tournament> getTournaments() {
         return tournaments;
     }
@@ -140,4 +164,13 @@ public class Member {
     public void setTournaments(Set<Tournament> tournaments) {
         this.tournaments = tournaments;
     }
+
+    // Derives the expiry date before every insert and update; months shorter than the start day clamp to their last day
+    @PrePersist
+    @PreUpdate
+    void computeMembershipExpiryDate() {
+        membershipExpiryDate = membershipStartDate == null || membershipDurationMonths == null
+                ? null
+                : membershipStartDate.plusMonths(membershipDurationMonths);
+    }
 }
@@ -0,0 +1,52 @@
+package com.chrisking.golfclub.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a renewal notice raised for a member whose membership is about to expire.
+ * Persisted to the "renewal_notices" table; at most one notice exists per member and expiry date,
+ * so re-running the renewal job never notifies a member twice for the same expiry.
+ */
+@Entity
+@Table(name = "renewal_notices")
+public class RenewalNotice {
+
+    // Primary key - auto-generated ID
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // The member whose membership expires
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // The expiry date the notice was raised for
+    @Column(name = "expiry_date", nullable = false)
+    private LocalDate expiryDate;
+
+    // When the renewal job raised the notice
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // No-argument constructor for JPA
+    public RenewalNotice() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
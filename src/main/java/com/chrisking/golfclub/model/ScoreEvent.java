@@ -0,0 +1,86 @@
+package com.chrisking.golfclub.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing one hole score reported during a tournament.
+ * Persisted to the append-only "score_events" table; the latest event for a member and hole is the score
+ * that counts, so corrections are simply reported again.
+ */
+@Entity
+@Table(name = "score_events")
+public class ScoreEvent {
+
+    // Primary key - generated from a sequence with a pooled optimizer, so inserts can be JDBC-batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_event_id_generator")
+    @SequenceGenerator(name = "score_event_id_generator", sequenceName = "score_events_seq", allocationSize = 50)
+    private Long id;
+
+    // The tournament being played
+    @Column(name = "tournament_id", nullable = false)
+    private Long tournamentId;
+
+    // The member who played the hole
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // Hole number, 1 to 18
+    @Column(name = "hole", nullable = false)
+    private short hole;
+
+    // Strokes taken on the hole
+    @Column(name = "strokes", nullable = false)
+    private short strokes;
+
+    // Par of the hole
+    @Column(name = "par", nullable = false)
+    private short par;
+
+    // When the score was received
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    // No-argument constructor for JPA
+    public ScoreEvent() {
+    }
+
+    // Constructor for a received score
+    public ScoreEvent(Long tournamentId, Long memberId, int hole, int strokes, int par, LocalDateTime recordedAt) {
+        this.tournamentId = tournamentId;
+        this.memberId = memberId;
+        this.hole = (short) hole;
+        this.strokes = (short) strokes;
+        this.par = (short) par;
+        this.recordedAt = recordedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public int getHole() {
+        return hole;
+    }
+
+    public int getStrokes() {
+        return strokes;
+    }
+
+    public int getPar() {
+        return par;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
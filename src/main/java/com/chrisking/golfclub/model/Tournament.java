@@ -1,7 +1,10 @@
 package com.chrisking.golfclub.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.chrisking.golfclub.index.SearchIndexEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -13,6 +16,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "tournaments")
+@EntityListeners(SearchIndexEntityListener.class)
 public class Tournament {
 
     // Primary key - auto-generated ID
@@ -40,6 +44,29 @@ public class Tournament {
     @Column(name = "cash_prize_amount")
     private BigDecimal cashPrizeAmount;
 
+    // Maximum number of players; null means the field is unlimited
+    @Column(name = "max_players")
+    private Integer maxPlayers;
+
+    // Number of players on the roster, maintained by the conditional seat update on enrollment;
+    // serialized but never bound from a request body
+    @Column(name = "registered_players", nullable = false)
+    @ColumnDefault("0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int registeredPlayers;
+
+    // Optimistic-locking version, also bumped when seats are claimed; the tournament's ETag
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private Long version;
+
+    // Bumped whenever members are enrolled; part of the roster's ETag
+    @Column(name = "roster_version", nullable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long rosterVersion;
+
     // Many-to-many relationship: a tournament can have multiple members
     // JsonIgnore prevents circular serialization when converting to JSON
     @ManyToMany
@@ -114,6 +141,26 @@ public class Tournament {
         this.cashPrizeAmount = cashPrizeAmount;
     }
 
+    public Integer getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public void setMaxPlayers(Integer maxPlayers) {
+        this.maxPlayers = maxPlayers;
+    }
+
+    public int getRegisteredPlayers() {
+        return registeredPlayers;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public long getRosterVersion() {
+        return rosterVersion;
+    }
+
     public Set<Member> getMembers() {
         return members;
     }
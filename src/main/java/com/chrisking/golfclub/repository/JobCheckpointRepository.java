@@ -0,0 +1,22 @@
+package com.chrisking.golfclub.repository;
+
+import com.chrisking.golfclub.model.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repository interface for JobCheckpoint entity.
+ * Provides database access operations for batch job progress.
+ */
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+    /**
+     * Finds the checkpoint of a job's run.
+     * @param jobName the name of the job
+     * @param runDate the date the run is for
+     * @return an Optional containing the checkpoint if the run was started, empty otherwise
+     */
+    Optional<JobCheckpoint> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+}
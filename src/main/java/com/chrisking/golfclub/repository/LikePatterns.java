@@ -0,0 +1,22 @@
+package com.chrisking.golfclub.repository;
+
+/**
+ * Builds LIKE patterns from user input, escaping the wildcard characters it may contain.
+ */
+final class LikePatterns {
+
+    // Escape character declared on every LIKE built from these patterns
+    static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    /**
+     * @param value the text to look for
+     * @return a pattern matching any value that contains the text, upper-cased for case-insensitive matching
+     */
+    static String containing(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped.toUpperCase() + "%";
+    }
+}
@@ -1,11 +1,23 @@
 package com.chrisking.golfclub.repository;
 
+import com.chrisking.golfclub.dto.IndexedText;
+import com.chrisking.golfclub.dto.MemberExpiry;
+import com.chrisking.golfclub.dto.MembershipTypeCount;
 import com.chrisking.golfclub.model.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Member entity.
@@ -14,6 +26,9 @@ import java.util.Optional;
  */
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    // Rows fetched per round trip when streaming members
+    String STREAM_FETCH_SIZE = "500";
+
     /**
      * Finds all members whose name contains the specified string (case-insensitive).
      * @param memberName the name or partial name to search for
@@ -21,6 +36,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     List<Member> findByMemberNameContainingIgnoreCase(String memberName);
 
+    /**
+     * Finds members whose name contains the specified string (case-insensitive), limited and ordered by name.
+     * Used when the in-memory name index is not available.
+     * @param memberName the name or partial name to search for
+     * @param limit the maximum number of members to return
+     * @return list of members matching the name criteria
+     */
+    List<Member> findByMemberNameContainingIgnoreCaseOrderByMemberNameAscIdAsc(String memberName, Limit limit);
+
     /**
      * Finds all members with the specified membership type (case-insensitive).
      * @param membershipType the membership type to search for
@@ -40,5 +64,172 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @param startDate the tournament start date to filter by
      * @return list of members with tournaments starting on the specified date
      */
-    List<Member> findByTournaments_StartDate(LocalDate startDate);
+    // Inner join (the derived query uses a left join) so the planner may start from the start_date index
+    @Query("select m from Member m join m.tournaments t where t.startDate = :startDate")
+    List<Member> findByTournaments_StartDate(@Param("startDate") LocalDate startDate);
+
+    /**
+     * Finds the members playing in any of the given tournaments, each member once, ordered by id.
+     * @param tournamentIds the IDs of the tournaments
+     * @param limit the maximum number of members to return
+     * @return the members on at least one of the rosters
+     */
+    @Query("select m from Member m where exists (select 1 from Tournament t join t.members tm "
+            + "where tm = m and t.id in :tournamentIds) order by m.id")
+    List<Member> findPlayingInTournaments(@Param("tournamentIds") Collection<Long> tournamentIds, Limit limit);
+
+    /**
+     * Finds the members playing in a tournament that runs on at least one day of a date range, each member once,
+     * ordered by id. Used when the in-memory interval index is not available.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of members to return
+     * @return the members playing during the range
+     */
+    @Query("select m from Member m where exists (select 1 from Tournament t join t.members tm where tm = m "
+            + "and t.startDate <= :to and coalesce(t.endDate, t.startDate) >= :from) order by m.id")
+    List<Member> findPlayingBetween(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
+    /**
+     * Finds all members participating in a tournament.
+     * @param tournamentId the ID of the tournament
+     * @return list of the tournament's members ordered by id
+     */
+    List<Member> findByTournaments_IdOrderByIdAsc(Long tournamentId);
+
+    /**
+     * Checks whether a member with the given email exists.
+     * @param email the email to look up
+     * @return true if the email is taken
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Returns which of the given emails already belong to a member.
+     * @param emails the emails to check
+     * @return the subset of emails that are already taken
+     */
+    @Query("select m.email from Member m where m.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Counts the members per membership type, ignoring case, for reconciling the club statistics.
+     * @return one count per lower-cased membership type, including null
+     */
+    @Query("select new com.chrisking.golfclub.dto.MembershipTypeCount(lower(m.membershipType), count(m)) "
+            + "from Member m group by lower(m.membershipType)")
+    List<MembershipTypeCount> countMembersPerType();
+
+    /**
+     * Reads only a member's version, to answer conditional requests without loading the member.
+     * @param id the member ID
+     * @return the version, or empty if there is no such member
+     */
+    @Query("select m.version from Member m where m.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Bumps the version of members whose response changed without the entity being written,
+     * such as when they join a tournament.
+     * @param ids the IDs of the members
+     * @return the number of members updated
+     */
+    @Modifying
+    @Query("update Member m set m.version = m.version + 1 where m.id in :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns which of the given ids belong to a member.
+     * @param ids the ids to check
+     * @return the subset of ids that exist
+     */
+    @Query("select m.id from Member m where m.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page ordered by id: the first members, or those after the given id.
+     * @param id the id of the last member of the previous page
+     * @param limit the maximum number of members to return
+     * @return members with an id greater than the given one, ordered by id
+     */
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * First keyset page ordered by member name, ties broken by id.
+     * @param limit the maximum number of members to return
+     * @return the first members in name order
+     */
+    List<Member> findAllByOrderByMemberNameAscIdAsc(Limit limit);
+
+    /**
+     * Keyset page ordered by member name: seeks past the (name, id) of the last member of the previous page.
+     * @param memberName the name of the last member of the previous page
+     * @param id the id of the last member of the previous page
+     * @param limit the maximum number of members to return
+     * @return the members following the given position in name order
+     */
+    @Query("select m from Member m where (m.memberName, m.id) > (:memberName, :id) order by m.memberName, m.id")
+    List<Member> findPageAfterName(@Param("memberName") String memberName, @Param("id") Long id, Limit limit);
+
+    /**
+     * Keyset page of members whose membership expires by the given date, ordered by expiry date and id:
+     * seeks past the (expiry date, id) of the last member of the previous page.
+     * The first page of a range starting on a given day seeks past (day, 0).
+     * @param afterDate the expiry date of the last member of the previous page
+     * @param afterId the id of the last member of the previous page
+     * @param to the last expiry date to include
+     * @param limit the maximum number of members to return
+     * @return the members following the given position, up to the given expiry date
+     */
+    @Query("select m from Member m where (m.membershipExpiryDate, m.id) > (:afterDate, :afterId) "
+            + "and m.membershipExpiryDate <= :to order by m.membershipExpiryDate, m.id")
+    List<Member> findExpiringAfter(@Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+                                   @Param("to") LocalDate to, Limit limit);
+
+    /**
+     * Same seek as {@link #findExpiringAfter}, reading only the id and expiry date, for the renewal job.
+     * @param afterDate the expiry date of the last member of the previous chunk
+     * @param afterId the id of the last member of the previous chunk
+     * @param to the last expiry date to include
+     * @param limit the maximum number of members to return
+     * @return the (id, expiry date) of the following members in expiry order
+     */
+    @Query("select new com.chrisking.golfclub.dto.MemberExpiry(m.id, m.membershipExpiryDate) from Member m "
+            + "where (m.membershipExpiryDate, m.id) > (:afterDate, :afterId) and m.membershipExpiryDate <= :to "
+            + "order by m.membershipExpiryDate, m.id")
+    List<MemberExpiry> findExpiryKeysAfter(@Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+                                           @Param("to") LocalDate to, Limit limit);
+
+    /**
+     * Streams all members ordered by id, fetching rows from the database in chunks.
+     * Must be consumed inside a transaction; entities are loaded read-only and should be detached once written.
+     * @return a stream of all members
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from Member m order by m.id")
+    Stream<Member> streamAll();
+
+    /**
+     * Streams the members enrolled in a tournament ordered by id, fetching rows from the database in chunks.
+     * Must be consumed inside a transaction; entities are loaded read-only and should be detached once written.
+     * @param tournamentId the ID of the tournament
+     * @return a stream of the tournament's members
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m from Tournament t join t.members m where t.id = :tournamentId order by m.id")
+    Stream<Member> streamByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Streams the id and name of every member, for building the in-memory name index.
+     * @return a stream of (id, memberName) pairs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("select new com.chrisking.golfclub.dto.IndexedText(m.id, m.memberName) from Member m")
+    Stream<IndexedText> streamMemberNames();
 }
@@ -0,0 +1,175 @@
+package com.chrisking.golfclub.repository;
+
+import com.chrisking.golfclub.dto.MemberSearchCriteria;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query restrictions on members, combined into Criteria queries such as column projections.
+ * Each mirrors a derived or JPQL query of {@link MemberRepository}, so both use the same indexes.
+ */
+public final class MemberSpecifications {
+
+    // Parameters of the keyset seek, bound by the caller
+    public static final String AFTER_ID = "afterId";
+    public static final String AFTER_NAME = "afterName";
+
+    // Parameters of the combined search, bound from parameters(MemberSearchCriteria)
+    private static final String NAME_PATTERN = "namePattern";
+    private static final String MEMBERSHIP_TYPE = "membershipType";
+    private static final String PHONE_NUMBER = "phoneNumber";
+    private static final String TOURNAMENT_START_DATE = "tournamentStartDate";
+    private static final String MEMBERSHIP_START_FROM = "membershipStartFrom";
+    private static final String MEMBERSHIP_START_TO = "membershipStartTo";
+
+    private MemberSpecifications() {
+    }
+
+    /**
+     * @param ids the member IDs
+     * @return members with one of the given ids
+     */
+    public static Specification<Member> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Keyset seek in id order, with the last id as the {@link #AFTER_ID} parameter.
+     * @return members with a greater id
+     */
+    public static Specification<Member> idAfter() {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), cb.parameter(Long.class, AFTER_ID));
+    }
+
+    /**
+     * Keyset seek in (memberName, id) order, with the last position as the {@link #AFTER_NAME} and
+     * {@link #AFTER_ID} parameters.
+     * @return members following the given position in name order
+     */
+    public static Specification<Member> afterName() {
+        return (root, query, cb) -> {
+            ParameterExpression<String> memberName = cb.parameter(String.class, AFTER_NAME);
+            return cb.or(
+                    cb.greaterThan(root.get("memberName"), memberName),
+                    cb.and(cb.equal(root.get("memberName"), memberName),
+                            cb.greaterThan(root.get("id"), cb.parameter(Long.class, AFTER_ID))));
+        };
+    }
+
+    /**
+     * @param memberName the name or partial name to search for
+     * @return members whose name contains the text, ignoring case
+     */
+    public static Specification<Member> nameContains(String memberName) {
+        return (root, query, cb) -> cb.like(cb.upper(root.get("memberName")),
+                LikePatterns.containing(memberName), LikePatterns.ESCAPE);
+    }
+
+    /**
+     * @param membershipType the membership type to search for
+     * @return members with the membership type, ignoring case
+     */
+    public static Specification<Member> membershipTypeIs(String membershipType) {
+        return (root, query, cb) -> cb.equal(cb.upper(root.get("membershipType")), membershipType.toUpperCase());
+    }
+
+    /**
+     * Inner join, as in {@link MemberRepository#findByTournaments_StartDate}, so the start_date index can be used.
+     * @param startDate the tournament start date
+     * @return members playing in a tournament that starts on the date
+     */
+    public static Specification<Member> inTournamentStartingOn(LocalDate startDate) {
+        return (root, query, cb) -> {
+            Join<Member, Tournament> tournaments = root.join("tournaments");
+            return cb.equal(tournaments.get("startDate"), startDate);
+        };
+    }
+
+    /**
+     * Combines the filters that are set into one restriction. Filter values are named parameters rather than
+     * inline values, and filters are always added in the same order, so every search using the same filters
+     * produces an equal query and shares its cached plan. Bind the values with {@link #parameters}.
+     * @param criteria the search filters
+     * @return members matching every filter that is set
+     */
+    public static Specification<Member> matching(MemberSearchCriteria criteria) {
+        List<Specification<Member>> filters = new ArrayList<>();
+        if (criteria.name() != null) {
+            filters.add((root, query, cb) -> cb.like(cb.upper(root.get("memberName")),
+                    cb.parameter(String.class, NAME_PATTERN), LikePatterns.ESCAPE));
+        }
+        if (criteria.membershipType() != null) {
+            filters.add((root, query, cb) -> cb.equal(cb.upper(root.get("membershipType")),
+                    cb.parameter(String.class, MEMBERSHIP_TYPE)));
+        }
+        if (criteria.phoneNumber() != null) {
+            filters.add((root, query, cb) -> cb.equal(root.get("phoneNumber"),
+                    cb.parameter(String.class, PHONE_NUMBER)));
+        }
+        if (criteria.tournamentStartDate() != null) {
+            filters.add(playsInTournamentStartingOn());
+        }
+        if (criteria.membershipStartFrom() != null) {
+            filters.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("membershipStartDate"),
+                    cb.parameter(LocalDate.class, MEMBERSHIP_START_FROM)));
+        }
+        if (criteria.membershipStartTo() != null) {
+            filters.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("membershipStartDate"),
+                    cb.parameter(LocalDate.class, MEMBERSHIP_START_TO)));
+        }
+        return Specification.allOf(filters);
+    }
+
+    /**
+     * @param criteria the search filters
+     * @return the values of the parameters declared by {@link #matching} for the same criteria
+     */
+    public static Map<String, Object> parameters(MemberSearchCriteria criteria) {
+        Map<String, Object> parameters = new HashMap<>();
+        if (criteria.name() != null) {
+            parameters.put(NAME_PATTERN, LikePatterns.containing(criteria.name()));
+        }
+        if (criteria.membershipType() != null) {
+            parameters.put(MEMBERSHIP_TYPE, criteria.membershipType().toUpperCase());
+        }
+        if (criteria.phoneNumber() != null) {
+            parameters.put(PHONE_NUMBER, criteria.phoneNumber());
+        }
+        if (criteria.tournamentStartDate() != null) {
+            parameters.put(TOURNAMENT_START_DATE, criteria.tournamentStartDate());
+        }
+        if (criteria.membershipStartFrom() != null) {
+            parameters.put(MEMBERSHIP_START_FROM, criteria.membershipStartFrom());
+        }
+        if (criteria.membershipStartTo() != null) {
+            parameters.put(MEMBERSHIP_START_TO, criteria.membershipStartTo());
+        }
+        return parameters;
+    }
+
+    // Semi-join on the roster, so a member playing several tournaments on the date is still returned once
+    // and the restriction can be combined with sorting and paging
+    private static Specification<Member> playsInTournamentStartingOn() {
+        return (root, query, cb) -> {
+            Subquery<Long> roster = query.subquery(Long.class);
+            Root<Tournament> tournament = roster.from(Tournament.class);
+            Join<Tournament, Member> members = tournament.join("members");
+            roster.select(members.get("id")).where(
+                    cb.equal(tournament.get("startDate"), cb.parameter(LocalDate.class, TOURNAMENT_START_DATE)),
+                    cb.equal(members.get("id"), root.get("id")));
+            return cb.exists(roster);
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.chrisking.golfclub.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Nulls;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column projections for sparse fieldsets.
+ * Selects only the requested attributes with a Criteria tuple query and returns each row as a map,
+ * so no entity is instantiated, managed or lazily initialized.
+ * Specifications may declare named parameters instead of inline values; a query whose values are all
+ * parameters is equal across calls, so Hibernate reuses its cached plan.
+ */
+@Repository
+public class ProjectionRepository {
+
+    // Entity manager bound to the current transaction
+    private final EntityManager entityManager;
+
+    // Constructor injection for the shared EntityManager
+    public ProjectionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Reads the given attributes of the entities matching a specification.
+     * @param entityType the entity to query
+     * @param attributes the basic attributes to select; each becomes a key of the returned rows
+     * @param specification the restriction to apply
+     * @param sort the order of the rows; null handling of each order is honoured
+     * @param limit the maximum number of rows
+     * @return one map per row, keyed by attribute name in selection order
+     */
+    public <T> List<Map<String, Object>> findRows(Class<T> entityType,
+                                                  List<String> attributes,
+                                                  Specification<T> specification,
+                                                  Sort sort,
+                                                  Limit limit) {
+        return findRows(entityType, attributes, specification, Map.of(), sort, limit);
+    }
+
+    /**
+     * Reads the given attributes of the entities matching a parameterized specification.
+     * @param entityType the entity to query
+     * @param attributes the basic attributes to select; each becomes a key of the returned rows
+     * @param specification the restriction to apply
+     * @param parameters the values of the named parameters the specification declares
+     * @param sort the order of the rows; null handling of each order is honoured
+     * @param limit the maximum number of rows
+     * @return one map per row, keyed by attribute name in selection order
+     */
+    public <T> List<Map<String, Object>> findRows(Class<T> entityType,
+                                                  List<String> attributes,
+                                                  Specification<T> specification,
+                                                  Map<String, ?> parameters,
+                                                  Sort sort,
+                                                  Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        query.select(cb.tuple(selections));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, cb));
+
+        TypedQuery<Tuple> typedQuery = prepare(entityManager.createQuery(query), parameters, limit);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String attribute : attributes) {
+                row.put(attribute, tuple.get(attribute));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Reads the entities matching a parameterized specification.
+     * @param entityType the entity to query
+     * @param specification the restriction to apply
+     * @param parameters the values of the named parameters the specification declares
+     * @param sort the order of the entities; null handling of each order is honoured
+     * @param limit the maximum number of entities
+     * @return the matching entities in order
+     */
+    public <T> List<T> findAll(Class<T> entityType,
+                               Specification<T> specification,
+                               Map<String, ?> parameters,
+                               Sort sort,
+                               Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, cb));
+        return prepare(entityManager.createQuery(query), parameters, limit).getResultList();
+    }
+
+    private static <R> TypedQuery<R> prepare(TypedQuery<R> query, Map<String, ?> parameters, Limit limit) {
+        parameters.forEach(query::setParameter);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query;
+    }
+
+    private static List<Order> toOrders(Sort sort, Root<?> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = root.get(order.getProperty());
+            Nulls nulls = switch (order.getNullHandling()) {
+                case NULLS_FIRST -> Nulls.FIRST;
+                case NULLS_LAST -> Nulls.LAST;
+                case NATIVE -> Nulls.NONE;
+            };
+            orders.add(order.isAscending() ? cb.asc(path, nulls) : cb.desc(path, nulls));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,39 @@
+package com.chrisking.golfclub.repository;
+
+import com.chrisking.golfclub.model.RenewalNotice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for RenewalNotice entity.
+ * Provides database access operations for the notices raised by the renewal job.
+ */
+public interface RenewalNoticeRepository extends JpaRepository<RenewalNotice, Long> {
+
+    /**
+     * Raises a renewal notice for each of the given members at their current expiry date, in one statement.
+     * Members that already have a notice for that expiry date are skipped, so a chunk can be replayed safely.
+     * @param memberIds the IDs of the members
+     * @param now the creation time of the notices
+     * @return the number of notices created
+     */
+    @Modifying
+    @Query(value = "INSERT INTO renewal_notices (member_id, expiry_date, created_at) "
+            + "SELECT m.id, m.membership_expiry_date, :now FROM members m "
+            + "WHERE m.id IN (:memberIds) AND m.membership_expiry_date IS NOT NULL "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertForMembers(@Param("memberIds") Collection<Long> memberIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds all renewal notices of a member.
+     * @param memberId the ID of the member
+     * @return the member's notices ordered by expiry date
+     */
+    List<RenewalNotice> findByMemberIdOrderByExpiryDateAsc(Long memberId);
+}
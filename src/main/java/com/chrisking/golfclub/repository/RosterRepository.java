@@ -0,0 +1,89 @@
+package com.chrisking.golfclub.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based writes to the tournament_members join table that need more than Spring Data can express.
+ * Roster rows are inserted with one statement that reports which rows it actually wrote, so members
+ * a concurrent transaction enrolled first are not mistaken for new ones. Likewise, the seats left on a
+ * tournament are claimed with one statement that reports how many it took.
+ */
+@Repository
+public class RosterRepository {
+
+    // PostgreSQL returns the inserted rows from the INSERT itself
+    private static final String INSERT_RETURNING = "INSERT INTO tournament_members (tournament_id, member_id) "
+            + "SELECT :tournamentId, m.id FROM members m WHERE m.id IN (:memberIds) "
+            + "ON CONFLICT DO NOTHING RETURNING member_id";
+
+    // H2 has no RETURNING clause; its data change delta table gives the same rows
+    private static final String INSERT_FINAL_TABLE = "SELECT member_id FROM FINAL TABLE ("
+            + "INSERT INTO tournament_members (tournament_id, member_id) "
+            + "SELECT :tournamentId, m.id FROM members m WHERE m.id IN (:memberIds) "
+            + "ON CONFLICT DO NOTHING)";
+
+    // PostgreSQL computes the claim from the locked row and returns it from the UPDATE itself
+    private static final String CLAIM_RETURNING = "UPDATE tournaments t "
+            + "SET registered_players = t.registered_players + c.claimed, "
+            + "version = t.version + 1, roster_version = t.roster_version + 1 "
+            + "FROM (SELECT id, LEAST(:seats, COALESCE(max_players - registered_players, :seats)) AS claimed "
+            + "FROM tournaments WHERE id = :tournamentId FOR UPDATE) c "
+            + "WHERE t.id = c.id AND c.claimed > 0 RETURNING c.claimed";
+
+    // H2 reports the claim from the pre-update row of its data change delta table
+    private static final String CLAIM_OLD_TABLE = "SELECT LEAST(:seats, COALESCE(max_players - registered_players, "
+            + ":seats)) FROM OLD TABLE (UPDATE tournaments "
+            + "SET registered_players = registered_players + LEAST(:seats, COALESCE(max_players - registered_players, "
+            + ":seats)), version = version + 1, roster_version = roster_version + 1 "
+            + "WHERE id = :tournamentId AND (max_players IS NULL OR registered_players < max_players))";
+
+    // Entity manager bound to the current transaction
+    private final EntityManager entityManager;
+
+    // Constructor injection for the shared EntityManager
+    public RosterRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Adds members to a tournament's roster with one set-based statement, without loading either side
+     * of the association. Ids without a member and members already on the roster are skipped.
+     * @param tournamentId the ID of the tournament
+     * @param memberIds the IDs of the members to add
+     * @return the IDs of the members whose roster rows this statement inserted, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> insertRosterEntries(Long tournamentId, Collection<Long> memberIds) {
+        return entityManager.createNativeQuery(isH2() ? INSERT_FINAL_TABLE : INSERT_RETURNING, Long.class)
+                .setParameter("tournamentId", tournamentId)
+                .setParameter("memberIds", memberIds)
+                .getResultList();
+    }
+
+    /**
+     * Claims as many of the requested seats as the tournament has left, with one conditional update.
+     * Like {@link TournamentRepository#claimSeats}, it locks only the tournament row and bumps the
+     * tournament's version and roster version.
+     * @param tournamentId the ID of the tournament
+     * @param seats the number of seats wanted
+     * @return the number of seats claimed, 0 if the tournament is full (or does not exist)
+     */
+    public int claimAvailableSeats(Long tournamentId, int seats) {
+        List<?> claimed = entityManager.createNativeQuery(isH2() ? CLAIM_OLD_TABLE : CLAIM_RETURNING, Integer.class)
+                .setParameter("tournamentId", tournamentId)
+                .setParameter("seats", seats)
+                .getResultList();
+        return claimed.isEmpty() ? 0 : ((Number) claimed.get(0)).intValue();
+    }
+
+    private boolean isH2() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof H2Dialect;
+    }
+}
@@ -0,0 +1,35 @@
+package com.chrisking.golfclub.repository;
+
+import com.chrisking.golfclub.dto.RecordedScore;
+import com.chrisking.golfclub.model.ScoreEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for ScoreEvent entity.
+ * Provides database access operations for the persisted hole scores.
+ */
+public interface ScoreEventRepository extends JpaRepository<ScoreEvent, Long> {
+
+    /**
+     * Streams the scores of every persisted event in the order they were written, for rebuilding the
+     * in-memory leaderboards.
+     * @return a stream of recorded scores ordered by event id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.chrisking.golfclub.dto.RecordedScore(e.tournamentId, e.memberId, e.hole, e.strokes, "
+            + "e.par) from ScoreEvent e order by e.id")
+    Stream<RecordedScore> streamRecordedScores();
+
+    /**
+     * Counts the persisted score events of a tournament.
+     * @param tournamentId the ID of the tournament
+     * @return the number of events
+     */
+    long countByTournamentId(Long tournamentId);
+}
@@ -1,10 +1,26 @@
 package com.chrisking.golfclub.repository;
 
+import com.chrisking.golfclub.dto.IndexedDateRange;
+import com.chrisking.golfclub.dto.IndexedText;
+import com.chrisking.golfclub.dto.MemberTournamentRow;
+import com.chrisking.golfclub.dto.RosterEntry;
+import com.chrisking.golfclub.dto.RosterVersion;
+import com.chrisking.golfclub.dto.TournamentStats;
 import com.chrisking.golfclub.model.Tournament;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Tournament entity.
@@ -20,10 +36,216 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long> {
      */
     List<Tournament> findByStartDate(LocalDate startDate);
 
+    /**
+     * Finds the tournaments running on at least one day of a date range, ordered by start date.
+     * A tournament without an end date runs on its start date only.
+     * Used when the in-memory interval index is not available.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of tournaments to return
+     * @return the overlapping tournaments, ordered by start date, end date and id
+     */
+    @Query("select t from Tournament t where t.startDate <= :to and coalesce(t.endDate, t.startDate) >= :from "
+            + "order by t.startDate, coalesce(t.endDate, t.startDate), t.id")
+    List<Tournament> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
     /**
      * Finds all tournaments whose location contains the specified string (case-insensitive).
      * @param location the location or partial location to search for
      * @return list of tournaments matching the location criteria
      */
     List<Tournament> findByLocationContainingIgnoreCase(String location);
+
+    /**
+     * Finds tournaments whose location contains the specified string (case-insensitive), limited and ordered
+     * by location. Used when the in-memory location index is not available.
+     * @param location the location or partial location to search for
+     * @param limit the maximum number of tournaments to return
+     * @return list of tournaments matching the location criteria
+     */
+    List<Tournament> findByLocationContainingIgnoreCaseOrderByLocationAscIdAsc(String location, Limit limit);
+
+    /**
+     * Streams the id and location of every tournament, for building the in-memory location index.
+     * @return a stream of (id, location) pairs
+     */
+    @Query("select new com.chrisking.golfclub.dto.IndexedText(t.id, t.location) from Tournament t")
+    Stream<IndexedText> streamLocations();
+
+    /**
+     * Streams the id and dates of every tournament, for building the in-memory interval index.
+     * @return a stream of (id, start date, end date) triples
+     */
+    @Query("select new com.chrisking.golfclub.dto.IndexedDateRange(t.id, t.startDate, t.endDate) from Tournament t")
+    Stream<IndexedDateRange> streamDateRanges();
+
+    /**
+     * Streams every (tournament, member) pair of the rosters, for building the in-memory roster index.
+     * @return a stream of roster entries
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.chrisking.golfclub.dto.RosterEntry(t.id, m.id) from Tournament t join t.members m")
+    Stream<RosterEntry> streamRosterEntries();
+
+    /**
+     * Streams the finance figures of every tournament, for reconciling the club statistics.
+     * The players are counted from the roster rows rather than read from the registered players counter, so
+     * a counter that drifted from the roster is corrected too.
+     * @return a stream of per-tournament figures
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.chrisking.golfclub.dto.TournamentStats(t.id, t.entryFee, t.cashPrizeAmount, "
+            + "count(m)) from Tournament t left join t.members m group by t.id, t.entryFee, t.cashPrizeAmount")
+    Stream<TournamentStats> streamTournamentStats();
+
+    /**
+     * Returns which of the given ids belong to a tournament.
+     * @param ids the ids to check
+     * @return the subset of ids that exist
+     */
+    @Query("select t.id from Tournament t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page of the members on every one of the given rosters, ordered by id.
+     * Used when the in-memory roster index is not available.
+     * @param tournamentIds the distinct IDs of the tournaments
+     * @param operands the number of tournament ids
+     * @param afterId the last member id of the previous page, or 0 for the first page
+     * @param limit the maximum number of ids to return
+     * @return the ids of the members playing in all the tournaments
+     */
+    @Query("select m.id from Tournament t join t.members m where t.id in :tournamentIds and m.id > :afterId "
+            + "group by m.id having count(t.id) = :operands order by m.id")
+    List<Long> findMemberIdsInAll(@Param("tournamentIds") Collection<Long> tournamentIds,
+                                  @Param("operands") long operands, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Keyset page of the members on at least one of the given rosters, ordered by id.
+     * Used when the in-memory roster index is not available.
+     * @param tournamentIds the IDs of the tournaments
+     * @param afterId the last member id of the previous page, or 0 for the first page
+     * @param limit the maximum number of ids to return
+     * @return the ids of the members playing in any of the tournaments
+     */
+    @Query("select distinct m.id from Tournament t join t.members m where t.id in :tournamentIds "
+            + "and m.id > :afterId order by m.id")
+    List<Long> findMemberIdsInAny(@Param("tournamentIds") Collection<Long> tournamentIds,
+                                  @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Keyset page of the members on one roster and on none of the excluded ones, ordered by id.
+     * Used when the in-memory roster index is not available.
+     * @param tournamentId the ID of the tournament
+     * @param excludedIds the IDs of the tournaments whose members are left out, at least one
+     * @param afterId the last member id of the previous page, or 0 for the first page
+     * @param limit the maximum number of ids to return
+     * @return the ids of the members playing in the tournament but not in the excluded ones
+     */
+    @Query("select m.id from Tournament t join t.members m where t.id = :tournamentId and m.id > :afterId "
+            + "and not exists (select 1 from Tournament x join x.members xm where xm.id = m.id "
+            + "and x.id in :excludedIds) order by m.id")
+    List<Long> findMemberIdsInFirstOnly(@Param("tournamentId") Long tournamentId,
+                                        @Param("excludedIds") Collection<Long> excludedIds,
+                                        @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Keyset page ordered by id: the first tournaments, or those after the given id.
+     * @param id the id of the last tournament of the previous page
+     * @param limit the maximum number of tournaments to return
+     * @return tournaments with an id greater than the given one, ordered by id
+     */
+    List<Tournament> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * First keyset page ordered by location, ties broken by id; tournaments without a location come last.
+     * @param limit the maximum number of tournaments to return
+     * @return the first tournaments in location order
+     */
+    @Query("select t from Tournament t order by t.location nulls last, t.id")
+    List<Tournament> findFirstPageByLocation(Limit limit);
+
+    /**
+     * Keyset page ordered by location: seeks past the (location, id) of the last tournament of the previous page.
+     * Tournaments without a location sort last, so they always follow a non-null position.
+     * @param location the location of the last tournament of the previous page
+     * @param id the id of the last tournament of the previous page
+     * @param limit the maximum number of tournaments to return
+     * @return the tournaments following the given position in location order
+     */
+    @Query("select t from Tournament t where (t.location, t.id) > (:location, :id) or t.location is null "
+            + "order by t.location nulls last, t.id")
+    List<Tournament> findPageAfterLocation(@Param("location") String location, @Param("id") Long id, Limit limit);
+
+    /**
+     * Keyset page within the trailing tournaments that have no location, ordered by id.
+     * @param id the id of the last tournament of the previous page
+     * @param limit the maximum number of tournaments to return
+     * @return tournaments without a location and with an id greater than the given one
+     */
+    List<Tournament> findByLocationIsNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Reads only a tournament's version, to answer conditional requests without loading the tournament.
+     * @param id the tournament ID
+     * @return the version, or empty if there is no such tournament
+     */
+    @Query("select t.version from Tournament t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads what a tournament's roster response depends on with one aggregate query over the roster,
+     * without loading the members or their tournament summaries.
+     * @param tournamentId the ID of the tournament
+     * @return the roster version, member count and sum of member versions, or empty if there is no such tournament
+     */
+    @Query("select new com.chrisking.golfclub.dto.RosterVersion(t.rosterVersion, count(m.id), "
+            + "coalesce(sum(m.version), 0L)) from Tournament t left join t.members m where t.id = :tournamentId group by t.id, t.rosterVersion")
+    Optional<RosterVersion> findRosterVersion(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Reads the tournament summaries of a batch of members in a single query.
+     * @param memberIds the IDs of the members
+     * @return one row per (member, tournament) pair, ordered by start date within each member
+     */
+    @Query("select new com.chrisking.golfclub.dto.MemberTournamentRow(m.id, t.id, t.startDate, t.endDate, t.location) "
+            + "from Tournament t join t.members m where m.id in :memberIds order by m.id, t.startDate, t.id")
+    List<MemberTournamentRow> findSummariesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * Returns which of the given members are already on a tournament's roster.
+     * @param tournamentId the ID of the tournament
+     * @param memberIds the IDs of the members to check
+     * @return the subset of member ids already enrolled
+     */
+    @Query(value = "SELECT member_id FROM tournament_members WHERE tournament_id = :tournamentId "
+            + "AND member_id IN (:memberIds)", nativeQuery = true)
+    List<Long> findEnrolledMemberIds(@Param("tournamentId") Long tournamentId,
+                                     @Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * Atomically claims seats on a tournament if its capacity allows it.
+     * The conditional update locks only the tournament row, so concurrent registrations for the same
+     * tournament queue on it briefly and can never over-subscribe the field.
+     * Bumps the tournament's version and roster version, which back the ETags of its read endpoints.
+     * @param tournamentId the ID of the tournament
+     * @param seats the number of seats to claim
+     * @return 1 if the seats were claimed, 0 if the tournament is full (or does not exist)
+     */
+    @Modifying
+    @Query("update Tournament t set t.registeredPlayers = t.registeredPlayers + :seats, "
+            + "t.version = t.version + 1, t.rosterVersion = t.rosterVersion + 1 "
+            + "where t.id = :tournamentId and (t.maxPlayers is null or t.registeredPlayers + :seats <= t.maxPlayers)")
+    int claimSeats(@Param("tournamentId") Long tournamentId, @Param("seats") int seats);
+
+    /**
+     * Gives back seats claimed earlier in the same transaction that turned out not to be needed.
+     * @param tournamentId the ID of the tournament
+     * @param seats the number of seats to release
+     * @return the number of tournaments updated
+     */
+    @Modifying
+    @Query("update Tournament t set t.registeredPlayers = t.registeredPlayers - :seats, t.version = t.version + 1 "
+            + "where t.id = :tournamentId")
+    int releaseSeats(@Param("tournamentId") Long tournamentId, @Param("seats") int seats);
 }
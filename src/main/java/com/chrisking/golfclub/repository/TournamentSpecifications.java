@@ -0,0 +1,73 @@
+package com.chrisking.golfclub.repository;
+
+import com.chrisking.golfclub.model.Tournament;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Query restrictions on tournaments, combined into Criteria queries such as column projections.
+ * Each mirrors a derived or JPQL query of {@link TournamentRepository}, so both use the same indexes.
+ */
+public final class TournamentSpecifications {
+
+    private TournamentSpecifications() {
+    }
+
+    /**
+     * @param ids the tournament IDs
+     * @return tournaments with one of the given ids
+     */
+    public static Specification<Tournament> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * @param id the id of the last tournament of the previous page
+     * @return tournaments with a greater id
+     */
+    public static Specification<Tournament> idAfter(long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Keyset seek in (location nulls last, id) order, from a tournament that has a location.
+     * Tournaments without a location sort last, so they always follow.
+     * @param location the location of the last tournament of the previous page
+     * @param id the id of the last tournament of the previous page
+     * @return tournaments following the given position in location order
+     */
+    public static Specification<Tournament> afterLocation(String location, long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("location"), location),
+                cb.and(cb.equal(root.get("location"), location), cb.greaterThan(root.get("id"), id)),
+                cb.isNull(root.get("location")));
+    }
+
+    /**
+     * Keyset seek within the trailing tournaments that have no location.
+     * @param id the id of the last tournament of the previous page
+     * @return tournaments without a location and with a greater id
+     */
+    public static Specification<Tournament> withoutLocationAfter(long id) {
+        return (root, query, cb) -> cb.and(cb.isNull(root.get("location")), cb.greaterThan(root.get("id"), id));
+    }
+
+    /**
+     * @param location the location or partial location to search for
+     * @return tournaments whose location contains the text, ignoring case
+     */
+    public static Specification<Tournament> locationContains(String location) {
+        return (root, query, cb) -> cb.like(cb.upper(root.get("location")),
+                LikePatterns.containing(location), LikePatterns.ESCAPE);
+    }
+
+    /**
+     * @param startDate the start date
+     * @return tournaments starting on the date
+     */
+    public static Specification<Tournament> startsOn(LocalDate startDate) {
+        return (root, query, cb) -> cb.equal(root.get("startDate"), startDate);
+    }
+}
@@ -0,0 +1,78 @@
+package com.chrisking.golfclub.service;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Fills a cache from database loads that may race with writes to the loaded rows.
+ * A load that started before a write committed returns the old state; putting it after the write's
+ * eviction would serve that state until the entry expires. Every write bumps a stamp for its key once it
+ * has committed and then evicts the key, and a load re-reads the stamp after its put: if a write committed
+ * since the load started, the load takes its value back out of the cache.
+ * Stamps are striped, so a write occasionally discards the fill of an unrelated key, which only costs that
+ * key another load.
+ * @param <K> the key type
+ * @param <V> the cached value type, shared between callers and therefore expected to be immutable
+ */
+public class CacheFill<K, V> {
+
+    private static final int STRIPES = 1024;
+
+    // Write count per stripe of keys
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    private final Cache cache;
+
+    private final Class<V> type;
+
+    /**
+     * Creates a cache fill over the given cache.
+     * @param cache the cache to read and fill
+     * @param type the type of the cached values
+     */
+    public CacheFill(Cache cache, Class<V> type) {
+        this.cache = cache;
+        this.type = type;
+    }
+
+    /**
+     * Returns the cached value for the key, or loads it and caches it unless a write raced with the load.
+     * @param key the key to look up
+     * @param loader the load to run on a miss; returns null when there is nothing to cache
+     * @return the cached or loaded value, or null if the loader found nothing
+     */
+    public V get(K key, Supplier<V> loader) {
+        V cached = cache.get(key, type);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(key);
+        long stamp = stamps.get(stripe);
+        V loaded = loader.get();
+        if (loaded != null) {
+            // Unlike put, putIfAbsent is applied at once even inside a transaction, before the stamp is re-read
+            cache.putIfAbsent(key, loaded);
+            if (stamps.get(stripe) != stamp) {
+                cache.evictIfPresent(key);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the key from the cache after a write to it has committed, and keeps loads that started before
+     * the write from caching what they read. Must be called after the commit, not from within the transaction.
+     * @param key the key that was written
+     */
+    public void invalidate(K key) {
+        stamps.incrementAndGet(stripe(key));
+        cache.evictIfPresent(key);
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
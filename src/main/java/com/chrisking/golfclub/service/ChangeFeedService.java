@@ -0,0 +1,346 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ChangeEvent;
+import com.chrisking.golfclub.dto.ChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed member, tournament and roster changes to server-sent event subscribers.
+ * <p>
+ * The most recent events are kept in a ring buffer, so a client that reconnects with the id of the last event
+ * it saw receives what it missed; when those events have already left the buffer it gets a "reset" event and
+ * reloads instead. Each subscriber has a bounded queue drained by a small pool of sender threads, so
+ * publishing never waits on a client. A subscriber that falls a whole queue behind is disconnected; its
+ * client reconnects with its last event id and catches up from the buffer.
+ */
+@Service
+public class ChangeFeedService {
+
+    // Name of the event telling a resuming client that events it missed are gone and it must reload
+    public static final String RESET_EVENT = "reset";
+
+    // Numbers the sender threads
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    // Events kept for resuming subscribers, indexed by id modulo the capacity; guarded by itself
+    private final ChangeEvent[] ring;
+
+    // Current subscribers; changed only while holding the ring's lock
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Runs the per-subscriber drains
+    private final Executor senders;
+
+    // Events a subscriber may fall behind by before it is disconnected
+    private final int subscriberBuffer;
+
+    // How long a subscription stays open; clients reconnect after it times out
+    private final long timeoutMillis;
+
+    // Subscribers disconnected for falling behind
+    private final Counter dropped;
+
+    // Id of the last event published. Seeded from the clock so ids keep increasing across restarts and an id
+    // from before a restart is never mistaken for a later event
+    private long sequence = System.currentTimeMillis() * 1000;
+
+    // Id of the oldest event ever published by this instance
+    private final long firstId = sequence + 1;
+
+    // Constructor injection for the metrics registry and the buffer settings
+    @Autowired
+    public ChangeFeedService(MeterRegistry meterRegistry,
+                             @Value("${golfclub.changes.buffer-size:1024}") int bufferSize,
+                             @Value("${golfclub.changes.subscriber-buffer:256}") int subscriberBuffer,
+                             @Value("${golfclub.changes.sender-threads:4}") int senderThreads,
+                             @Value("${golfclub.changes.timeout:30m}") Duration timeout) {
+        this(meterRegistry, bufferSize, subscriberBuffer, timeout, Executors.newFixedThreadPool(senderThreads,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "change-feed-sender-" + THREADS.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    // Constructor for tests that control when sends happen
+    ChangeFeedService(MeterRegistry meterRegistry, int bufferSize, int subscriberBuffer, Duration timeout,
+                      Executor senders) {
+        this.ring = new ChangeEvent[bufferSize];
+        this.subscriberBuffer = subscriberBuffer;
+        this.timeoutMillis = timeout.toMillis();
+        this.senders = senders;
+        this.dropped = Counter.builder("golfclub.changes.subscribers.dropped")
+                .description("Change feed subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("golfclub.changes.subscribers", subscribers, List::size)
+                .description("Open change feed subscriptions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes a change once the current transaction commits, or right away outside a transaction,
+     * so a rolled-back write is never announced.
+     * @param type the kind of change
+     * @param data the changed member, tournament or roster
+     */
+    public void publishAfterCommit(ChangeType type, Object data) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(type, data);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(type, data);
+            }
+        });
+    }
+
+    /**
+     * Assigns the next event id to a change, keeps it in the ring buffer and queues it for every subscriber.
+     * Subscribers whose queue is full are disconnected.
+     * @param type the kind of change
+     * @param data the changed member, tournament or roster
+     * @return the published event
+     */
+    public ChangeEvent publish(ChangeType type, Object data) {
+        List<Subscriber> behind = new ArrayList<>();
+        ChangeEvent event;
+        synchronized (ring) {
+            event = new ChangeEvent(++sequence, type, data);
+            ring[slot(event.id())] = event;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(toSse(event))) {
+                    behind.add(subscriber);
+                }
+            }
+            subscribers.removeAll(behind);
+        }
+        for (Subscriber subscriber : behind) {
+            dropped.increment();
+            subscriber.close(true);
+        }
+        return event;
+    }
+
+    /**
+     * Opens a subscription, first replaying the buffered events after the given one.
+     * Registration and replay happen under the publication lock, so no event is missed or sent twice.
+     * @param lastEventId the Last-Event-ID sent by a reconnecting client, or null for live events only
+     * @return the emitter to return from the request handler
+     * @throws IllegalArgumentException if the last event id is not a number
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Long after = parseEventId(lastEventId);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber;
+        synchronized (ring) {
+            List<SseEventBuilder> replay = replay(after);
+            // The replay may be as long as the ring; live events get the usual room on top of it
+            subscriber = new Subscriber(emitter, replay.size() + subscriberBuffer);
+            replay.forEach(subscriber::offer);
+            subscribers.add(subscriber);
+        }
+        Runnable remove = () -> {
+            subscribers.remove(subscriber);
+            subscriber.close(false);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     * @return the subscriber count
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Sends a comment to every subscriber that is keeping up, so idle connections are not closed by proxies
+     * and clients that went away are noticed.
+     */
+    @Scheduled(fixedDelayString = "${golfclub.changes.heartbeat-interval:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerIfRoom(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Closes every subscription as soon as shutdown begins, so open streams do not hold up the web server's
+     * graceful shutdown; clients reconnect to another instance or after the restart.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeSubscriptions() {
+        List<Subscriber> closing;
+        synchronized (ring) {
+            closing = new ArrayList<>(subscribers);
+            subscribers.clear();
+        }
+        closing.forEach(subscriber -> subscriber.close(true));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    // Buffered events after the given id, or a reset event when some of them have already been overwritten.
+    // Must hold the ring's lock.
+    private List<SseEventBuilder> replay(Long after) {
+        List<SseEventBuilder> replay = new ArrayList<>();
+        if (after == null || after == sequence) {
+            return replay;
+        }
+        long oldest = Math.max(firstId, sequence - ring.length + 1);
+        if (after < oldest - 1 || after > sequence) {
+            replay.add(SseEmitter.event().id(String.valueOf(sequence)).name(RESET_EVENT).data("reload"));
+            return replay;
+        }
+        for (long id = after + 1; id <= sequence; id++) {
+            replay.add(toSse(ring[slot(id)]));
+        }
+        return replay;
+    }
+
+    private int slot(long id) {
+        return (int) Math.floorMod(id, (long) ring.length);
+    }
+
+    private static SseEventBuilder toSse(ChangeEvent event) {
+        return SseEmitter.event().id(String.valueOf(event.id())).name(event.type().getEventName()).data(event.data());
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid Last-Event-ID: " + lastEventId);
+        }
+    }
+
+    // One subscription: a bounded queue of events and a drain that is scheduled on the sender pool whenever
+    // the queue becomes non-empty, so at most one thread writes to the emitter at a time
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final int capacity;
+
+        // Guarded by this
+        private final Queue<SseEventBuilder> pending = new ArrayDeque<>();
+
+        private boolean draining;
+
+        // Once set, nothing more is queued; completeEmitter says whether the drain should complete the response
+        private boolean closed;
+
+        private boolean completeEmitter;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        // Returns false when the queue is full
+        synchronized boolean offer(SseEventBuilder event) {
+            if (closed) {
+                return true;
+            }
+            if (pending.size() >= capacity) {
+                return false;
+            }
+            pending.add(event);
+            scheduleDrain();
+            return true;
+        }
+
+        synchronized void offerIfRoom(SseEventBuilder event) {
+            if (!closed && pending.size() < capacity) {
+                pending.add(event);
+                scheduleDrain();
+            }
+        }
+
+        // Drops the queued events; the drain completes the response unless the container already ended it
+        synchronized void close(boolean complete) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            completeEmitter = complete;
+            pending.clear();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining) {
+                draining = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEventBuilder next;
+                synchronized (this) {
+                    next = pending.poll();
+                    if (next == null) {
+                        draining = false;
+                        if (closed && completeEmitter) {
+                            completeEmitter = false;
+                            emitter.complete();
+                        }
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException ex) {
+                    // The client went away; the emitter's error callback unsubscribes it
+                    emitter.completeWithError(ex);
+                    synchronized (this) {
+                        closed = true;
+                        pending.clear();
+                        draining = false;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chrisking.golfclub.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV reader used by the bulk member import.
+ * Reads one record at a time, so large uploads are never held in memory as a whole.
+ * Supports quoted fields with embedded separators, doubled quotes and line breaks, and skips the UTF-8 byte
+ * order mark that spreadsheet exports start with.
+ */
+class CsvRecordReader implements Closeable {
+
+    // Buffered source of characters
+    private final BufferedReader reader;
+
+    // Whether the first record, which may follow a byte order mark, has been read
+    private boolean started;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the next record.
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException if reading fails or a quoted field is not terminated
+     */
+    List<String> next() throws IOException {
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        while (c == '\r' || c == '\n') {
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,155 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ExportFormat;
+import com.chrisking.golfclub.dto.MemberRow;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service class for streaming member exports.
+ * Rows are read from a database cursor and written to the response one at a time,
+ * so memory use stays constant regardless of how many members are exported.
+ */
+@Service
+public class MemberExportService {
+
+    // CSV header, in the same column order as MemberRow
+    static final String CSV_HEADER =
+            "id,memberName,address,email,phoneNumber,membershipStartDate,membershipDurationMonths,membershipType";
+
+    // Size of the output buffer in front of the response stream
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Repository dependency for member data access
+    private final MemberRepository memberRepository;
+
+    // Repository dependency for tournament data access
+    private final TournamentRepository tournamentRepository;
+
+    // Entity manager used to detach rows once they are written
+    private final EntityManager entityManager;
+
+    // JSON mapper used for NDJSON rows
+    private final ObjectMapper objectMapper;
+
+    // How long an export may keep streaming before its request times out
+    private final Duration requestTimeout;
+
+    // Constructor injection for the export dependencies and the request timeout
+    public MemberExportService(MemberRepository memberRepository,
+                               TournamentRepository tournamentRepository,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               @Value("${golfclub.export.request-timeout:30m}") Duration requestTimeout) {
+        this.memberRepository = memberRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns how long an export request may stream, which is much longer than other asynchronous requests.
+     * @return the export request timeout
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Checks whether a tournament exists, so a roster export can fail with 404 before streaming starts.
+     * @param tournamentId the ID of the tournament
+     * @return true if the tournament exists
+     */
+    public boolean tournamentExists(Long tournamentId) {
+        return tournamentRepository.existsById(tournamentId);
+    }
+
+    /**
+     * Writes every member to the output stream in the given format.
+     * @param format the output format
+     * @param out the response stream
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public void exportAllMembers(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Member> members = memberRepository.streamAll()) {
+            writeRows(members, format, out);
+        }
+    }
+
+    /**
+     * Writes the members enrolled in a tournament to the output stream in the given format.
+     * @param tournamentId the ID of the tournament
+     * @param format the output format
+     * @param out the response stream
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public void exportTournamentMembers(Long tournamentId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Member> members = memberRepository.streamByTournamentId(tournamentId)) {
+            writeRows(members, format, out);
+        }
+    }
+
+    // Writes each row as it is read and detaches it, so the persistence context never grows
+    private void writeRows(Stream<Member> members, ExportFormat format, OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            buffered.write((CSV_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        Iterator<Member> iterator = members.iterator();
+        while (iterator.hasNext()) {
+            Member member = iterator.next();
+            MemberRow row = MemberRow.of(member);
+            entityManager.detach(member);
+
+            if (format == ExportFormat.CSV) {
+                buffered.write(toCsvLine(row).getBytes(StandardCharsets.UTF_8));
+            } else {
+                buffered.write(objectMapper.writeValueAsBytes(row));
+                buffered.write('\n');
+            }
+        }
+        buffered.flush();
+    }
+
+    // Formats one CSV line, quoting values that contain separators, quotes or line breaks
+    private static String toCsvLine(MemberRow row) {
+        return String.join(",",
+                csv(row.id()),
+                csv(row.memberName()),
+                csv(row.address()),
+                csv(row.email()),
+                csv(row.phoneNumber()),
+                csv(row.membershipStartDate()),
+                csv(row.membershipDurationMonths()),
+                csv(row.membershipType())) + "\n";
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,254 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ImportResult;
+import com.chrisking.golfclub.dto.ImportRowResult;
+import com.chrisking.golfclub.dto.ImportRowStatus;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for bulk member imports.
+ * Rows are written in chunks, each chunk in its own transaction, so Hibernate can send JDBC batch inserts
+ * and a bad row never aborts the whole load. Duplicate emails are detected per chunk with one lookup query
+ * and reported per row instead of failing the import. Created members are added to the club statistics as
+ * each chunk commits.
+ */
+@Service
+public class MemberImportService {
+
+    // Repository dependency for member data access
+    private final MemberRepository memberRepository;
+
+    // Keeps the member counts of the club statistics
+    private final StatsService statsService;
+
+    // Runs each chunk in its own transaction
+    private final TransactionTemplate transactionTemplate;
+
+    // Number of rows written per transaction
+    private final int chunkSize;
+
+    // Constructor injection for the repository, statistics, transaction manager and chunk size
+    public MemberImportService(MemberRepository memberRepository,
+                               StatsService statsService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${golfclub.import.chunk-size:500}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.statsService = statsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports a list of members, e.g. from a JSON array.
+     * @param members the members to create
+     * @return the summary and per-row results
+     */
+    public ImportResult importMembers(List<Member> members) {
+        ImportRun run = new ImportRun();
+        for (Member member : members) {
+            run.add(member);
+        }
+        return run.finish();
+    }
+
+    /**
+     * Imports members from a CSV document with a header row.
+     * Columns are matched by header name and use the same names as the CSV export; an id column is ignored.
+     * @param in the CSV content (UTF-8)
+     * @return the summary and per-row results
+     * @throws IOException if the content cannot be read or has no header row
+     */
+    public ImportResult importCsv(InputStream in) throws IOException {
+        ImportRun run = new ImportRun();
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IOException("CSV content has no header row");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                try {
+                    run.add(toMember(record, columns));
+                } catch (IllegalArgumentException ex) {
+                    run.reject(ex.getMessage());
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    // Maps a CSV record onto a new member
+    private static Member toMember(List<String> record, Map<String, Integer> columns) {
+        Member member = new Member();
+        member.setMemberName(column(record, columns, "memberName"));
+        member.setAddress(column(record, columns, "address"));
+        member.setEmail(column(record, columns, "email"));
+        member.setPhoneNumber(column(record, columns, "phoneNumber"));
+        member.setMembershipType(column(record, columns, "membershipType"));
+
+        String startDate = column(record, columns, "membershipStartDate");
+        String duration = column(record, columns, "membershipDurationMonths");
+        try {
+            member.setMembershipStartDate(startDate == null ? null : LocalDate.parse(startDate));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid membershipStartDate '" + startDate + "'");
+        }
+        try {
+            member.setMembershipDurationMonths(duration == null ? null : Integer.valueOf(duration));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid membershipDurationMonths '" + duration + "'");
+        }
+        return member;
+    }
+
+    // Reads a column by header name; blank values become null
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * State of one import: buffers rows into chunks and collects per-row results.
+     */
+    private class ImportRun {
+
+        // Results of all rows processed so far, in import order
+        private final List<ImportRowResult> results = new ArrayList<>();
+
+        // Emails already accepted earlier in this import
+        private final Set<String> seenEmails = new HashSet<>();
+
+        // Rows waiting to be written, with their 1-based row numbers
+        private final List<Member> pending = new ArrayList<>();
+        private final List<Integer> pendingRows = new ArrayList<>();
+
+        // Number of rows received so far
+        private int rowCount;
+
+        void add(Member member) {
+            int row = ++rowCount;
+            if (member == null || isBlank(member.getMemberName()) || isBlank(member.getEmail())) {
+                results.add(new ImportRowResult(row, ImportRowStatus.INVALID, null,
+                        member == null ? null : member.getEmail(), "memberName and email are required"));
+                return;
+            }
+            if (!seenEmails.add(member.getEmail())) {
+                results.add(new ImportRowResult(row, ImportRowStatus.DUPLICATE_EMAIL, null, member.getEmail(),
+                        "Email appears earlier in this import"));
+                return;
+            }
+            pending.add(member);
+            pendingRows.add(row);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(String message) {
+            results.add(new ImportRowResult(++rowCount, ImportRowStatus.INVALID, null, null, message));
+        }
+
+        ImportResult finish() {
+            flush();
+            results.sort((a, b) -> Integer.compare(a.row(), b.row()));
+            return ImportResult.of(results);
+        }
+
+        // Writes the pending chunk, skipping emails that already exist
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Set<String> existing = new HashSet<>(
+                    memberRepository.findExistingEmails(pending.stream().map(Member::getEmail).toList()));
+
+            List<Member> toInsert = new ArrayList<>();
+            List<Integer> toInsertRows = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                Member member = pending.get(i);
+                if (existing.contains(member.getEmail())) {
+                    results.add(new ImportRowResult(pendingRows.get(i), ImportRowStatus.DUPLICATE_EMAIL, null,
+                            member.getEmail(), "A member with this email already exists"));
+                } else {
+                    toInsert.add(member);
+                    toInsertRows.add(pendingRows.get(i));
+                }
+            }
+            pending.clear();
+            pendingRows.clear();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    memberRepository.saveAll(toInsert);
+                    memberRepository.flush();
+                    toInsert.forEach(member -> statsService.memberCreated(member.getMembershipType()));
+                });
+                for (int i = 0; i < toInsert.size(); i++) {
+                    Member member = toInsert.get(i);
+                    results.add(new ImportRowResult(toInsertRows.get(i), ImportRowStatus.CREATED, member.getId(),
+                            member.getEmail(), null));
+                }
+            } catch (DataIntegrityViolationException ex) {
+                // A concurrent writer took one of the emails; retry the chunk row by row to isolate it
+                for (int i = 0; i < toInsert.size(); i++) {
+                    results.add(insertSingle(toInsert.get(i), toInsertRows.get(i)));
+                }
+            }
+        }
+
+        // Inserts one row in its own transaction and reports its outcome
+        private ImportRowResult insertSingle(Member member, int row) {
+            // The rolled-back chunk already assigned ids, so insert a fresh copy
+            Member copy = new Member(member.getMemberName(), member.getAddress(), member.getEmail(),
+                    member.getPhoneNumber(), member.getMembershipStartDate(), member.getMembershipDurationMonths(),
+                    member.getMembershipType());
+            try {
+                Member saved = transactionTemplate.execute(status -> {
+                    Member inserted = memberRepository.saveAndFlush(copy);
+                    statsService.memberCreated(inserted.getMembershipType());
+                    return inserted;
+                });
+                return new ImportRowResult(row, ImportRowStatus.CREATED, saved.getId(), member.getEmail(), null);
+            } catch (DataIntegrityViolationException ex) {
+                if (memberRepository.existsByEmail(member.getEmail())) {
+                    return new ImportRowResult(row, ImportRowStatus.DUPLICATE_EMAIL, null, member.getEmail(),
+                            "A member with this email already exists");
+                }
+                return new ImportRowResult(row, ImportRowStatus.INVALID, null, member.getEmail(),
+                        "Row violates a database constraint");
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,77 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.MemberTournamentRow;
+import com.chrisking.golfclub.dto.TournamentSummary;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds member responses for a batch of members.
+ * Tournament summaries for the whole batch are read with one query per chunk of ids
+ * instead of initializing each member's lazy tournaments collection (N+1).
+ */
+@Component
+public class MemberResponseMapper {
+
+    // Maximum number of member ids bound into a single IN list
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    // Repository dependency for the tournament summary query
+    private final TournamentRepository tournamentRepository;
+
+    // Constructor injection for TournamentRepository
+    public MemberResponseMapper(TournamentRepository tournamentRepository) {
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    /**
+     * Builds the response for a single member.
+     * @param member the member entity
+     * @return the member response including its tournament summaries
+     */
+    public MemberResponse toResponse(Member member) {
+        return toResponses(List.of(member)).get(0);
+    }
+
+    /**
+     * Builds responses for a batch of members, preserving their order.
+     * @param members the member entities
+     * @return the member responses including their tournament summaries
+     */
+    public List<MemberResponse> toResponses(List<Member> members) {
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<TournamentSummary>> tournamentsByMember =
+                tournamentSummaries(members.stream().map(Member::getId).toList());
+
+        List<MemberResponse> responses = new ArrayList<>(members.size());
+        for (Member member : members) {
+            responses.add(MemberResponse.of(member, tournamentsByMember.getOrDefault(member.getId(), List.of())));
+        }
+        return responses;
+    }
+
+    /**
+     * Reads the tournament summaries of a batch of members, one query per chunk of ids.
+     * @param memberIds the IDs of the members
+     * @return each member's summaries ordered by start date; members without tournaments are absent
+     */
+    public Map<Long, List<TournamentSummary>> tournamentSummaries(List<Long> memberIds) {
+        Map<Long, List<TournamentSummary>> tournamentsByMember = new HashMap<>();
+        for (int from = 0; from < memberIds.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + ID_CHUNK_SIZE, memberIds.size()));
+            for (MemberTournamentRow row : tournamentRepository.findSummariesByMemberIds(chunk)) {
+                tournamentsByMember.computeIfAbsent(row.memberId(), id -> new ArrayList<>()).add(row.toSummary());
+            }
+        }
+        return tournamentsByMember;
+    }
+}
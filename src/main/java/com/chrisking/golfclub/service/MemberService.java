@@ -1,12 +1,34 @@
 package com.chrisking.golfclub.service;
 
+import com.chrisking.golfclub.config.CacheConfig;
+import com.chrisking.golfclub.dto.ChangeType;
+import com.chrisking.golfclub.dto.FieldSet;
+import com.chrisking.golfclub.dto.KeysetPage;
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.MemberSearchCriteria;
+import com.chrisking.golfclub.dto.MemberSort;
+import com.chrisking.golfclub.dto.PageCursor;
+import com.chrisking.golfclub.dto.TournamentSummary;
 import com.chrisking.golfclub.model.Member;
 import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.MemberSpecifications;
+import com.chrisking.golfclub.repository.ProjectionRepository;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for member-related business logic.
@@ -16,47 +38,156 @@ import java.util.Optional;
 @Service
 public class MemberService {
 
+    // Upper bound for a single page of the member listing
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Upper bound for the number of results of a name search
+    public static final int MAX_SEARCH_RESULTS = 500;
+
+    // Upper bound for the number of tournament ids taken from the interval index into one roster query
+    public static final int MAX_INDEXED_TOURNAMENTS = 1000;
+
+    // Fields that can be requested with the "fields" parameter; tournaments are not a column and are read separately
+    public static final List<String> FIELDS = List.of("id", "memberName", "address", "email", "phoneNumber",
+            "membershipStartDate", "membershipDurationMonths", "membershipExpiryDate", "membershipType", "tournaments");
+
+    private static final String TOURNAMENTS_FIELD = "tournaments";
+
+    // Sort recorded in the cursors of the expiring-members listing
+    private static final String EXPIRY_SORT = "expiry";
+
     // Repository dependency for member data access
     private final MemberRepository memberRepository;
 
-    // Constructor injection for MemberRepository
-    public MemberService(MemberRepository memberRepository) {
+    // Builds member responses with batched tournament summaries
+    private final MemberResponseMapper memberResponseMapper;
+
+    // In-memory trigram index over member names
+    private final SearchIndexService searchIndexService;
+
+    // Fills the member cache; invalidated when a member joins a tournament
+    private final CacheFill<Long, MemberResponse> memberCacheFill;
+
+    // Transactions for cache misses, so cache hits never open one; read-write, as a member loaded from a
+    // lagging replica would stay cached with its old state
+    private final TransactionTemplate transactionTemplate;
+
+    // Column projections for requests with a "fields" parameter
+    private final ProjectionRepository projectionRepository;
+
+    // Announces new members to change feed subscribers
+    private final ChangeFeedService changeFeedService;
+
+    // Keeps the member counts of the club statistics
+    private final StatsService statsService;
+
+    // Constructor injection for the repositories, response mapper, search index, cache fill, change feed,
+    // statistics and transaction manager
+    public MemberService(MemberRepository memberRepository,
+                         MemberResponseMapper memberResponseMapper,
+                         SearchIndexService searchIndexService,
+                         CacheFill<Long, MemberResponse> memberCacheFill,
+                         ProjectionRepository projectionRepository,
+                         ChangeFeedService changeFeedService,
+                         StatsService statsService,
+                         PlatformTransactionManager transactionManager) {
         this.memberRepository = memberRepository;
+        this.changeFeedService = changeFeedService;
+        this.statsService = statsService;
+        this.projectionRepository = projectionRepository;
+        this.memberResponseMapper = memberResponseMapper;
+        this.searchIndexService = searchIndexService;
+        this.memberCacheFill = memberCacheFill;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Creates and saves a new member to the database.
+     * The new member is published on the change feed and counted in the statistics once the transaction commits.
      * @param member the member to create
      * @return the created member with assigned ID
      */
-    public Member createMember(Member member) {
-        return memberRepository.save(member);
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.MEMBERS, key = "#result.id")
+    public MemberResponse createMember(Member member) {
+        MemberResponse created = MemberResponse.of(memberRepository.save(member), List.of());
+        changeFeedService.publishAfterCommit(ChangeType.MEMBER_CREATED, created);
+        statsService.memberCreated(member.getMembershipType());
+        return created;
     }
 
     /**
-     * Retrieves all members from the database.
-     * @return list of all members
+     * Retrieves one keyset page of members.
+     * Pages are read with a seek predicate on the sort key and id, so deep pages cost the same as the first one.
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param sort the sort parameter ("id" or "name")
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @return the page of members and the cursor of the following page
+     * @throws IllegalArgumentException if the sort or cursor is invalid
      */
-    public List<Member> getAllMembers() {
-        return memberRepository.findAll();
+    @Transactional(readOnly = true)
+    public KeysetPage<MemberResponse> getAllMembers(int size, String sort, String cursor) {
+        MemberSort memberSort = MemberSort.fromParam(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor == null ? null : PageCursor.decode(cursor, memberSort.getParam());
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Member> rows = switch (memberSort) {
+            case ID -> memberRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after.id(), limit);
+            case NAME -> after == null
+                    ? memberRepository.findAllByOrderByMemberNameAscIdAsc(limit)
+                    : memberRepository.findPageAfterName(after.key(), after.id(), limit);
+        };
+        KeysetPage<Member> page = KeysetPage.of(rows, pageSize, member -> new PageCursor(memberSort.getParam(),
+                memberSort == MemberSort.ID ? null : member.getMemberName(), member.getId()));
+        return new KeysetPage<>(memberResponseMapper.toResponses(page.items()), page.next());
     }
 
     /**
      * Retrieves a member by their ID.
+     * Served from the member cache when present; enrollment invalidates the member's entry, and a load that
+     * raced with an enrollment is not cached.
      * @param id the member ID
      * @return an Optional containing the member if found, empty otherwise
      */
-    public Optional<Member> getMemberById(Long id) {
-        return memberRepository.findById(id);
+    public Optional<MemberResponse> getMemberById(Long id) {
+        return Optional.ofNullable(memberCacheFill.get(id, () -> transactionTemplate.execute(status ->
+                memberRepository.findById(id).map(memberResponseMapper::toResponse).orElse(null))));
+    }
+
+    /**
+     * Retrieves only the version of a member, for answering conditional requests.
+     * Always read from the database, without loading the member, so a cached entry that an enrollment
+     * has not yet invalidated cannot answer 304 for a changed member.
+     * @param id the member ID
+     * @return the member's version, or empty if the member does not exist
+     */
+    public Optional<Long> getMemberVersion(Long id) {
+        return memberRepository.findVersionById(id);
     }
 
     /**
      * Searches for members by name (case-insensitive, partial match).
+     * Served by the in-memory trigram index and ranked best match first (exact, prefix, word start, substring);
+     * falls back to a LIKE query ordered by name while the index is not available.
      * @param name the name or partial name to search for
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
      * @return list of members matching the name criteria
      */
-    public List<Member> searchByName(String name) {
-        return memberRepository.findByMemberNameContainingIgnoreCase(name);
+    @Transactional(readOnly = true)
+    public List<MemberResponse> searchByName(String name, int limit) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndexService.isReady()) {
+            return memberResponseMapper.toResponses(
+                    memberRepository.findByMemberNameContainingIgnoreCaseOrderByMemberNameAscIdAsc(name,
+                            Limit.of(maxResults)));
+        }
+
+        List<Long> rankedIds = searchIndexService.searchMemberNames(name, maxResults);
+        Map<Long, Member> byId = memberRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        List<Member> ranked = rankedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return memberResponseMapper.toResponses(ranked);
     }
 
     /**
@@ -64,8 +195,9 @@ public class MemberService {
      * @param membershipType the membership type to search for
      * @return list of members with the specified membership type
      */
-    public List<Member> searchByMembershipType(String membershipType) {
-        return memberRepository.findByMembershipTypeIgnoreCase(membershipType);
+    @Transactional(readOnly = true)
+    public List<MemberResponse> searchByMembershipType(String membershipType) {
+        return memberResponseMapper.toResponses(memberRepository.findByMembershipTypeIgnoreCase(membershipType));
     }
 
     /**
@@ -73,8 +205,9 @@ public class MemberService {
      * @param phoneNumber the phone number to search for
      * @return an Optional containing the member if found, empty otherwise
      */
-    public Optional<Member> searchByPhoneNumber(String phoneNumber) {
-        return memberRepository.findByPhoneNumber(phoneNumber);
+    @Transactional(readOnly = true)
+    public Optional<MemberResponse> searchByPhoneNumber(String phoneNumber) {
+        return memberRepository.findByPhoneNumber(phoneNumber).map(memberResponseMapper::toResponse);
     }
 
     /**
@@ -82,7 +215,244 @@ public class MemberService {
      * @param startDate the tournament start date to filter by
      * @return list of members with tournaments starting on the specified date
      */
-    public List<Member> searchByTournamentStartDate(LocalDate startDate) {
-        return memberRepository.findByTournaments_StartDate(startDate);
+    @Transactional(readOnly = true)
+    public List<MemberResponse> searchByTournamentStartDate(LocalDate startDate) {
+        return memberResponseMapper.toResponses(memberRepository.findByTournaments_StartDate(startDate));
+    }
+
+    /**
+     * Searches for members playing in a tournament that runs on at least one day of a date range.
+     * The tournaments are found with the in-memory interval index and their rosters read with one query; when
+     * the index is not available or the range covers more than MAX_INDEXED_TOURNAMENTS tournaments, a single
+     * range query over the roster is used instead.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
+     * @return the members playing during the range, each once, ordered by id
+     * @throws IllegalArgumentException if the range ends before it starts
+     */
+    @Transactional(readOnly = true)
+    public List<MemberResponse> searchByTournamentDateRange(LocalDate from, LocalDate to, int limit) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        Limit maxResults = Limit.of(Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        if (searchIndexService.isReady()) {
+            List<Long> tournamentIds = searchIndexService.searchTournamentDates(from, to,
+                    MAX_INDEXED_TOURNAMENTS + 1);
+            if (tournamentIds.isEmpty()) {
+                return List.of();
+            }
+            if (tournamentIds.size() <= MAX_INDEXED_TOURNAMENTS) {
+                return memberResponseMapper.toResponses(
+                        memberRepository.findPlayingInTournaments(tournamentIds, maxResults));
+            }
+        }
+        return memberResponseMapper.toResponses(memberRepository.findPlayingBetween(from, to, maxResults));
+    }
+
+    /**
+     * Retrieves one keyset page of the members whose membership expires within a date range, soonest first.
+     * Pages seek on the indexed (expiry date, id) pair, so deep pages cost the same as the first one.
+     * @param from the first expiry date to include
+     * @param to the last expiry date to include
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @return the page of expiring members and the cursor of the following page
+     * @throws IllegalArgumentException if the range ends before it starts or the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<MemberResponse> getExpiringMembers(LocalDate from, LocalDate to, int size, String cursor) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor == null ? null : PageCursor.decode(cursor, EXPIRY_SORT);
+        LocalDate afterDate = from;
+        long afterId = 0L;
+        if (after != null) {
+            try {
+                afterDate = LocalDate.parse(after.key());
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            afterId = after.id();
+        }
+
+        List<Member> rows = memberRepository.findExpiringAfter(afterDate, afterId, to, Limit.of(pageSize + 1));
+        KeysetPage<Member> page = KeysetPage.of(rows, pageSize, member -> new PageCursor(EXPIRY_SORT,
+                member.getMembershipExpiryDate().toString(), member.getId()));
+        return new KeysetPage<>(memberResponseMapper.toResponses(page.items()), page.next());
+    }
+
+    /**
+     * Retrieves one keyset page of members with only the requested fields.
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param sort the sort parameter ("id" or "name")
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return the page of member rows and the cursor of the following page
+     * @throws IllegalArgumentException if the sort, cursor or a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Map<String, Object>> getAllMembers(int size, String sort, String cursor, String fields) {
+        return searchMembers(new MemberSearchCriteria(null, null, null, null, null, null), size, sort, cursor, fields);
+    }
+
+    /**
+     * Searches members with any combination of filters in a single query, one keyset page at a time.
+     * The filters, the seek predicate and the order are combined into one dynamic query; queries with
+     * the same set of filters share a cached plan.
+     * @param criteria the filters; those that are null are not applied
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param sort the sort parameter ("id" or "name")
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @return the page of matching members and the cursor of the following page
+     * @throws IllegalArgumentException if the filters, sort or cursor are invalid
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<MemberResponse> searchMembers(MemberSearchCriteria criteria, int size, String sort,
+                                                    String cursor) {
+        criteria.validate();
+        MemberSort memberSort = MemberSort.fromParam(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor == null ? null : PageCursor.decode(cursor, memberSort.getParam());
+
+        List<Member> rows = projectionRepository.findAll(Member.class,
+                MemberSpecifications.matching(criteria).and(seek(memberSort, after)),
+                parameters(criteria, memberSort, after), order(memberSort), Limit.of(pageSize + 1));
+        KeysetPage<Member> page = KeysetPage.of(rows, pageSize, member -> new PageCursor(memberSort.getParam(),
+                memberSort == MemberSort.ID ? null : member.getMemberName(), member.getId()));
+        return new KeysetPage<>(memberResponseMapper.toResponses(page.items()), page.next());
+    }
+
+    /**
+     * Searches members like {@link #searchMembers(MemberSearchCriteria, int, String, String)},
+     * returning only the requested fields.
+     * @param criteria the filters; those that are null are not applied
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param sort the sort parameter ("id" or "name")
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return the page of member rows and the cursor of the following page
+     * @throws IllegalArgumentException if the filters, sort, cursor or a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Map<String, Object>> searchMembers(MemberSearchCriteria criteria, int size, String sort,
+                                                         String cursor, String fields) {
+        criteria.validate();
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        MemberSort memberSort = MemberSort.fromParam(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor == null ? null : PageCursor.decode(cursor, memberSort.getParam());
+
+        List<Map<String, Object>> rows = projectionRepository.findRows(Member.class,
+                fieldSet.selecting(memberSort == MemberSort.ID ? List.of() : List.of("memberName"),
+                        List.of(TOURNAMENTS_FIELD)),
+                MemberSpecifications.matching(criteria).and(seek(memberSort, after)),
+                parameters(criteria, memberSort, after), order(memberSort), Limit.of(pageSize + 1));
+        KeysetPage<Map<String, Object>> page = KeysetPage.of(rows, pageSize, row -> new PageCursor(
+                memberSort.getParam(), memberSort == MemberSort.ID ? null : (String) row.get("memberName"),
+                (Long) row.get("id")));
+        return new KeysetPage<>(complete(fieldSet, page.items()), page.next());
+    }
+
+    // Seek predicate past the last row of the previous page; its position is bound by parameters()
+    private static Specification<Member> seek(MemberSort memberSort, PageCursor after) {
+        return switch (memberSort) {
+            case ID -> MemberSpecifications.idAfter();
+            case NAME -> after == null ? Specification.unrestricted() : MemberSpecifications.afterName();
+        };
+    }
+
+    // Values of the filter and seek parameters; the first page in id order seeks past id 0
+    private static Map<String, Object> parameters(MemberSearchCriteria criteria, MemberSort memberSort,
+                                                  PageCursor after) {
+        Map<String, Object> parameters = MemberSpecifications.parameters(criteria);
+        if (memberSort == MemberSort.ID || after != null) {
+            parameters.put(MemberSpecifications.AFTER_ID, after == null ? 0L : after.id());
+        }
+        if (memberSort == MemberSort.NAME && after != null) {
+            parameters.put(MemberSpecifications.AFTER_NAME, after.key());
+        }
+        return parameters;
+    }
+
+    private static Sort order(MemberSort memberSort) {
+        return memberSort == MemberSort.ID ? Sort.by("id") : Sort.by("memberName", "id");
+    }
+
+    /**
+     * Searches for members by name like {@link #searchByName(String, int)}, returning only the requested fields.
+     * @param name the name or partial name to search for
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return rows of the members matching the name, best match first
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchByName(String name, int limit, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndexService.isReady()) {
+            return complete(fieldSet, project(fieldSet, List.of(), MemberSpecifications.nameContains(name),
+                    Sort.by("memberName", "id"), Limit.of(maxResults)));
+        }
+
+        List<Long> rankedIds = searchIndexService.searchMemberNames(name, maxResults);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Map<String, Object>> byId = project(fieldSet, List.of(), MemberSpecifications.idIn(rankedIds),
+                Sort.unsorted(), Limit.unlimited()).stream()
+                .collect(Collectors.toMap(row -> row.get(FieldSet.ID), Function.identity()));
+        return complete(fieldSet, rankedIds.stream().map(byId::get).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * Searches for members by their membership type (case-insensitive), returning only the requested fields.
+     * @param membershipType the membership type to search for
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return rows of the members with the specified membership type
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchByMembershipType(String membershipType, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        return complete(fieldSet, project(fieldSet, List.of(), MemberSpecifications.membershipTypeIs(membershipType),
+                Sort.unsorted(), Limit.unlimited()));
+    }
+
+    /**
+     * Searches for members participating in tournaments that start on a specified date,
+     * returning only the requested fields.
+     * @param startDate the tournament start date to filter by
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return rows of the members with tournaments starting on the specified date
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchByTournamentStartDate(LocalDate startDate, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        return complete(fieldSet, project(fieldSet, List.of(), MemberSpecifications.inTournamentStartingOn(startDate),
+                Sort.unsorted(), Limit.unlimited()));
+    }
+
+    // Selects the requested columns plus those the query needs (such as a sort key)
+    private List<Map<String, Object>> project(FieldSet fieldSet, List<String> needed,
+                                              Specification<Member> where, Sort sort, Limit limit) {
+        return projectionRepository.findRows(Member.class, fieldSet.selecting(needed, List.of(TOURNAMENTS_FIELD)),
+                where, sort, limit);
+    }
+
+    // Adds the tournament summaries if they were requested, with one batched query, and drops unrequested columns
+    private List<Map<String, Object>> complete(FieldSet fieldSet, List<Map<String, Object>> rows) {
+        if (fieldSet.contains(TOURNAMENTS_FIELD) && !rows.isEmpty()) {
+            Map<Long, List<TournamentSummary>> summaries = memberResponseMapper.tournamentSummaries(
+                    rows.stream().map(row -> (Long) row.get(FieldSet.ID)).toList());
+            rows.forEach(row -> row.put(TOURNAMENTS_FIELD,
+                    summaries.getOrDefault((Long) row.get(FieldSet.ID), List.of())));
+        }
+        return rows.stream().map(fieldSet::retain).toList();
     }
 }
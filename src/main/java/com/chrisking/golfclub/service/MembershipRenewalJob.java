@@ -0,0 +1,173 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.MemberExpiry;
+import com.chrisking.golfclub.dto.RenewalRunResult;
+import com.chrisking.golfclub.model.JobCheckpoint;
+import com.chrisking.golfclub.repository.JobCheckpointRepository;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.RenewalNoticeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Batch job raising renewal notices for the memberships that expire within the next few weeks.
+ * <p>
+ * A run walks the expiring members in (expiry date, id) order, one chunk per transaction: each chunk inserts
+ * its notices with one statement and advances the run's checkpoint in the same transaction. A run that stops
+ * part way (a crash, a deployment) therefore resumes right after the last committed chunk, and a chunk that is
+ * replayed creates no duplicate notices. The checkpoint is versioned, so if two instances run the job at once
+ * only one of them commits each chunk and the other backs off.
+ */
+@Service
+public class MembershipRenewalJob {
+
+    // Name under which the job's checkpoints are stored
+    public static final String JOB_NAME = "membership-renewal";
+
+    private static final Logger log = LoggerFactory.getLogger(MembershipRenewalJob.class);
+
+    // Repository dependencies for the members, the notices and the job progress
+    private final MemberRepository memberRepository;
+    private final RenewalNoticeRepository renewalNoticeRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+
+    // Runs each chunk in its own transaction
+    private final TransactionTemplate transactionTemplate;
+
+    // Number of members processed per transaction
+    private final int chunkSize;
+
+    // How many days ahead of their expiry members are notified
+    private final int leadDays;
+
+    // Whether the scheduled run is active
+    private final boolean enabled;
+
+    // Constructor injection for the repositories, transaction manager and job settings
+    public MembershipRenewalJob(MemberRepository memberRepository,
+                                RenewalNoticeRepository renewalNoticeRepository,
+                                JobCheckpointRepository jobCheckpointRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${golfclub.renewals.chunk-size:500}") int chunkSize,
+                                @Value("${golfclub.renewals.lead-days:30}") int leadDays,
+                                @Value("${golfclub.renewals.enabled:true}") boolean enabled) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("golfclub.renewals.chunk-size must be at least 1");
+        }
+        this.memberRepository = memberRepository;
+        this.renewalNoticeRepository = renewalNoticeRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leadDays = leadDays;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Runs the job for today, on the configured schedule.
+     */
+    @Scheduled(cron = "${golfclub.renewals.cron:0 0 2 * * *}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        RenewalRunResult result = run(LocalDate.now());
+        log.info("Renewal run {}: {} chunks, {} notices created, {} memberships processed, completed={}",
+                result.runDate(), result.chunks(), result.noticesCreated(), result.processed(), result.completed());
+    }
+
+    /**
+     * Raises renewal notices for the members whose membership expires between the run date and the end of the
+     * lead window, inclusive. Resumes from the run's checkpoint if it was started before; a completed run
+     * does nothing.
+     * @param runDate the date the run is for
+     * @return the progress of the run
+     */
+    public RenewalRunResult run(LocalDate runDate) {
+        LocalDate windowEnd = runDate.plusDays(leadDays);
+        Long checkpointId = startOrResume(runDate).getId();
+        int chunks = 0;
+        long created = 0;
+        while (true) {
+            ChunkOutcome outcome;
+            try {
+                outcome = transactionTemplate.execute(status -> processChunk(checkpointId, runDate, windowEnd));
+            } catch (OptimisticLockingFailureException ex) {
+                // Another instance committed this chunk first and carries on with the run
+                log.info("Renewal run {} is being processed by another instance", runDate);
+                JobCheckpoint checkpoint = jobCheckpointRepository.findById(checkpointId).orElseThrow();
+                return new RenewalRunResult(runDate, windowEnd, chunks, checkpoint.getProcessed(), created,
+                        checkpoint.isCompleted());
+            }
+            if (outcome.rows() > 0) {
+                chunks++;
+                created += outcome.created();
+            }
+            if (outcome.checkpoint().isCompleted()) {
+                return new RenewalRunResult(runDate, windowEnd, chunks, outcome.checkpoint().getProcessed(),
+                        created, true);
+            }
+        }
+    }
+
+    // Finds the run's checkpoint, creating it on the first invocation for the date
+    private JobCheckpoint startOrResume(LocalDate runDate) {
+        return jobCheckpointRepository.findByJobNameAndRunDate(JOB_NAME, runDate).orElseGet(() -> {
+            try {
+                return jobCheckpointRepository.save(new JobCheckpoint(JOB_NAME, runDate, LocalDateTime.now()));
+            } catch (DataIntegrityViolationException ex) {
+                // Another instance started the same run concurrently
+                return jobCheckpointRepository.findByJobNameAndRunDate(JOB_NAME, runDate).orElseThrow(() -> ex);
+            }
+        });
+    }
+
+    // Processes the chunk following the checkpoint and advances it; runs inside the chunk's transaction
+    private ChunkOutcome processChunk(Long checkpointId, LocalDate runDate, LocalDate windowEnd) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(checkpointId)
+                .orElseThrow(() -> new RuntimeException("Job checkpoint not found with id: " + checkpointId));
+        if (checkpoint.isCompleted()) {
+            return new ChunkOutcome(checkpoint, 0, 0);
+        }
+
+        // Before the first chunk, seek past (run date, 0) so members expiring on the run date are included
+        LocalDate afterDate = checkpoint.getLastDate() == null ? runDate : checkpoint.getLastDate();
+        long afterId = checkpoint.getLastId() == null ? 0L : checkpoint.getLastId();
+        List<MemberExpiry> chunk = memberRepository.findExpiryKeysAfter(afterDate, afterId, windowEnd,
+                Limit.of(chunkSize));
+
+        LocalDateTime now = LocalDateTime.now();
+        int created = 0;
+        if (!chunk.isEmpty()) {
+            created = renewalNoticeRepository.insertForMembers(chunk.stream().map(MemberExpiry::id).toList(), now);
+            MemberExpiry last = chunk.get(chunk.size() - 1);
+            checkpoint.advance(last.expiryDate(), last.id(), chunk.size(), now);
+        }
+        if (chunk.size() < chunkSize) {
+            checkpoint.complete(now);
+        }
+        // Flush inside the transaction, so a concurrent commit of the same chunk fails this one as a whole
+        return new ChunkOutcome(jobCheckpointRepository.saveAndFlush(checkpoint), chunk.size(), created);
+    }
+
+    /**
+     * Result of one chunk transaction.
+     * @param checkpoint the checkpoint after the chunk
+     * @param rows the number of members in the chunk
+     * @param created the number of notices the chunk created
+     */
+    private record ChunkOutcome(JobCheckpoint checkpoint, int rows, int created) {
+    }
+}
@@ -0,0 +1,348 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.EnrollmentResult;
+import com.chrisking.golfclub.dto.RegistrationStatus;
+import com.chrisking.golfclub.dto.RegistrationTicket;
+import com.chrisking.golfclub.exception.RegistrationQueueFullException;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registers members for tournaments asynchronously, committing many registrations at once.
+ * <p>
+ * Accepted requests go into a bounded queue and the caller gets a ticket. A single writer thread takes up to
+ * batch-size requests at a time, groups them by tournament and enrolls every group in one transaction, so a
+ * burst of registrations costs one commit instead of one per request; while a batch commits the next one
+ * accumulates. Within a group members are admitted in queue order while seats last, and the rest are told the
+ * tournament is full. If the batch transaction fails, each tournament's group is retried on its own so one
+ * bad tournament does not fail the others. Tickets complete only after their batch has committed. When the
+ * queue is full, requests are refused instead of growing the heap.
+ */
+@Service
+public class RegistrationPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationPipeline.class);
+
+    // How long the writer waits for a request before checking whether it should stop
+    private static final long POLL_MILLIS = 100;
+
+    // Enrolls each tournament's group of members
+    private final TournamentService tournamentService;
+
+    // Repository dependency for checking that the batch's tournaments exist
+    private final TournamentRepository tournamentRepository;
+
+    // Runs each batch, or each tournament's group on retry, in its own transaction
+    private final TransactionTemplate transactionTemplate;
+
+    // Requests accepted but not yet taken by the writer
+    private final BlockingQueue<Registration> queue;
+
+    // Maximum number of requests committed per transaction
+    private final int batchSize;
+
+    // How long shutdown waits for the queue to drain
+    private final Duration shutdownTimeout;
+
+    // Tickets by id, kept for a while after completion so clients can collect the outcome
+    private final Cache<String, Registration> tickets;
+
+    // Requests accepted but not yet completed
+    private final AtomicLong pending = new AtomicLong();
+
+    // Requests per committed batch, and requests given up on because their group could not be committed
+    private final DistributionSummary batchSizes;
+    private final Counter failed;
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    // Constructor injection for the tournament service and repository, transaction manager, metrics registry
+    // and queue settings
+    public RegistrationPipeline(TournamentService tournamentService,
+                                TournamentRepository tournamentRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${golfclub.registration.queue-capacity:10000}") int queueCapacity,
+                                @Value("${golfclub.registration.batch-size:256}") int batchSize,
+                                @Value("${golfclub.registration.ticket-ttl:10m}") Duration ticketTtl,
+                                @Value("${golfclub.registration.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.tournamentService = tournamentService;
+        this.tournamentRepository = tournamentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.tickets = Caffeine.newBuilder().expireAfterWrite(ticketTtl).build();
+        this.batchSizes = DistributionSummary.builder("golfclub.registration.batch.size")
+                .description("Registrations committed per transaction")
+                .register(meterRegistry);
+        this.failed = Counter.builder("golfclub.registration.failed")
+                .description("Registrations given up on because their batch could not be committed")
+                .register(meterRegistry);
+        Gauge.builder("golfclub.registration.queue.size", queue, BlockingQueue::size)
+                .description("Registrations waiting to be committed")
+                .register(meterRegistry);
+        this.writer = new Thread(this::drain, "registration-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Queues a registration.
+     * @param tournamentId the ID of the tournament
+     * @param memberId the ID of the member to add
+     * @return the pending ticket
+     * @throws RegistrationQueueFullException if the queue has no room for the request
+     */
+    public synchronized RegistrationTicket submit(Long tournamentId, Long memberId) {
+        if (!running) {
+            throw new RegistrationQueueFullException("Registration is shutting down");
+        }
+        RegistrationTicket ticket = new RegistrationTicket(UUID.randomUUID().toString(), tournamentId, memberId,
+                RegistrationStatus.PENDING, LocalDateTime.now(), null);
+        Registration registration = new Registration(ticket);
+        tickets.put(ticket.ticketId(), registration);
+        pending.incrementAndGet();
+        if (!queue.offer(registration)) {
+            pending.decrementAndGet();
+            tickets.invalidate(ticket.ticketId());
+            throw new RegistrationQueueFullException("Registration queue is full (" + queue.size()
+                    + " requests waiting), retry later");
+        }
+        // The worker may already have completed the registration; the caller gets the ticket as submitted
+        return ticket;
+    }
+
+    /**
+     * Returns a ticket's current state.
+     * @param ticketId the ticket's identifier
+     * @return the ticket, or empty if it is unknown or has expired
+     */
+    public Optional<RegistrationTicket> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId)).map(registration -> registration.ticket);
+    }
+
+    /**
+     * Waits for a ticket to complete.
+     * @param ticketId the ticket's identifier
+     * @param timeout how long to wait at most
+     * @return the ticket, still PENDING if it did not complete in time, or empty if it is unknown or has expired
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Optional<RegistrationTicket> awaitTicket(String ticketId, Duration timeout) throws InterruptedException {
+        Registration registration = tickets.getIfPresent(ticketId);
+        if (registration == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(registration.done.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException ex) {
+            return Optional.of(registration.ticket);
+        } catch (ExecutionException ex) {
+            // The future is only ever completed normally
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Waits until every registration queued so far has completed.
+     * @param timeout how long to wait at most
+     * @return true if the queue drained in time
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of registrations accepted but not yet completed.
+     * @return the backlog size
+     */
+    public long backlog() {
+        return pending.get();
+    }
+
+    /**
+     * Stops accepting registrations and waits for the writer to empty the queue.
+     * Requests still queued after the timeout are completed as FAILED.
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Under the submit lock, so no request that saw the writer running is queued after the writer may have exited
+        synchronized (this) {
+            running = false;
+        }
+        writer.join(shutdownTimeout.toMillis());
+        List<Registration> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (!abandoned.isEmpty()) {
+            log.warn("Registration writer stopped with {} requests still queued", abandoned.size());
+            LocalDateTime now = LocalDateTime.now();
+            abandoned.forEach(registration -> complete(registration, RegistrationStatus.FAILED, now));
+        }
+    }
+
+    // Writer loop: takes whatever has accumulated, up to a batch, and commits it; exits once stopped and empty
+    private void drain() {
+        List<Registration> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Registration first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Registration> batch) {
+        Map<Long, List<Registration>> byTournament = new LinkedHashMap<>();
+        for (Registration registration : batch) {
+            byTournament.computeIfAbsent(registration.ticket.tournamentId(), id -> new ArrayList<>())
+                    .add(registration);
+        }
+        Map<Registration, RegistrationStatus> outcomes = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> existing = new HashSet<>(tournamentRepository.findExistingIds(byTournament.keySet()));
+                byTournament.forEach((tournamentId, group) ->
+                        enroll(tournamentId, group, existing.contains(tournamentId), outcomes));
+            });
+            batchSizes.record(batch.size());
+        } catch (RuntimeException ex) {
+            outcomes.clear();
+            if (byTournament.size() == 1) {
+                giveUp(batch, outcomes, ex);
+            } else {
+                log.warn("Registration batch of {} requests failed, retrying each tournament on its own",
+                        batch.size(), ex);
+                byTournament.forEach((tournamentId, group) -> retry(tournamentId, group, outcomes));
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        batch.forEach(registration -> complete(registration, outcomes.get(registration), now));
+    }
+
+    private void retry(Long tournamentId, List<Registration> group, Map<Registration, RegistrationStatus> outcomes) {
+        Map<Registration, RegistrationStatus> groupOutcomes = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    enroll(tournamentId, group, tournamentRepository.existsById(tournamentId), groupOutcomes));
+            batchSizes.record(group.size());
+            outcomes.putAll(groupOutcomes);
+        } catch (RuntimeException ex) {
+            giveUp(group, outcomes, ex);
+        }
+    }
+
+    private void giveUp(List<Registration> registrations, Map<Registration, RegistrationStatus> outcomes,
+                        RuntimeException ex) {
+        failed.increment(registrations.size());
+        log.error("Could not commit {} registrations", registrations.size(), ex);
+        registrations.forEach(registration -> outcomes.put(registration, RegistrationStatus.FAILED));
+    }
+
+    // Enrolls one tournament's group and records each request's outcome; a member asking twice in the same
+    // group is already enrolled the second time
+    private void enroll(Long tournamentId, List<Registration> group, boolean tournamentExists,
+                        Map<Registration, RegistrationStatus> outcomes) {
+        if (!tournamentExists) {
+            group.forEach(registration -> outcomes.put(registration, RegistrationStatus.NOT_FOUND));
+            return;
+        }
+        EnrollmentResult result = tournamentService.enrollAvailable(tournamentId,
+                group.stream().map(registration -> registration.ticket.memberId()).toList());
+        Set<Long> added = new HashSet<>(result.added());
+        Set<Long> alreadyEnrolled = new HashSet<>(result.alreadyEnrolled());
+        Set<Long> missing = new HashSet<>(result.missing());
+        Set<Long> seen = new HashSet<>();
+        for (Registration registration : group) {
+            Long memberId = registration.ticket.memberId();
+            RegistrationStatus status;
+            if (!seen.add(memberId) || alreadyEnrolled.contains(memberId)) {
+                status = RegistrationStatus.ALREADY_ENROLLED;
+            } else if (added.contains(memberId)) {
+                status = RegistrationStatus.ENROLLED;
+            } else if (missing.contains(memberId)) {
+                status = RegistrationStatus.NOT_FOUND;
+            } else {
+                status = RegistrationStatus.TOURNAMENT_FULL;
+            }
+            outcomes.put(registration, status);
+        }
+    }
+
+    private void complete(Registration registration, RegistrationStatus status, LocalDateTime now) {
+        registration.ticket = registration.ticket.complete(status, now);
+        // Re-put so the completed ticket is kept for a full time-to-live
+        tickets.put(registration.ticket.ticketId(), registration);
+        registration.done.complete(registration.ticket);
+        pending.decrementAndGet();
+    }
+
+    // A queued request and the ticket describing it; the ticket is replaced once, by the writer
+    private static final class Registration {
+
+        private volatile RegistrationTicket ticket;
+
+        private final CompletableFuture<RegistrationTicket> done = new CompletableFuture<>();
+
+        private Registration(RegistrationTicket ticket) {
+            this.ticket = ticket;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.exception.ScoringUnavailableException;
+import com.chrisking.golfclub.model.ScoreEvent;
+import com.chrisking.golfclub.repository.ScoreEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists score events off the request path.
+ * <p>
+ * Accepted events go into a bounded queue that a single writer thread drains into the database, up to
+ * batch-size events per transaction. While one batch is being written the next one accumulates, so the batches
+ * grow with the event rate and the database sees a few large JDBC batch inserts instead of one small
+ * transaction per request. When the queue has no room for a batch the batch is refused as a whole, which
+ * pushes back on the tablets instead of growing the heap. On shutdown the queue is drained before the
+ * application context closes.
+ * <p>
+ * Every queued score has already been accepted, so a failed batch is not simply dropped: failures are retried
+ * with exponential backoff, and a batch the database rejects for some of its rows, such as scores of a member
+ * deleted since, is split until those rows are isolated. Only the rejected rows, or a batch still failing after
+ * the last retry, are given up on; they are counted and logged.
+ */
+@Service
+public class ScoreEventWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreEventWriter.class);
+
+    // How long the writer waits for an event before checking whether it should stop
+    private static final long POLL_MILLIS = 100;
+
+    // Repository dependency for score event persistence
+    private final ScoreEventRepository scoreEventRepository;
+
+    // Runs each batch in its own transaction
+    private final TransactionTemplate transactionTemplate;
+
+    // Events accepted but not yet taken by the writer
+    private final BlockingQueue<ScoreEvent> queue;
+
+    // Maximum number of events written per transaction
+    private final int batchSize;
+
+    // How often a failing batch is tried in all, and how long the writer waits before its first retry
+    private final int retryAttempts;
+    private final Duration retryBackoff;
+
+    // How long shutdown waits for the queue to drain
+    private final Duration shutdownTimeout;
+
+    // Events accepted but not yet written or given up on
+    private final AtomicLong pending = new AtomicLong();
+
+    // Events written, and events given up on
+    private final Counter persisted;
+    private final Counter failed;
+
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    // Constructor injection for the repository, transaction manager, metrics registry and queue settings
+    public ScoreEventWriter(ScoreEventRepository scoreEventRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${golfclub.scoring.queue-capacity:100000}") int queueCapacity,
+                            @Value("${golfclub.scoring.batch-size:500}") int batchSize,
+                            @Value("${golfclub.scoring.retry-attempts:5}") int retryAttempts,
+                            @Value("${golfclub.scoring.retry-backoff:100ms}") Duration retryBackoff,
+                            @Value("${golfclub.scoring.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.scoreEventRepository = scoreEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.retryAttempts = retryAttempts;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.persisted = Counter.builder("golfclub.scoring.events.persisted")
+                .description("Score events written to the database")
+                .register(meterRegistry);
+        this.failed = Counter.builder("golfclub.scoring.events.failed")
+                .description("Score events the database rejected or that could not be written after retrying")
+                .register(meterRegistry);
+        Gauge.builder("golfclub.scoring.queue.size", queue, BlockingQueue::size)
+                .description("Score events waiting to be written")
+                .register(meterRegistry);
+        this.writer = new Thread(this::drain, "score-event-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Queues a batch of events for persistence, all or nothing.
+     * Callers that need the queue order to match the order they apply events in must serialize their calls.
+     * @param events the events to persist
+     * @throws ScoringUnavailableException if the queue has no room for the whole batch
+     */
+    public synchronized void enqueue(List<ScoreEvent> events) {
+        if (!running) {
+            throw new ScoringUnavailableException("Score writer is shutting down");
+        }
+        // The writer only takes events out, so the room checked here cannot shrink before they are added
+        if (queue.remainingCapacity() < events.size()) {
+            throw new ScoringUnavailableException("Score queue is full (" + queue.size()
+                    + " scores waiting), retry later");
+        }
+        pending.addAndGet(events.size());
+        queue.addAll(events);
+    }
+
+    /**
+     * Waits until every event queued so far has been written or given up on.
+     * @param timeout how long to wait at most
+     * @return true if the queue drained in time
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of events accepted but not yet written.
+     * @return the backlog size
+     */
+    public long backlog() {
+        return pending.get();
+    }
+
+    /**
+     * Stops accepting events and waits for the writer to empty the queue.
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Under the enqueue lock, so no batch that saw the writer running is added after the writer may have exited
+        synchronized (this) {
+            running = false;
+        }
+        writer.join(shutdownTimeout.toMillis());
+        if (!queue.isEmpty()) {
+            log.warn("Score writer stopped with {} events still queued", queue.size());
+        }
+    }
+
+    // Writer loop: takes whatever has accumulated, up to a batch, and writes it; exits once stopped and empty
+    private void drain() {
+        List<ScoreEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ScoreEvent first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    // Writes a batch, retrying failures with backoff and splitting it when the database rejects some of its rows
+    private void write(List<ScoreEvent> batch) throws InterruptedException {
+        long backoff = retryBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            List<ScoreEvent> events = unsaved(batch);
+            try {
+                transactionTemplate.executeWithoutResult(status -> scoreEventRepository.saveAll(events));
+                persisted.increment(batch.size());
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                if (batch.size() == 1) {
+                    ScoreEvent event = batch.get(0);
+                    giveUp(batch, "Database rejected score event for tournament " + event.getTournamentId()
+                            + ", member " + event.getMemberId() + ", hole " + event.getHole(), ex);
+                    return;
+                }
+                // Halve the batch until the rejected rows are on their own, so the others are still written
+                int half = batch.size() / 2;
+                write(batch.subList(0, half));
+                write(batch.subList(half, batch.size()));
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= retryAttempts) {
+                    giveUp(batch, "Could not write " + batch.size() + " score events after " + attempt
+                            + " attempts", ex);
+                    return;
+                }
+                log.warn("Could not write {} score events, retrying in {} ms", batch.size(), backoff, ex);
+                Thread.sleep(backoff);
+                backoff *= 2;
+            }
+        }
+    }
+
+    private void giveUp(List<ScoreEvent> events, String message, RuntimeException ex) {
+        // The scores stay on the live leaderboard; only their persistence is lost
+        failed.increment(events.size());
+        log.error(message, ex);
+    }
+
+    // A rolled-back attempt already assigned ids to its events, so they are written again as fresh copies
+    private static List<ScoreEvent> unsaved(List<ScoreEvent> events) {
+        return events.stream()
+                .map(event -> event.getId() == null ? event : new ScoreEvent(event.getTournamentId(),
+                        event.getMemberId(), event.getHole(), event.getStrokes(), event.getPar(),
+                        event.getRecordedAt()))
+                .toList();
+    }
+}
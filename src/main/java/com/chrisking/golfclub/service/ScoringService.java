@@ -0,0 +1,206 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.Leaderboard;
+import com.chrisking.golfclub.dto.RecordedScore;
+import com.chrisking.golfclub.dto.ScoreIngestResult;
+import com.chrisking.golfclub.dto.ScoreSubmission;
+import com.chrisking.golfclub.exception.ScoringUnavailableException;
+import com.chrisking.golfclub.exception.TournamentNotFoundException;
+import com.chrisking.golfclub.index.LiveLeaderboard;
+import com.chrisking.golfclub.model.ScoreEvent;
+import com.chrisking.golfclub.repository.ScoreEventRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Service class for live tournament scoring.
+ * Hole scores arrive in batches from the course tablets; each batch is checked against the roster, applied to
+ * the tournament's in-memory leaderboard and queued for asynchronous, batched persistence by ScoreEventWriter.
+ * Leaderboard reads are answered from memory. At startup the leaderboards are rebuilt by replaying the
+ * persisted events; scores are refused until that has finished.
+ */
+@Service
+public class ScoringService {
+
+    // Upper bound for the number of scores in one batch
+    public static final int MAX_SCORE_BATCH = 1000;
+
+    // Upper bound for the number of lines of a leaderboard read
+    public static final int MAX_LEADERBOARD_SIZE = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringService.class);
+
+    // Live leaderboard of every tournament with at least one score
+    private final ConcurrentMap<Long, LiveLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    // Repository dependencies for the roster checks and the rebuild
+    private final TournamentRepository tournamentRepository;
+    private final ScoreEventRepository scoreEventRepository;
+
+    // In-memory roster index, to check scores without a database round trip
+    private final SearchIndexService searchIndexService;
+
+    // Persists the accepted events in the background
+    private final ScoreEventWriter scoreEventWriter;
+
+    // Runs the rebuild and the roster checks without the index on the primary; a replica may not have caught up
+    // with the latest scores and enrollments
+    private final TransactionTemplate transactionTemplate;
+
+    // Set once the leaderboards have been rebuilt from the database
+    private volatile boolean ready;
+
+    // Constructor injection for the repositories, search index, writer and transaction manager
+    public ScoringService(TournamentRepository tournamentRepository,
+                          ScoreEventRepository scoreEventRepository,
+                          SearchIndexService searchIndexService,
+                          ScoreEventWriter scoreEventWriter,
+                          PlatformTransactionManager transactionManager) {
+        this.tournamentRepository = tournamentRepository;
+        this.scoreEventRepository = scoreEventRepository;
+        this.searchIndexService = searchIndexService;
+        this.scoreEventWriter = scoreEventWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rebuilds the leaderboards from the persisted score events once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ready = false;
+        long start = System.nanoTime();
+        leaderboards.clear();
+        long[] replayed = {0};
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<RecordedScore> scores = scoreEventRepository.streamRecordedScores()) {
+                scores.forEach(score -> {
+                    leaderboards.computeIfAbsent(score.tournamentId(), id -> new LiveLeaderboard())
+                            .record(score.memberId(), score.hole(), score.strokes(), score.par());
+                    replayed[0]++;
+                });
+            }
+        });
+        ready = true;
+        log.info("Rebuilt {} leaderboards from {} score events in {} ms", leaderboards.size(), replayed[0],
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a batch of hole scores to a tournament's leaderboard and queues them for persistence.
+     * The batch is all or nothing: if any score is invalid or its member is not on the roster, none is applied.
+     * A score for a hole that already has one replaces it.
+     * @param tournamentId the ID of the tournament
+     * @param scores the hole scores, at most MAX_SCORE_BATCH
+     * @return the number of scores accepted and the resulting leaderboard version
+     * @throws IllegalArgumentException if a score is invalid or its member is not enrolled
+     * @throws ScoringUnavailableException if the leaderboards are still loading or the queue is full
+     * @throws TournamentNotFoundException if tournament not found
+     */
+    public ScoreIngestResult submitScores(Long tournamentId, List<ScoreSubmission> scores) {
+        if (scores.isEmpty() || scores.size() > MAX_SCORE_BATCH) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SCORE_BATCH + " scores expected");
+        }
+        for (int i = 0; i < scores.size(); i++) {
+            validate(i, scores.get(i));
+        }
+        if (!ready) {
+            throw new ScoringUnavailableException("Leaderboards are loading, retry later");
+        }
+        Set<Long> memberIds = new LinkedHashSet<>();
+        scores.forEach(score -> memberIds.add(score.memberId()));
+        List<Long> notEnrolled = notEnrolled(tournamentId, memberIds);
+        if (!notEnrolled.isEmpty()) {
+            throw new IllegalArgumentException("Members not enrolled in tournament " + tournamentId + ": "
+                    + notEnrolled);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ScoreEvent> events = new ArrayList<>(scores.size());
+        for (ScoreSubmission score : scores) {
+            events.add(new ScoreEvent(tournamentId, score.memberId(), score.hole(), score.strokes(), score.par(),
+                    now));
+        }
+        LiveLeaderboard leaderboard = leaderboards.computeIfAbsent(tournamentId, id -> new LiveLeaderboard());
+        long version = 0;
+        // Queue order within a tournament is application order, so a rebuild replays the same leaderboard
+        synchronized (leaderboard) {
+            scoreEventWriter.enqueue(events);
+            for (ScoreSubmission score : scores) {
+                version = leaderboard.record(score.memberId(), score.hole(), score.strokes(), score.par());
+            }
+        }
+        return new ScoreIngestResult(scores.size(), version);
+    }
+
+    /**
+     * Reads the top of a tournament's live leaderboard from memory.
+     * @param tournamentId the ID of the tournament
+     * @param limit the maximum number of lines, clamped to 1..MAX_LEADERBOARD_SIZE
+     * @return the leading players, best first; empty before the first score
+     * @throws TournamentNotFoundException if tournament not found
+     */
+    public Leaderboard getLeaderboard(Long tournamentId, int limit) {
+        if (!tournamentExists(tournamentId)) {
+            leaderboards.remove(tournamentId);
+            throw new TournamentNotFoundException(tournamentId);
+        }
+        LiveLeaderboard leaderboard = leaderboards.get(tournamentId);
+        if (leaderboard == null) {
+            return new Leaderboard(tournamentId, 0, 0, List.of());
+        }
+        return leaderboard.read(tournamentId, Math.max(1, Math.min(limit, MAX_LEADERBOARD_SIZE)));
+    }
+
+    private static void validate(int index, ScoreSubmission score) {
+        if (score == null || score.memberId() == null || score.hole() == null || score.strokes() == null
+                || score.par() == null) {
+            throw new IllegalArgumentException("Score " + index + ": memberId, hole, strokes and par are required");
+        }
+        if (score.hole() < 1 || score.hole() > LiveLeaderboard.HOLES) {
+            throw new IllegalArgumentException("Score " + index + ": hole must be between 1 and "
+                    + LiveLeaderboard.HOLES);
+        }
+        if (score.strokes() < 1 || score.strokes() > 20) {
+            throw new IllegalArgumentException("Score " + index + ": strokes must be between 1 and 20");
+        }
+        if (score.par() < 3 || score.par() > 6) {
+            throw new IllegalArgumentException("Score " + index + ": par must be between 3 and 6");
+        }
+    }
+
+    // Checked against the in-memory roster index, or with one roster query while it is not available
+    private List<Long> notEnrolled(Long tournamentId, Set<Long> memberIds) {
+        if (!tournamentExists(tournamentId)) {
+            throw new TournamentNotFoundException(tournamentId);
+        }
+        if (searchIndexService.isReady()) {
+            return searchIndexService.membersNotOnRoster(tournamentId, memberIds);
+        }
+        Set<Long> enrolled = Set.copyOf(transactionTemplate.execute(status ->
+                tournamentRepository.findEnrolledMemberIds(tournamentId, memberIds)));
+        return memberIds.stream().filter(id -> !enrolled.contains(id)).toList();
+    }
+
+    private boolean tournamentExists(Long tournamentId) {
+        if (searchIndexService.isReady()) {
+            return searchIndexService.unknownTournaments(List.of(tournamentId)).isEmpty();
+        }
+        return tournamentRepository.existsById(tournamentId);
+    }
+}
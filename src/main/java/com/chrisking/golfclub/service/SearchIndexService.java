@@ -0,0 +1,304 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.IndexedDateRange;
+import com.chrisking.golfclub.dto.IndexedText;
+import com.chrisking.golfclub.dto.RosterEntry;
+import com.chrisking.golfclub.dto.RosterOperation;
+import com.chrisking.golfclub.index.IntervalTree;
+import com.chrisking.golfclub.index.RosterBitmapIndex;
+import com.chrisking.golfclub.index.TrigramIndex;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service owning the in-memory trigram indexes over member names and tournament locations,
+ * the interval index over tournament dates and the bitmap index over tournament rosters.
+ * The indexes are built once the application is ready and then kept current by SearchIndexEntityListener.
+ * Until a build has completed, callers fall back to the database LIKE queries.
+ * <p>
+ * A build fills fresh indexes and swaps them in whole. Changes committed while it runs are applied to the
+ * live indexes and also recorded, then replayed onto the fresh ones just before the swap, so a build never
+ * drops an update or overwrites one with its older snapshot.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    // The live indexes; replaced whole by each build
+    private volatile Indexes indexes = Indexes.empty();
+
+    // Guards applying a change together with recording it, and the swap
+    private final Object updateLock = new Object();
+
+    // Changes committed while a build runs, in the order they were applied; null when no build runs
+    private List<Consumer<Indexes>> buffered;
+
+    // Repository dependencies used to build the indexes
+    private final MemberRepository memberRepository;
+    private final TournamentRepository tournamentRepository;
+
+    // Runs the index build inside a transaction, as streaming requires; a read-write one, which is served by
+    // the primary, since the listeners only keep up with changes committed after the snapshot was read
+    private final TransactionTemplate transactionTemplate;
+
+    // Whether the indexes are used at all
+    private final boolean enabled;
+
+    // Set once the initial build has completed
+    private volatile boolean ready;
+
+    // Constructor injection for the repositories, transaction manager and feature flag
+    public SearchIndexService(MemberRepository memberRepository,
+                              TournamentRepository tournamentRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${golfclub.search.index.enabled:true}") boolean enabled) {
+        this.memberRepository = memberRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Builds the indexes from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Indexes fresh = Indexes.empty();
+        synchronized (updateLock) {
+            buffered = new ArrayList<>();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<IndexedText> names = memberRepository.streamMemberNames()) {
+                    names.forEach(entry -> fresh.memberNames().put(entry.id(), entry.text()));
+                }
+                try (Stream<IndexedText> locations = tournamentRepository.streamLocations()) {
+                    locations.forEach(entry -> fresh.tournamentLocations().put(entry.id(), entry.text()));
+                }
+                try (Stream<IndexedDateRange> dates = tournamentRepository.streamDateRanges()) {
+                    dates.forEach(entry -> {
+                        fresh.tournamentDates().put(entry.id(), entry.startDate(), entry.endDate());
+                        fresh.rosters().addTournament(entry.id());
+                    });
+                }
+                // Each roster is collected into its own bitmap first and swapped in whole
+                Map<Long, Roaring64NavigableMap> built = new HashMap<>();
+                try (Stream<RosterEntry> entries = tournamentRepository.streamRosterEntries()) {
+                    entries.forEach(entry -> built.computeIfAbsent(entry.tournamentId(),
+                            id -> new Roaring64NavigableMap()).addLong(entry.memberId()));
+                }
+                built.forEach(fresh.rosters()::replaceMembers);
+            });
+            synchronized (updateLock) {
+                buffered.forEach(update -> update.accept(fresh));
+                indexes = fresh;
+            }
+        } finally {
+            synchronized (updateLock) {
+                buffered = null;
+            }
+        }
+        ready = true;
+        log.info("Built search indexes: {} member names, {} tournament locations, {} tournament date ranges, "
+                        + "{} rosters in {} ms", fresh.memberNames().size(), fresh.tournamentLocations().size(),
+                fresh.tournamentDates().size(), fresh.rosters().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Checks whether the indexes can answer searches.
+     * @return true once the initial build has completed
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Searches member names by substring, best match first.
+     * @param name the substring to search for
+     * @param limit the maximum number of results
+     * @return the ids of the matching members
+     */
+    public List<Long> searchMemberNames(String name, int limit) {
+        return indexes.memberNames().search(name, limit);
+    }
+
+    /**
+     * Searches tournament locations by substring, best match first.
+     * @param location the substring to search for
+     * @param limit the maximum number of results
+     * @return the ids of the matching tournaments
+     */
+    public List<Long> searchTournamentLocations(String location, int limit) {
+        return indexes.tournamentLocations().search(location, limit);
+    }
+
+    /**
+     * Finds the tournaments running on at least one day of a date range.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of results
+     * @return the ids of the overlapping tournaments, ordered by start date, end date and id
+     */
+    public List<Long> searchTournamentDates(LocalDate from, LocalDate to, int limit) {
+        return indexes.tournamentDates().overlapping(from, to, limit);
+    }
+
+    /**
+     * Returns which of the given tournaments the roster index does not know.
+     * @param tournamentIds the tournament ids
+     * @return the unknown ids
+     */
+    public List<Long> unknownTournaments(Collection<Long> tournamentIds) {
+        return indexes.rosters().unknown(tournamentIds);
+    }
+
+    /**
+     * Returns which of the given members the roster index does not have on a tournament's roster.
+     * @param tournamentId the tournament id
+     * @param memberIds the member ids to check
+     * @return the ids not on the roster
+     */
+    public List<Long> membersNotOnRoster(Long tournamentId, Collection<Long> memberIds) {
+        return indexes.rosters().notOnRoster(tournamentId, memberIds);
+    }
+
+    /**
+     * Counts the members resulting from a set operation over tournament rosters, without loading any of them.
+     * @param operation the set operation
+     * @param tournamentIds the tournament ids, at least one
+     * @return the number of members in the result
+     */
+    public long countRosterMembers(RosterOperation operation, List<Long> tournamentIds) {
+        return indexes.rosters().combine(operation, tournamentIds).getLongCardinality();
+    }
+
+    /**
+     * Reads one page of member ids resulting from a set operation over tournament rosters.
+     * @param operation the set operation
+     * @param tournamentIds the tournament ids, at least one
+     * @param afterId the last member id of the previous page, or 0 for the first page
+     * @param limit the maximum number of ids to return
+     * @return the member ids in ascending order
+     */
+    public List<Long> searchRosterMembers(RosterOperation operation, List<Long> tournamentIds, long afterId,
+                                          int limit) {
+        return RosterBitmapIndex.page(indexes.rosters().combine(operation, tournamentIds), afterId, limit);
+    }
+
+    /**
+     * Records the committed name of a member.
+     * @param id the member id
+     * @param memberName the member name
+     */
+    public void memberSaved(Long id, String memberName) {
+        if (enabled) {
+            apply(live -> live.memberNames().put(id, memberName));
+        }
+    }
+
+    /**
+     * Drops a deleted member from the index.
+     * @param id the member id
+     */
+    public void memberRemoved(Long id) {
+        apply(live -> {
+            live.memberNames().remove(id);
+            live.rosters().removeMember(id);
+        });
+    }
+
+    /**
+     * Records the committed location and dates of a tournament.
+     * @param id the tournament id
+     * @param location the tournament location
+     * @param startDate the tournament start date
+     * @param endDate the tournament end date
+     */
+    public void tournamentSaved(Long id, String location, LocalDate startDate, LocalDate endDate) {
+        if (enabled) {
+            apply(live -> {
+                live.tournamentLocations().put(id, location);
+                live.tournamentDates().put(id, startDate, endDate);
+                live.rosters().addTournament(id);
+            });
+        }
+    }
+
+    /**
+     * Records the committed roster of a tournament that was saved with its members loaded.
+     * @param id the tournament id
+     * @param memberIds the ids of all its members
+     */
+    public void rosterSaved(Long id, Collection<Long> memberIds) {
+        if (enabled) {
+            apply(live -> live.rosters().replaceMembers(id, memberIds));
+        }
+    }
+
+    /**
+     * Records members committed to a tournament's roster.
+     * @param id the tournament id
+     * @param memberIds the ids of the added members
+     */
+    public void rosterAdded(Long id, Collection<Long> memberIds) {
+        if (enabled) {
+            apply(live -> live.rosters().addMembers(id, memberIds));
+        }
+    }
+
+    /**
+     * Drops a deleted tournament from the index.
+     * @param id the tournament id
+     */
+    public void tournamentRemoved(Long id) {
+        apply(live -> {
+            live.tournamentLocations().remove(id);
+            live.tournamentDates().remove(id);
+            live.rosters().removeTournament(id);
+        });
+    }
+
+    // Applies a committed change to the live indexes, recording it for the fresh ones if a build is running
+    private void apply(Consumer<Indexes> update) {
+        synchronized (updateLock) {
+            update.accept(indexes);
+            if (buffered != null) {
+                buffered.add(update);
+            }
+        }
+    }
+
+    /**
+     * One generation of the indexes, built together and swapped in together.
+     */
+    private record Indexes(TrigramIndex memberNames, TrigramIndex tournamentLocations,
+                           IntervalTree tournamentDates, RosterBitmapIndex rosters) {
+
+        static Indexes empty() {
+            return new Indexes(new TrigramIndex(), new TrigramIndex(), new IntervalTree(), new RosterBitmapIndex());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.chrisking.golfclub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, callers that arrive
+ * while it is in flight wait for and share its result (or its exception) instead of loading again.
+ * Nothing is kept once the load finishes; the next caller starts a fresh load.
+ * @param <K> the key type
+ * @param <V> the loaded value type, shared between callers and therefore expected to be immutable
+ */
+public class SingleFlight<K, V> {
+
+    // Loads currently running, by key
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // Callers that shared another caller's load
+    private final Counter coalesced;
+
+    // When false every caller runs its own load
+    private final boolean enabled;
+
+    /**
+     * Creates a single-flight group that counts coalesced callers as golfclub.singleflight.coalesced.
+     * @param operation the operation tag of the counter
+     * @param meterRegistry the registry the counter is registered with
+     * @param enabled whether concurrent loads are coalesced at all
+     */
+    public SingleFlight(String operation, MeterRegistry meterRegistry, boolean enabled) {
+        this.coalesced = Counter.builder("golfclub.singleflight.coalesced")
+                .description("Requests that shared an in-flight load instead of running their own")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the value for the key, joining a load that is already running for it if there is one.
+     * @param key the key to load
+     * @param loader the load to run when no load for the key is in flight
+     * @return the loaded value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        // Removed before completing so that callers arriving from now on start a fresh load
+        inFlight.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    /**
+     * Detaches the in-flight load for the key, if any, so later callers do not join it.
+     * Called after a write, because a load that started before the write may return the old state.
+     * @param key the key whose load should no longer be shared
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Rethrow the leader's exception as is, so callers see the same error whether or not they led
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
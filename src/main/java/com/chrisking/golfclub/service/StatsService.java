@@ -0,0 +1,153 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ClubStats;
+import com.chrisking.golfclub.dto.TournamentStats;
+import com.chrisking.golfclub.exception.TournamentNotFoundException;
+import com.chrisking.golfclub.index.ClubAggregates;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Serves the club statistics from aggregates kept in memory.
+ * Member, tournament and enrollment writes update the aggregates once they commit; a periodic reconciliation
+ * rebuilds them from the database, correcting anything the incremental updates did not see, such as bulk
+ * imports and deletions.
+ */
+@Service
+public class StatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsService.class);
+
+    // Repository dependency for member counts
+    private final MemberRepository memberRepository;
+
+    // Repository dependency for tournament figures
+    private final TournamentRepository tournamentRepository;
+
+    // Runs the reconciliation reads; not read-only, so they go to the primary rather than a lagging replica
+    private final TransactionTemplate transactionTemplate;
+
+    // The incrementally maintained statistics
+    private final ClubAggregates aggregates = new ClubAggregates();
+
+    // Reconciliations that found the aggregates out of step with the database
+    private final Counter drift;
+
+    // Constructor injection for the repositories, transaction manager and metrics registry
+    public StatsService(MemberRepository memberRepository,
+                        TournamentRepository tournamentRepository,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.drift = Counter.builder("golfclub.stats.reconcile.drift")
+                .description("Reconciliations that found the club statistics out of step with the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts a new member once the current transaction commits.
+     * @param membershipType the member's membership type
+     */
+    public void memberCreated(String membershipType) {
+        afterCommit(() -> aggregates.memberAdded(membershipType));
+    }
+
+    /**
+     * Adds a new tournament's figures once the current transaction commits.
+     * @param tournament the saved tournament
+     */
+    public void tournamentCreated(Tournament tournament) {
+        TournamentStats stats = new TournamentStats(tournament.getId(), tournament.getEntryFee(),
+                tournament.getCashPrizeAmount(), tournament.getRegisteredPlayers());
+        afterCommit(() -> aggregates.tournamentAdded(stats));
+    }
+
+    /**
+     * Adds enrolled players to a tournament's figures. Called once the enrollment has committed.
+     * @param tournamentId the ID of the tournament
+     * @param players the number of players added
+     */
+    public void playersEnrolled(Long tournamentId, int players) {
+        aggregates.playersAdded(tournamentId, players);
+    }
+
+    /**
+     * Returns the club-wide totals.
+     * @return the member counts and tournament finance totals
+     */
+    public ClubStats getClubStats() {
+        return aggregates.totals();
+    }
+
+    /**
+     * Returns one tournament's finance figures.
+     * @param tournamentId the ID of the tournament
+     * @return the tournament's figures
+     * @throws TournamentNotFoundException if tournament not found
+     */
+    public TournamentStats getTournamentStats(Long tournamentId) {
+        TournamentStats stats = aggregates.tournament(tournamentId);
+        if (stats == null) {
+            throw new TournamentNotFoundException(tournamentId);
+        }
+        return stats;
+    }
+
+    /**
+     * Rebuilds the aggregates from the database: at startup, then periodically.
+     * @return true if the aggregates had drifted from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${golfclub.stats.reconcile-interval:5m}",
+            initialDelayString = "${golfclub.stats.reconcile-interval:5m}")
+    public boolean reconcile() {
+        long start = System.nanoTime();
+        ClubAggregates.Rebuild rebuild = aggregates.beginRebuild();
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.countMembersPerType()
+                    .forEach(count -> rebuild.members(count.membershipType(), count.members()));
+            try (Stream<TournamentStats> tournaments = tournamentRepository.streamTournamentStats()) {
+                tournaments.forEach(rebuild::tournament);
+            }
+        });
+        boolean drifted = aggregates.finishRebuild(rebuild, LocalDateTime.now());
+        if (drifted) {
+            drift.increment();
+        }
+        ClubStats totals = aggregates.totals();
+        log.info("Reconciled club statistics ({} members, {} tournaments{}) in {} ms", totals.members(),
+                totals.tournaments(), drifted ? ", corrected drift" : "", (System.nanoTime() - start) / 1_000_000);
+        return drifted;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
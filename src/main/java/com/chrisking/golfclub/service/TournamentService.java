@@ -1,14 +1,54 @@
 package com.chrisking.golfclub.service;
 
+import com.chrisking.golfclub.config.CacheConfig;
+import com.chrisking.golfclub.dto.ChangeType;
+import com.chrisking.golfclub.dto.EnrollmentResult;
+import com.chrisking.golfclub.dto.FieldSet;
+import com.chrisking.golfclub.dto.KeysetPage;
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.PageCursor;
+import com.chrisking.golfclub.dto.RosterChange;
+import com.chrisking.golfclub.dto.RosterOperation;
+import com.chrisking.golfclub.dto.RosterVersion;
+import com.chrisking.golfclub.dto.TournamentResponse;
+import com.chrisking.golfclub.dto.TournamentSort;
+import com.chrisking.golfclub.exception.MemberNotFoundException;
+import com.chrisking.golfclub.exception.TournamentFullException;
+import com.chrisking.golfclub.exception.TournamentNotFoundException;
 import com.chrisking.golfclub.model.Member;
 import com.chrisking.golfclub.model.Tournament;
 import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.ProjectionRepository;
+import com.chrisking.golfclub.repository.RosterRepository;
 import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.repository.TournamentSpecifications;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for tournament-related business logic.
@@ -18,45 +58,196 @@ import java.util.List;
 @Service
 public class TournamentService {
 
+    // Upper bound for a single page of the tournament listing
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Upper bound for the number of results of a location search
+    public static final int MAX_SEARCH_RESULTS = 500;
+
+    // Upper bound for the number of member ids in one bulk enrollment
+    public static final int MAX_ENROLLMENT_BATCH = 1000;
+
+    // Upper bound for the number of tournaments combined by one roster set operation
+    public static final int MAX_ROSTER_OPERANDS = 100;
+
+    // Fields that can be requested with the "fields" parameter
+    public static final List<String> FIELDS = List.of("id", "startDate", "endDate", "location", "entryFee",
+            "cashPrizeAmount", "maxPlayers", "registeredPlayers");
+
+    // Location order of the keyset listing; tournaments without a location come last
+    private static final Sort LOCATION_ORDER = Sort.by(Sort.Order.asc("location").nullsLast(), Sort.Order.asc("id"));
+
     // Repository dependency for tournament data access
     private final TournamentRepository tournamentRepository;
     
     // Repository dependency for member data access
     private final MemberRepository memberRepository;
 
-    // Constructor injection for both repositories
+    // Repository dependency for roster inserts
+    private final RosterRepository rosterRepository;
+
+    // Builds member responses with batched tournament summaries
+    private final MemberResponseMapper memberResponseMapper;
+
+    // In-memory indexes over tournament locations, dates and rosters
+    private final SearchIndexService searchIndexService;
+
+    // Cached member responses, invalidated when a member joins a tournament
+    private final CacheFill<Long, MemberResponse> memberCacheFill;
+
+    // Cached tournament responses, filled directly with newly created tournaments
+    private final Cache tournamentCache;
+
+    // Fills the tournament cache; invalidated when a tournament's registered player count changes
+    private final CacheFill<Long, TournamentResponse> tournamentCacheFill;
+
+    // Shares one database load between concurrent lookups of the same tournament
+    private final SingleFlight<Long, TournamentResponse> tournamentLoads;
+
+    // Shares one database load between concurrent roster reads of the same tournament
+    private final SingleFlight<Long, List<MemberResponse>> rosterLoads;
+
+    // Transactions for the coalesced loads; waiting callers never hold a connection. Not read-only, so the
+    // tournament cache and rosters read just after an enrollment are filled from the primary, not a lagging replica
+    private final TransactionTemplate primaryTransaction;
+
+    // Read-only transactions for loading pages of members, which may be served by a replica
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Column projections for requests with a "fields" parameter
+    private final ProjectionRepository projectionRepository;
+
+    // Announces new tournaments and enrollments to change feed subscribers
+    private final ChangeFeedService changeFeedService;
+
+    // Keeps the tournament figures of the club statistics
+    private final StatsService statsService;
+
+    // Constructor injection for the repositories, the member response mapper, the search index, the change feed,
+    // the statistics, the caches and the single-flight settings
     public TournamentService(TournamentRepository tournamentRepository,
-                             MemberRepository memberRepository) {
+                             MemberRepository memberRepository,
+                             RosterRepository rosterRepository,
+                             ProjectionRepository projectionRepository,
+                             MemberResponseMapper memberResponseMapper,
+                             SearchIndexService searchIndexService,
+                             ChangeFeedService changeFeedService,
+                             StatsService statsService,
+                             CacheManager cacheManager,
+                             CacheFill<Long, MemberResponse> memberCacheFill,
+                             CacheFill<Long, TournamentResponse> tournamentCacheFill,
+                             MeterRegistry meterRegistry,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${golfclub.single-flight.enabled:true}") boolean singleFlightEnabled) {
         this.tournamentRepository = tournamentRepository;
         this.memberRepository = memberRepository;
+        this.rosterRepository = rosterRepository;
+        this.projectionRepository = projectionRepository;
+        this.memberResponseMapper = memberResponseMapper;
+        this.searchIndexService = searchIndexService;
+        this.changeFeedService = changeFeedService;
+        this.statsService = statsService;
+        this.memberCacheFill = memberCacheFill;
+        this.tournamentCacheFill = tournamentCacheFill;
+        this.tournamentCache = cacheManager.getCache(CacheConfig.TOURNAMENTS);
+        this.tournamentLoads = new SingleFlight<>("tournament", meterRegistry, singleFlightEnabled);
+        this.rosterLoads = new SingleFlight<>("roster", meterRegistry, singleFlightEnabled);
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * Creates and saves a new tournament to the database.
+     * The new tournament is published on the change feed and added to the statistics once the transaction commits.
      * @param tournament the tournament to create
      * @return the created tournament with assigned ID
+     * @throws IllegalArgumentException if maxPlayers is negative or the tournament ends before it starts
      */
+    @Transactional
     public Tournament createTournament(Tournament tournament) {
-        return tournamentRepository.save(tournament);
+        if (tournament.getMaxPlayers() != null && tournament.getMaxPlayers() < 0) {
+            throw new IllegalArgumentException("maxPlayers must not be negative");
+        }
+        if (tournament.getStartDate() != null && tournament.getEndDate() != null
+                && tournament.getEndDate().isBefore(tournament.getStartDate())) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        Tournament created = tournamentRepository.save(tournament);
+        // Snapshot taken now, so the event carries the tournament as committed rather than the managed entity
+        TournamentResponse response = TournamentResponse.of(created);
+        // The cache defers the put until commit
+        tournamentCache.put(created.getId(), response);
+        changeFeedService.publishAfterCommit(ChangeType.TOURNAMENT_CREATED, response);
+        statsService.tournamentCreated(created);
+        return created;
     }
 
     /**
-     * Retrieves all tournaments from the database.
-     * @return list of all tournaments
+     * Retrieves one keyset page of tournaments.
+     * Pages are read with a seek predicate on the sort key and id, so deep pages cost the same as the first one.
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param sort the sort parameter ("id" or "location")
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @return the page of tournaments and the cursor of the following page
+     * @throws IllegalArgumentException if the sort or cursor is invalid
      */
-    public List<Tournament> getAllTournaments() {
-        return tournamentRepository.findAll();
+    @Transactional(readOnly = true)
+    public KeysetPage<Tournament> getAllTournaments(int size, String sort, String cursor) {
+        TournamentSort tournamentSort = TournamentSort.fromParam(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor == null ? null : PageCursor.decode(cursor, tournamentSort.getParam());
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Tournament> rows = switch (tournamentSort) {
+            case ID -> tournamentRepository.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after.id(), limit);
+            case LOCATION -> {
+                if (after == null) {
+                    yield tournamentRepository.findFirstPageByLocation(limit);
+                }
+                yield after.key() == null
+                        ? tournamentRepository.findByLocationIsNullAndIdGreaterThanOrderByIdAsc(after.id(), limit)
+                        : tournamentRepository.findPageAfterLocation(after.key(), after.id(), limit);
+            }
+        };
+        return KeysetPage.of(rows, pageSize, tournament -> new PageCursor(tournamentSort.getParam(),
+                tournamentSort == TournamentSort.ID ? null : tournament.getLocation(), tournament.getId()));
     }
 
     /**
      * Retrieves a tournament by its ID.
+     * Served from the tournament cache when present; enrollment invalidates the tournament's entry, and a
+     * load that raced with an enrollment is not cached. Concurrent cache misses for the same id share
+     * a single database load.
      * @param id the tournament ID
      * @return the tournament with the specified ID
-     * @throws RuntimeException if tournament not found
+     * @throws TournamentNotFoundException if tournament not found
+     */
+    public TournamentResponse getTournamentById(Long id) {
+        return tournamentCacheFill.get(id, () -> tournamentLoads.execute(id, () -> primaryTransaction.execute(
+                status -> tournamentRepository.findById(id).map(TournamentResponse::of)
+                        .orElseThrow(() -> new TournamentNotFoundException(id)))));
+    }
+
+    /**
+     * Retrieves only the version of a tournament, for answering conditional requests.
+     * Always read from the database, without loading the tournament, so a cached entry that an enrollment
+     * has not yet invalidated cannot answer 304 for a changed tournament.
+     * @param id the tournament ID
+     * @return the tournament's version, or empty if the tournament does not exist
+     */
+    public Optional<Long> getTournamentVersion(Long id) {
+        return tournamentRepository.findVersionById(id);
+    }
+
+    /**
+     * Retrieves what a tournament's roster response depends on, for answering conditional requests
+     * without loading the roster.
+     * @param tournamentId the ID of the tournament
+     * @return the roster version, or empty if the tournament does not exist
      */
-    public Tournament getTournamentById(Long id) {
-        return tournamentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + id));
+    public Optional<RosterVersion> getRosterVersion(Long tournamentId) {
+        return tournamentRepository.findRosterVersion(tournamentId);
     }
 
     /**
@@ -64,48 +255,428 @@ public class TournamentService {
      * @param startDate the start date to filter by
      * @return list of tournaments starting on the specified date
      */
+    @Transactional(readOnly = true)
     public List<Tournament> searchByStartDate(LocalDate startDate) {
         return tournamentRepository.findByStartDate(startDate);
     }
 
+    /**
+     * Searches for tournaments running on at least one day of a date range, such as a week of the schedule.
+     * A tournament without an end date runs on its start date only.
+     * Served by the in-memory interval index; falls back to a range query while the index is not available.
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
+     * @return the overlapping tournaments, ordered by start date, end date and id
+     * @throws IllegalArgumentException if the range ends before it starts
+     */
+    @Transactional(readOnly = true)
+    public List<Tournament> searchByDateRange(LocalDate from, LocalDate to, int limit) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndexService.isReady()) {
+            return tournamentRepository.findOverlapping(from, to, Limit.of(maxResults));
+        }
+
+        List<Long> orderedIds = searchIndexService.searchTournamentDates(from, to, maxResults);
+        Map<Long, Tournament> byId = tournamentRepository.findAllById(orderedIds).stream()
+                .collect(Collectors.toMap(Tournament::getId, Function.identity()));
+        return orderedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Searches for tournaments running on a given day.
+     * @param date the day
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
+     * @return the tournaments in progress on that day, ordered by start date, end date and id
+     */
+    @Transactional(readOnly = true)
+    public List<Tournament> searchActiveOn(LocalDate date, int limit) {
+        return searchByDateRange(date, date, limit);
+    }
+
     /**
      * Searches for tournaments by their location (case-insensitive, partial match).
+     * Served by the in-memory trigram index and ranked best match first (exact, prefix, word start, substring);
+     * falls back to a LIKE query ordered by location while the index is not available.
      * @param location the location or partial location to search for
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
      * @return list of tournaments matching the location criteria
      */
-    public List<Tournament> searchByLocation(String location) {
-        return tournamentRepository.findByLocationContainingIgnoreCase(location);
+    @Transactional(readOnly = true)
+    public List<Tournament> searchByLocation(String location, int limit) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndexService.isReady()) {
+            return tournamentRepository.findByLocationContainingIgnoreCaseOrderByLocationAscIdAsc(location,
+                    Limit.of(maxResults));
+        }
+
+        List<Long> rankedIds = searchIndexService.searchTournamentLocations(location, maxResults);
+        Map<Long, Tournament> byId = tournamentRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Tournament::getId, Function.identity()));
+        return rankedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
     /**
-     * Adds a member to a tournament. Maintains bidirectional relationship.
-     * Transaction ensures atomicity of the operation.
+     * Adds a member to a tournament.
+     * The roster row is inserted directly, so neither the tournament's members nor the member's
+     * tournaments are loaded. Adding a member who is already enrolled is a no-op.
      * @param tournamentId the ID of the tournament
      * @param memberId the ID of the member to add
-     * @return the updated tournament
-     * @throws RuntimeException if tournament or member not found
+     * @return the tournament
+     * @throws TournamentFullException if the tournament has no seat left
+     * @throws TournamentNotFoundException if the tournament is not found
+     * @throws MemberNotFoundException if the member is not found
      */
     @Transactional
     public Tournament addMemberToTournament(Long tournamentId, Long memberId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentId));
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException(tournamentId);
+        }
+
+        EnrollmentResult result = enroll(tournamentId, List.of(memberId));
+        if (!result.missing().isEmpty()) {
+            throw new MemberNotFoundException(memberId);
+        }
+        // Loaded after the seat update so the returned registeredPlayers is current
+        return tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new TournamentNotFoundException(tournamentId));
+    }
+
+    /**
+     * Adds a batch of members to a tournament with set-based SQL.
+     * Unknown member ids and members already on the roster are reported rather than rejected.
+     * The batch is all-or-nothing with respect to capacity: if the new members do not all fit, none are added.
+     * @param tournamentId the ID of the tournament
+     * @param memberIds the IDs of the members to add
+     * @return which ids were added, which were already enrolled and which do not exist
+     * @throws IllegalArgumentException if more than MAX_ENROLLMENT_BATCH ids are given
+     * @throws TournamentFullException if the tournament does not have enough seats left
+     * @throws TournamentNotFoundException if tournament not found
+     */
+    @Transactional
+    public EnrollmentResult enrollMembers(Long tournamentId, Collection<Long> memberIds) {
+        if (memberIds.size() > MAX_ENROLLMENT_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_ENROLLMENT_BATCH + " member ids per request");
+        }
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException(tournamentId);
+        }
+        return enroll(tournamentId, memberIds);
+    }
+
+    /**
+     * Adds members to a tournament in the order given, admitting as many as there are seats left instead of
+     * refusing the whole batch. Used by the registration pipeline to enroll a micro-batch of queued requests
+     * for one tournament within the transaction it commits them in.
+     * @param tournamentId the ID of an existing tournament
+     * @param memberIds the IDs of the members to add, in the order they asked
+     * @return which ids were added, which were already enrolled and which do not exist; the remaining ids
+     *         did not fit
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EnrollmentResult enrollAvailable(Long tournamentId, Collection<Long> memberIds) {
+        EnrollmentResult candidates = classify(tournamentId, memberIds);
+        List<Long> added = candidates.added();
+        if (added.isEmpty()) {
+            return candidates;
+        }
+        int seats = rosterRepository.claimAvailableSeats(tournamentId, added.size());
+        List<Long> admitted = added.subList(0, seats);
+        if (admitted.isEmpty()) {
+            return new EnrollmentResult(List.of(), candidates.alreadyEnrolled(), candidates.missing());
+        }
+        return register(tournamentId, admitted, candidates);
+    }
+
+    // Classifies the requested ids, claims seats with one conditional update, then inserts the roster rows.
+    // Claiming first means every enrollment locks the tournament row before any roster row, so concurrent
+    // enrollments serialize on that single row without deadlocking.
+    private EnrollmentResult enroll(Long tournamentId, Collection<Long> memberIds) {
+        EnrollmentResult result = classify(tournamentId, memberIds);
+        if (result.added().isEmpty()) {
+            return result;
+        }
+        if (tournamentRepository.claimSeats(tournamentId, result.added().size()) == 0) {
+            throw new TournamentFullException(tournamentId);
+        }
+        return register(tournamentId, result.added(), result);
+    }
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new RuntimeException("Member not found with id: " + memberId));
+    // Splits the requested ids into members to add, members already enrolled and unknown ids
+    private EnrollmentResult classify(Long tournamentId, Collection<Long> memberIds) {
+        Set<Long> requested = new LinkedHashSet<>(memberIds);
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            return new EnrollmentResult(List.of(), List.of(), List.of());
+        }
 
-        tournament.getMembers().add(member);
-        member.getTournaments().add(tournament);
+        Set<Long> existing = new HashSet<>(memberRepository.findExistingIds(requested));
+        Set<Long> enrolled = new HashSet<>(tournamentRepository.findEnrolledMemberIds(tournamentId, requested));
 
-        return tournamentRepository.save(tournament);
+        List<Long> added = new ArrayList<>();
+        List<Long> alreadyEnrolled = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            if (!existing.contains(id)) {
+                missing.add(id);
+            } else if (enrolled.contains(id)) {
+                alreadyEnrolled.add(id);
+            } else {
+                added.add(id);
+            }
+        }
+        return new EnrollmentResult(added, alreadyEnrolled, missing);
+    }
+
+    // Inserts the roster rows for members whose seats are already claimed. Only the rows the insert wrote count
+    // as added: a member a concurrent request enrolled first is reported as already enrolled and its seat is
+    // given back, and a member deleted in the meantime as missing.
+    private EnrollmentResult register(Long tournamentId, List<Long> admitted, EnrollmentResult candidates) {
+        Set<Long> inserted = new HashSet<>(rosterRepository.insertRosterEntries(tournamentId, admitted));
+        List<Long> added = admitted.stream().filter(inserted::contains).toList();
+        List<Long> alreadyEnrolled = candidates.alreadyEnrolled();
+        List<Long> missing = candidates.missing();
+        if (added.size() < admitted.size()) {
+            tournamentRepository.releaseSeats(tournamentId, admitted.size() - added.size());
+            List<Long> skipped = admitted.stream().filter(id -> !inserted.contains(id)).toList();
+            Set<Long> enrolled = new HashSet<>(tournamentRepository.findEnrolledMemberIds(tournamentId, skipped));
+            alreadyEnrolled = concat(alreadyEnrolled, skipped.stream().filter(enrolled::contains).toList());
+            missing = concat(missing, skipped.stream().filter(id -> !enrolled.contains(id)).toList());
+        }
+        if (!added.isEmpty()) {
+            // The members' responses now list this tournament
+            memberRepository.incrementVersions(added);
+        }
+        // Claiming the seats changed the tournament's version even if no row was inserted
+        afterEnrollmentCommit(tournamentId, added);
+        return new EnrollmentResult(added, alreadyEnrolled, missing);
+    }
+
+    private static List<Long> concat(List<Long> first, List<Long> second) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        List<Long> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    // Loads that started before the enrollment committed return the old roster and seat count,
+    // so readers arriving after the commit must not join them and what they read must not stay cached;
+    // the roster index, the change feed and the statistics learn of the new members
+    private void afterEnrollmentCommit(Long tournamentId, List<Long> added) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tournamentLoads.forget(tournamentId);
+                rosterLoads.forget(tournamentId);
+                tournamentCacheFill.invalidate(tournamentId);
+                if (added.isEmpty()) {
+                    return;
+                }
+                added.forEach(memberCacheFill::invalidate);
+                searchIndexService.rosterAdded(tournamentId, added);
+                changeFeedService.publish(ChangeType.ROSTER_ENROLLED, new RosterChange(tournamentId, added));
+                statsService.playersEnrolled(tournamentId, added.size());
+            }
+        });
     }
 
     /**
      * Retrieves all members participating in a specific tournament.
+     * Concurrent reads of the same roster share a single database load.
      * @param tournamentId the ID of the tournament
-     * @return list of members in the tournament (immutable copy)
+     * @return list of members in the tournament, ordered by id
+     * @throws TournamentNotFoundException if tournament not found
+     */
+    public List<MemberResponse> getMembersInTournament(Long tournamentId) {
+        return rosterLoads.execute(tournamentId, () -> primaryTransaction.execute(status -> {
+            List<Member> members = memberRepository.findByTournaments_IdOrderByIdAsc(tournamentId);
+            // Only an empty roster needs telling apart from a missing tournament
+            if (members.isEmpty() && !tournamentRepository.existsById(tournamentId)) {
+                throw new TournamentNotFoundException(tournamentId);
+            }
+            return List.copyOf(memberResponseMapper.toResponses(members));
+        }));
+    }
+
+    /**
+     * Lists the members resulting from a set operation over tournament rosters, one keyset page at a time.
+     * The member ids are computed by the in-memory roster index; only the members of the returned page are
+     * loaded. While the index is not available, the ids are read with one roster query instead.
+     * @param operation the operation parameter ("intersection", "union" or "difference")
+     * @param tournamentIds the tournaments to combine; for a difference, the first roster minus all the others
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @return the page of members, ordered by id, and the cursor of the following page
+     * @throws IllegalArgumentException if the operation, the number of tournaments or the cursor is invalid
+     * @throws TournamentNotFoundException if a tournament is not found
+     */
+    public KeysetPage<MemberResponse> searchRosterMembers(String operation, List<Long> tournamentIds, int size,
+                                                          String cursor) {
+        RosterOperation rosterOperation = RosterOperation.fromParam(operation);
+        validateRosterOperands(tournamentIds);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long afterId = cursor == null ? 0L : PageCursor.decode(cursor, rosterOperation.getParam()).id();
+
+        List<Long> ids = searchIndexService.isReady()
+                ? searchIndexService.searchRosterMembers(rosterOperation, tournamentIds, afterId, pageSize + 1)
+                : findRosterMemberIds(rosterOperation, tournamentIds, afterId, Limit.of(pageSize + 1));
+        KeysetPage<Long> page = KeysetPage.of(ids, pageSize,
+                id -> new PageCursor(rosterOperation.getParam(), null, id));
+        if (page.items().isEmpty()) {
+            return new KeysetPage<>(List.of(), page.next());
+        }
+        List<MemberResponse> members = readOnlyTransaction.execute(status -> {
+            Map<Long, Member> byId = memberRepository.findAllById(page.items()).stream()
+                    .collect(Collectors.toMap(Member::getId, Function.identity()));
+            return memberResponseMapper.toResponses(
+                    page.items().stream().map(byId::get).filter(Objects::nonNull).toList());
+        });
+        return new KeysetPage<>(members, page.next());
+    }
+
+    /**
+     * Counts the members resulting from a set operation over tournament rosters.
+     * Answered from the in-memory roster index without touching the database once it is available.
+     * @param operation the operation parameter ("intersection", "union" or "difference")
+     * @param tournamentIds the tournaments to combine; for a difference, the first roster minus all the others
+     * @return the number of members in the result
+     * @throws IllegalArgumentException if the operation or the number of tournaments is invalid
+     * @throws TournamentNotFoundException if a tournament is not found
+     */
+    public long countRosterMembers(String operation, List<Long> tournamentIds) {
+        RosterOperation rosterOperation = RosterOperation.fromParam(operation);
+        validateRosterOperands(tournamentIds);
+        if (searchIndexService.isReady()) {
+            return searchIndexService.countRosterMembers(rosterOperation, tournamentIds);
+        }
+        return findRosterMemberIds(rosterOperation, tournamentIds, 0L, Limit.unlimited()).size();
+    }
+
+    // Checks the number of tournaments and that each of them exists, from the index when it is available
+    private void validateRosterOperands(List<Long> tournamentIds) {
+        if (tournamentIds.isEmpty() || tournamentIds.size() > MAX_ROSTER_OPERANDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_ROSTER_OPERANDS + " tournament ids expected");
+        }
+        if (tournamentIds.contains(null)) {
+            throw new IllegalArgumentException("Tournament ids must not be empty");
+        }
+        List<Long> unknown;
+        if (searchIndexService.isReady()) {
+            unknown = searchIndexService.unknownTournaments(tournamentIds);
+        } else {
+            Set<Long> existing = new HashSet<>(tournamentRepository.findExistingIds(tournamentIds));
+            unknown = tournamentIds.stream().filter(id -> !existing.contains(id)).toList();
+        }
+        if (!unknown.isEmpty()) {
+            throw new TournamentNotFoundException(unknown.get(0));
+        }
+    }
+
+    // Database fallback for the roster index: the same set operations as roster queries
+    private List<Long> findRosterMemberIds(RosterOperation operation, List<Long> tournamentIds, long afterId,
+                                           Limit limit) {
+        Set<Long> distinct = new LinkedHashSet<>(tournamentIds);
+        return switch (operation) {
+            case INTERSECTION -> tournamentRepository.findMemberIdsInAll(distinct, distinct.size(), afterId, limit);
+            case UNION -> tournamentRepository.findMemberIdsInAny(distinct, afterId, limit);
+            case DIFFERENCE -> {
+                Long first = tournamentIds.get(0);
+                List<Long> excluded = tournamentIds.subList(1, tournamentIds.size());
+                yield excluded.isEmpty()
+                        ? tournamentRepository.findMemberIdsInAny(List.of(first), afterId, limit)
+                        : tournamentRepository.findMemberIdsInFirstOnly(first, excluded, afterId, limit);
+            }
+        };
+    }
+
+    /**
+     * Retrieves one keyset page of tournaments with only the requested fields.
+     * @param size the page size, clamped to 1..MAX_PAGE_SIZE
+     * @param sort the sort parameter ("id" or "location")
+     * @param cursor the "next" cursor of the previous page, or null for the first page
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return the page of tournament rows and the cursor of the following page
+     * @throws IllegalArgumentException if the sort, cursor or a field is invalid
      */
-    public List<Member> getMembersInTournament(Long tournamentId) {
-        Tournament tournament = getTournamentById(tournamentId);
-        return List.copyOf(tournament.getMembers());
+    @Transactional(readOnly = true)
+    public KeysetPage<Map<String, Object>> getAllTournaments(int size, String sort, String cursor, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        TournamentSort tournamentSort = TournamentSort.fromParam(sort);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor == null ? null : PageCursor.decode(cursor, tournamentSort.getParam());
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Map<String, Object>> rows = switch (tournamentSort) {
+            case ID -> project(fieldSet, TournamentSpecifications.idAfter(after == null ? 0L : after.id()),
+                    Sort.by("id"), limit);
+            case LOCATION -> {
+                if (after == null) {
+                    yield project(fieldSet, Specification.unrestricted(), LOCATION_ORDER, limit);
+                }
+                yield after.key() == null
+                        ? project(fieldSet, TournamentSpecifications.withoutLocationAfter(after.id()),
+                                Sort.by("id"), limit)
+                        : project(fieldSet, TournamentSpecifications.afterLocation(after.key(), after.id()),
+                                LOCATION_ORDER, limit);
+            }
+        };
+        KeysetPage<Map<String, Object>> page = KeysetPage.of(rows, pageSize, row -> new PageCursor(
+                tournamentSort.getParam(), tournamentSort == TournamentSort.ID ? null : (String) row.get("location"),
+                (Long) row.get("id")));
+        return page.map(fieldSet::retain);
+    }
+
+    /**
+     * Searches for tournaments by their start date, returning only the requested fields.
+     * @param startDate the start date to filter by
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return rows of the tournaments starting on the specified date
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchByStartDate(LocalDate startDate, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        return project(fieldSet, TournamentSpecifications.startsOn(startDate), Sort.unsorted(), Limit.unlimited())
+                .stream().map(fieldSet::retain).toList();
+    }
+
+    /**
+     * Searches for tournaments by location like {@link #searchByLocation(String, int)},
+     * returning only the requested fields.
+     * @param location the location or partial location to search for
+     * @param limit the maximum number of results, clamped to 1..MAX_SEARCH_RESULTS
+     * @param fields the comma-separated fields to return; the id is always returned
+     * @return rows of the tournaments matching the location, best match first
+     * @throws IllegalArgumentException if a field is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchByLocation(String location, int limit, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, FIELDS);
+        int maxResults = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (!searchIndexService.isReady()) {
+            return project(fieldSet, TournamentSpecifications.locationContains(location),
+                    Sort.by("location", "id"), Limit.of(maxResults)).stream().map(fieldSet::retain).toList();
+        }
+
+        List<Long> rankedIds = searchIndexService.searchTournamentLocations(location, maxResults);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Map<String, Object>> byId = project(fieldSet, TournamentSpecifications.idIn(rankedIds),
+                Sort.unsorted(), Limit.unlimited()).stream()
+                .collect(Collectors.toMap(row -> row.get(FieldSet.ID), Function.identity()));
+        return rankedIds.stream().map(byId::get).filter(Objects::nonNull).map(fieldSet::retain).toList();
+    }
+
+    // Selects the requested columns plus the location, which the location-ordered pages need for their cursor
+    private List<Map<String, Object>> project(FieldSet fieldSet, Specification<Tournament> where, Sort sort,
+                                              Limit limit) {
+        return projectionRepository.findRows(Tournament.class, fieldSet.selecting(List.of("location"), List.of()),
+                where, sort, limit);
     }
 }
@@ -0,0 +1,32 @@
+-- Schema as created by Hibernate (ddl-auto=update) before migrations took over.
+-- Existing databases are baselined at this version and skip this script.
+
+create table members (
+    id bigint generated by default as identity,
+    member_name varchar(255) not null,
+    address varchar(255),
+    email varchar(255) not null unique,
+    phone_number varchar(255),
+    membership_start_date date,
+    membership_duration_months integer,
+    membership_type varchar(255),
+    primary key (id)
+);
+
+create table tournaments (
+    id bigint generated by default as identity,
+    start_date date,
+    end_date date,
+    location varchar(255),
+    entry_fee numeric(38,2),
+    cash_prize_amount numeric(38,2),
+    primary key (id)
+);
+
+create table tournament_members (
+    tournament_id bigint not null,
+    member_id bigint not null,
+    primary key (member_id, tournament_id),
+    constraint fk_tournament_members_tournament foreign key (tournament_id) references tournaments,
+    constraint fk_tournament_members_member foreign key (member_id) references members
+);
@@ -0,0 +1,7 @@
+-- Tournament capacity. Databases that ran with ddl-auto=update may already have these columns.
+alter table tournaments add column if not exists max_players integer;
+alter table tournaments add column if not exists registered_players integer default 0 not null;
+
+-- The counter is maintained on enrollment; seed it from the rosters that existed before
+update tournaments t
+set registered_players = (select count(*) from tournament_members tm where tm.tournament_id = t.id);
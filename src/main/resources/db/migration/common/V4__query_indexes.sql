@@ -0,0 +1,16 @@
+-- Indexes for the lookups the repositories run.
+
+-- findByPhoneNumber
+create index idx_members_phone_number on members (phone_number);
+
+-- Name keyset pages (order by member_name, id) and the name search fallback
+create index idx_members_name_id on members (member_name, id);
+
+-- findByStartDate and the tournament side of findByTournaments_StartDate
+create index idx_tournaments_start_date on tournaments (start_date);
+
+-- Location keyset pages (order by location, id)
+create index idx_tournaments_location_id on tournaments (location, id);
+
+-- The primary key leads with member_id; rosters and findByTournaments_* join from the tournament side
+create index idx_tournament_members_tournament_member on tournament_members (tournament_id, member_id);
@@ -0,0 +1,5 @@
+-- Optimistic-locking versions, and a roster version bumped on every enrollment.
+-- Together they are the ETags of the member, tournament and roster read endpoints.
+alter table members add column if not exists version bigint default 0 not null;
+alter table tournaments add column if not exists version bigint default 0 not null;
+alter table tournaments add column if not exists roster_version bigint default 0 not null;
@@ -0,0 +1,31 @@
+-- Membership expiry date (start date plus duration), maintained by the Member entity and backfilled per vendor.
+alter table members add column if not exists membership_expiry_date date;
+
+-- Expiring-between listings and the renewal job page through members in (membership_expiry_date, id) order
+create index idx_members_expiry_date_id on members (membership_expiry_date, id);
+
+-- One renewal notice per member and expiry date; re-running the job never sends a second one
+create table renewal_notices (
+    id bigint generated by default as identity,
+    member_id bigint not null,
+    expiry_date date not null,
+    created_at timestamp not null,
+    primary key (id),
+    constraint uk_renewal_notices_member_expiry unique (member_id, expiry_date),
+    constraint fk_renewal_notices_member foreign key (member_id) references members on delete cascade
+);
+
+-- Progress of chunked batch jobs: the last position committed by each run, so a failed run resumes there
+create table job_checkpoints (
+    id bigint generated by default as identity,
+    job_name varchar(100) not null,
+    run_date date not null,
+    last_date date,
+    last_id bigint,
+    processed bigint default 0 not null,
+    completed boolean default false not null,
+    updated_at timestamp not null,
+    version bigint default 0 not null,
+    primary key (id),
+    constraint uk_job_checkpoints_job_run unique (job_name, run_date)
+);
@@ -0,0 +1,19 @@
+-- Hole-by-hole scores from the course tablets, appended in batches; a later event for the same hole corrects it.
+-- Ids come from a pooled sequence (allocation size 50) so the batches are sent as JDBC batch inserts.
+create sequence score_events_seq start with 1 increment by 50;
+
+create table score_events (
+    id bigint not null,
+    tournament_id bigint not null,
+    member_id bigint not null,
+    hole smallint not null,
+    strokes smallint not null,
+    par smallint not null,
+    recorded_at timestamp not null,
+    primary key (id),
+    constraint fk_score_events_tournament foreign key (tournament_id) references tournaments on delete cascade,
+    constraint fk_score_events_member foreign key (member_id) references members on delete cascade
+);
+
+-- Leaderboards are rebuilt at startup by replaying each tournament's events in id order
+create index idx_score_events_tournament_id on score_events (tournament_id, id);
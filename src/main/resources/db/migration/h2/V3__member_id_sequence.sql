@@ -0,0 +1,4 @@
+-- Member ids come from a pooled sequence (allocation size 50) so inserts can be batched.
+-- The embedded database always starts empty, so the sequence needs no repositioning.
+create sequence if not exists members_seq start with 1 increment by 50;
+alter table members alter column id drop identity;
@@ -0,0 +1,9 @@
+-- Member ids come from a pooled sequence (allocation size 50) so inserts can be batched.
+create sequence if not exists members_seq start with 1 increment by 50;
+alter sequence members_seq increment by 50;
+alter table members alter column id drop identity if exists;
+
+-- Hibernate hands out (value - 50, value] per nextval, so move the sequence past every existing id
+select setval('members_seq',
+              greatest((select coalesce(max(id), 0) from members) + 50,
+                       (select last_value from members_seq)));
@@ -0,0 +1,3 @@
+-- findByMembershipTypeIgnoreCase compares upper(membership_type) = upper(?), so it needs an expression index.
+-- H2 has no expression indexes, so this one only exists on PostgreSQL.
+create index idx_members_membership_type_upper on members (upper(membership_type));
@@ -0,0 +1,6 @@
+-- Computes the expiry date of existing members the way Member does: start date plus duration, clamped to the
+-- last day of a shorter month. The embedded database always starts empty, so this only exists on PostgreSQL.
+update members
+set membership_expiry_date = (membership_start_date + membership_duration_months * interval '1 month')::date
+where membership_start_date is not null
+  and membership_duration_months is not null;
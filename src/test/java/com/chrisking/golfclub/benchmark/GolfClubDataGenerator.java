@@ -0,0 +1,85 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic generator of realistic club data for benchmarks.
+ * The same seed always yields the same members and tournaments, so runs are comparable across versions.
+ */
+public class GolfClubDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin"
+    };
+
+    private static final String[] MEMBERSHIP_TYPES = {"standard", "premium", "junior", "senior", "corporate"};
+
+    private static final String[] COURSES = {
+            "Pebble Creek", "Oak Hills", "Cedar Ridge", "Pine Valley", "Willow Bend", "Eagle Point", "Stone Harbor",
+            "Maple Grove", "Silver Lake", "Fox Run"
+    };
+
+    private static final String[] TOWNS = {"St. John's", "Mount Pearl", "Paradise", "Torbay", "Gander", "Corner Brook"};
+
+    private final Random random;
+
+    public GolfClubDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates members with unique emails and phone numbers.
+     * @param count the number of members
+     * @return new, unsaved members
+     */
+    public List<Member> members(int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String first = pick(FIRST_NAMES);
+            String last = pick(LAST_NAMES);
+            members.add(new Member(first + " " + last,
+                    (1 + random.nextInt(999)) + " " + pick(COURSES) + " Rd, " + pick(TOWNS),
+                    first.toLowerCase() + "." + last.toLowerCase() + "." + i + "@example.com",
+                    String.format("709-%03d-%04d", i / 10000 % 1000, i % 10000),
+                    LocalDate.of(2015, 1, 1).plusDays(random.nextInt(4000)),
+                    12 * (1 + random.nextInt(3)),
+                    pick(MEMBERSHIP_TYPES)));
+        }
+        return members;
+    }
+
+    /**
+     * Generates tournaments spread over several seasons.
+     * @param count the number of tournaments
+     * @return new, unsaved tournaments
+     */
+    public List<Tournament> tournaments(int count) {
+        List<Tournament> tournaments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = LocalDate.of(2020, 4, 1).plusDays(random.nextInt(2500));
+            tournaments.add(new Tournament(start,
+                    start.plusDays(random.nextInt(4)),
+                    pick(COURSES) + ", " + pick(TOWNS),
+                    BigDecimal.valueOf(25 + 5 * random.nextInt(20)),
+                    BigDecimal.valueOf(500 + 250 * random.nextInt(40))));
+        }
+        return tournaments;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,172 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.dto.ScoreSubmission;
+import com.chrisking.golfclub.exception.ScoringUnavailableException;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.ScoreEventRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.ScoreEventWriter;
+import com.chrisking.golfclub.service.ScoringService;
+import com.chrisking.golfclub.service.SearchIndexService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures sustained score ingestion from concurrent tablets, how long the background writer takes to persist
+ * the events, and leaderboard read latency while a field is being scored.
+ * Run with: mvn test -Pbenchmark -Dtest=LiveScoringBenchmarkTests [-Dbenchmark.scoring.events=500000]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class LiveScoringBenchmarkTests {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.scoring.events", 500_000);
+
+    private static final int TABLETS = Integer.getInteger("benchmark.scoring.tablets", 8);
+
+    private static final int TOURNAMENTS = 10;
+
+    private static final int FIELD_SIZE = 150;
+
+    // A tablet sends the holes its group has just finished
+    private static final int BATCH_SIZE = 20;
+
+    private static final int READS = 10_000;
+
+    @Autowired
+    private ScoringService scoringService;
+
+    @Autowired
+    private ScoreEventWriter scoreEventWriter;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ScoreEventRepository scoreEventRepository;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        scoreEventWriter.flush(Duration.ofMinutes(5));
+        scoreEventRepository.deleteAllInBatch();
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+        searchIndexService.build();
+        scoringService.rebuild();
+    }
+
+    @Test
+    void sustainedIngestion() throws Exception {
+        GolfClubDataGenerator generator = new GolfClubDataGenerator(42);
+        List<Long> members = memberRepository.saveAll(generator.members(TOURNAMENTS * FIELD_SIZE)).stream()
+                .map(Member::getId).toList();
+        List<Long> tournaments = new ArrayList<>();
+        for (Tournament tournament : tournamentRepository.saveAll(generator.tournaments(TOURNAMENTS))) {
+            int field = tournaments.size() * FIELD_SIZE;
+            tournamentService.enrollMembers(tournament.getId(), members.subList(field, field + FIELD_SIZE));
+            tournaments.add(tournament.getId());
+        }
+        searchIndexService.build();
+
+        AtomicLong rejected = new AtomicLong();
+        int batchesPerTablet = EVENTS / BATCH_SIZE / TABLETS;
+        ExecutorService tablets = Executors.newFixedThreadPool(TABLETS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < TABLETS; t++) {
+            Random random = new Random(t);
+            futures.add(tablets.submit(() -> {
+                for (int b = 0; b < batchesPerTablet; b++) {
+                    int tournament = random.nextInt(TOURNAMENTS);
+                    List<ScoreSubmission> batch = new ArrayList<>(BATCH_SIZE);
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        Long member = members.get(tournament * FIELD_SIZE + random.nextInt(FIELD_SIZE));
+                        batch.add(new ScoreSubmission(member, 1 + random.nextInt(18), 2 + random.nextInt(5), 4));
+                    }
+                    submit(tournaments.get(tournament), batch, rejected);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long ingested = System.nanoTime() - start;
+        tablets.shutdown();
+
+        long[] reads = new long[READS];
+        Random random = new Random(99);
+        for (int i = 0; i < READS; i++) {
+            Long tournamentId = tournaments.get(random.nextInt(TOURNAMENTS));
+            long readStart = System.nanoTime();
+            scoringService.getLeaderboard(tournamentId, 50);
+            reads[i] = System.nanoTime() - readStart;
+        }
+        Arrays.sort(reads);
+
+        long drainStart = System.nanoTime();
+        assertThat(scoreEventWriter.flush(Duration.ofMinutes(5))).isTrue();
+        long drained = System.nanoTime() - drainStart;
+        long total = (long) batchesPerTablet * TABLETS * BATCH_SIZE;
+        long persisted = scoreEventRepository.count();
+        long elapsed = ingested + drained;
+
+        System.out.printf("[benchmark] ingest: %d events from %d tablets in %.1f ms (%.0f events/s, "
+                        + "%d batches refused while the queue was full)%n",
+                total, TABLETS, ingested / 1_000_000.0, total / (ingested / 1_000_000_000.0), rejected.get());
+        System.out.printf("[benchmark] persistence: %d events written %.1f ms after ingest ended "
+                        + "(%.0f events/s end to end)%n",
+                persisted, drained / 1_000_000.0, persisted / (elapsed / 1_000_000_000.0));
+        System.out.printf("[benchmark] leaderboard top 50 of %d players: p50=%.4f ms p99=%.4f ms%n",
+                FIELD_SIZE, percentile(reads, 50), percentile(reads, 99));
+        assertThat(persisted).isEqualTo(total);
+    }
+
+    private void submit(Long tournamentId, List<ScoreSubmission> batch, AtomicLong rejected)
+            throws InterruptedException {
+        while (true) {
+            try {
+                scoringService.submitScores(tournamentId, batch);
+                return;
+            } catch (ScoringUnavailableException e) {
+                // What a tablet does on a 503: wait and resend the same batch
+                rejected.incrementAndGet();
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
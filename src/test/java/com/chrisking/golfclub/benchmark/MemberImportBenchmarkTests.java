@@ -0,0 +1,89 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.dto.ImportResult;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.service.MemberImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures bulk import throughput (rows per second) against the embedded database.
+ * Run with: mvn test -Pbenchmark -Dtest=MemberImportBenchmarkTests [-Dbenchmark.import.rows=50000]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberImportBenchmarkTests {
+
+    private static final int ROWS = Integer.getInteger("benchmark.import.rows", 20_000);
+
+    private static final int WARMUP_ROWS = 2_000;
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void jsonImportThroughput() {
+        memberImportService.importMembers(new GolfClubDataGenerator(7).members(WARMUP_ROWS));
+        memberRepository.deleteAllInBatch();
+
+        List<Member> members = new GolfClubDataGenerator(42).members(ROWS);
+        long start = System.nanoTime();
+        ImportResult result = memberImportService.importMembers(members);
+        report("json", result, System.nanoTime() - start);
+
+        assertThat(result.created()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void csvImportThroughputWithDuplicates() throws Exception {
+        List<Member> members = new GolfClubDataGenerator(42).members(ROWS);
+        // Pre-load every tenth member so the import has to report duplicates
+        memberImportService.importMembers(IntStream.range(0, ROWS).filter(i -> i % 10 == 0).mapToObj(members::get).toList());
+
+        StringBuilder csv = new StringBuilder("memberName,address,email,phoneNumber,membershipStartDate,"
+                + "membershipDurationMonths,membershipType\n");
+        for (Member m : members) {
+            csv.append('"').append(m.getMemberName()).append("\",\"").append(m.getAddress()).append("\",")
+                    .append(m.getEmail()).append(',').append(m.getPhoneNumber()).append(',')
+                    .append(m.getMembershipStartDate()).append(',').append(m.getMembershipDurationMonths()).append(',')
+                    .append(m.getMembershipType()).append('\n');
+        }
+        byte[] content = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        long start = System.nanoTime();
+        ImportResult result = memberImportService.importCsv(new ByteArrayInputStream(content));
+        report("csv", result, System.nanoTime() - start);
+
+        assertThat(result.duplicates()).isEqualTo(ROWS / 10);
+        assertThat(result.created()).isEqualTo(ROWS - ROWS / 10);
+    }
+
+    private static void report(String format, ImportResult result, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("[benchmark] member import (%s): %d rows in %.2f s = %.0f rows/s "
+                        + "(created=%d, duplicates=%d, invalid=%d)%n",
+                format, result.total(), seconds, result.total() / seconds,
+                result.created(), result.duplicates(), result.invalid());
+    }
+}
@@ -0,0 +1,96 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.service.MemberImportService;
+import com.chrisking.golfclub.service.SearchIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares member name search through the trigram index with the LIKE query it replaces.
+ * Run with: mvn test -Pbenchmark -Dtest=MemberNameSearchBenchmarkTests [-Dbenchmark.search.members=100000]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberNameSearchBenchmarkTests {
+
+    private static final int MEMBERS = Integer.getInteger("benchmark.search.members", 100_000);
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.search.iterations", 200);
+
+    private static final int LIMIT = 50;
+
+    // Typical front-desk keystroke sequences: short prefixes, full surnames and rare substrings
+    private static final List<String> QUERIES = List.of("sm", "smi", "smith", "john", "anders", "lee", "ert", "xyz");
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+        searchIndexService.build();
+    }
+
+    @Test
+    void indexVersusLikeQuery() {
+        List<Member> members = new GolfClubDataGenerator(42).members(MEMBERS);
+        memberImportService.importMembers(members);
+        long buildStart = System.nanoTime();
+        searchIndexService.build();
+        System.out.printf("[benchmark] name index build: %d members in %.1f ms%n",
+                MEMBERS, (System.nanoTime() - buildStart) / 1_000_000.0);
+        assertThat(searchIndexService.isReady()).isTrue();
+
+        for (String query : QUERIES) {
+            long[] index = measure(q -> searchIndexService.searchMemberNames(q, LIMIT).size(), query);
+            long[] like = measure(q -> memberRepository
+                    .findByMemberNameContainingIgnoreCaseOrderByMemberNameAscIdAsc(q, Limit.of(LIMIT)).size(), query);
+            System.out.printf("[benchmark] name search '%s': index p50=%.3f ms p99=%.3f ms | like p50=%.3f ms p99=%.3f ms%n",
+                    query, percentile(index, 50), percentile(index, 99), percentile(like, 50), percentile(like, 99));
+
+            // Both paths must agree on whether there is anything to find
+            assertThat(searchIndexService.searchMemberNames(query, LIMIT).isEmpty())
+                    .isEqualTo(memberRepository.findByMemberNameContainingIgnoreCaseOrderByMemberNameAscIdAsc(query,
+                            Limit.of(LIMIT)).isEmpty());
+        }
+    }
+
+    private static long[] measure(Function<String, Integer> search, String query) {
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            search.apply(query);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.apply(query);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
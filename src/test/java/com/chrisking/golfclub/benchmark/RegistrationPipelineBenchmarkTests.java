@@ -0,0 +1,163 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.dto.RegistrationStatus;
+import com.chrisking.golfclub.dto.RegistrationTicket;
+import com.chrisking.golfclub.exception.RegistrationQueueFullException;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.RegistrationPipeline;
+import com.chrisking.golfclub.service.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares registration throughput and latency of the synchronous path, one transaction per registration,
+ * with the asynchronous pipeline, which commits queued registrations in batches. Each client registers a
+ * disjoint set of members across a handful of tournaments, as during a peak registration window.
+ * Latency is measured until the registration is committed: the call for the synchronous path, submission
+ * until the ticket completes for the pipeline.
+ * Run with: mvn test -Pbenchmark -Dtest=RegistrationPipelineBenchmarkTests [-Dbenchmark.registration.count=20000]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class RegistrationPipelineBenchmarkTests {
+
+    private static final int REGISTRATIONS = Integer.getInteger("benchmark.registration.count", 20_000);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.registration.clients", 32);
+
+    private static final int TOURNAMENTS = 8;
+
+    @Autowired
+    private RegistrationPipeline registrationPipeline;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        registrationPipeline.flush(Duration.ofMinutes(5));
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void synchronousVersusPipelined() throws Exception {
+        GolfClubDataGenerator generator = new GolfClubDataGenerator(42);
+        List<Long> members = memberRepository.saveAll(generator.members(REGISTRATIONS / TOURNAMENTS)).stream()
+                .map(Member::getId).toList();
+
+        List<Long> syncTournaments = tournaments(generator);
+        Result sync = run("synchronous", members, syncTournaments, tournamentService::addMemberToTournament);
+
+        AtomicLong refused = new AtomicLong();
+        List<Long> asyncTournaments = tournaments(generator);
+        Result pipelined = run("pipelined", members, asyncTournaments, (tournamentId, memberId) -> {
+            RegistrationTicket ticket = submit(tournamentId, memberId, refused);
+            RegistrationTicket done = registrationPipeline.awaitTicket(ticket.ticketId(), Duration.ofMinutes(1))
+                    .orElseThrow();
+            assertThat(done.status()).isEqualTo(RegistrationStatus.ENROLLED);
+        });
+
+        System.out.printf("[benchmark] pipelined/synchronous throughput: %.2fx (%d requests refused with 429)%n",
+                pipelined.perSecond() / sync.perSecond(), refused.get());
+        for (List<Long> tournaments : List.of(syncTournaments, asyncTournaments)) {
+            long enrolled = tournaments.stream()
+                    .mapToLong(id -> tournamentRepository.findById(id).orElseThrow().getRegisteredPlayers()).sum();
+            assertThat(enrolled).isEqualTo((long) members.size() * TOURNAMENTS);
+        }
+    }
+
+    // Registers every member for every tournament from concurrent clients and reports throughput and latency
+    private Result run(String name, List<Long> members, List<Long> tournaments, Registration registration)
+            throws Exception {
+        int perClient = members.size() * tournaments.size() / CLIENTS;
+        long[] latencies = new long[perClient * CLIENTS];
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < perClient; i++) {
+                    int n = client * perClient + i;
+                    Long tournamentId = tournaments.get(n % tournaments.size());
+                    Long memberId = members.get(n / tournaments.size());
+                    long callStart = System.nanoTime();
+                    registration.register(tournamentId, memberId);
+                    latencies[n] = System.nanoTime() - callStart;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+        Arrays.sort(latencies);
+
+        double perSecond = latencies.length / (elapsed / 1_000_000_000.0);
+        System.out.printf("[benchmark] %s: %d registrations from %d clients in %.1f ms (%.0f registrations/s), "
+                        + "latency p50=%.3f ms p99=%.3f ms%n",
+                name, latencies.length, CLIENTS, elapsed / 1_000_000.0, perSecond,
+                percentile(latencies, 50), percentile(latencies, 99));
+        return new Result(perSecond);
+    }
+
+    private List<Long> tournaments(GolfClubDataGenerator generator) {
+        List<Tournament> tournaments = generator.tournaments(TOURNAMENTS);
+        // Room for everyone, so every registration is admitted
+        tournaments.forEach(tournament -> tournament.setMaxPlayers(null));
+        return tournamentRepository.saveAll(tournaments).stream().map(Tournament::getId).toList();
+    }
+
+    private RegistrationTicket submit(Long tournamentId, Long memberId, AtomicLong refused)
+            throws InterruptedException {
+        while (true) {
+            try {
+                return registrationPipeline.submit(tournamentId, memberId);
+            } catch (RegistrationQueueFullException e) {
+                // What a client does on a 429: wait and retry
+                refused.incrementAndGet();
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private interface Registration {
+        void register(Long tournamentId, Long memberId) throws Exception;
+    }
+
+    private record Result(double perSecond) {
+    }
+}
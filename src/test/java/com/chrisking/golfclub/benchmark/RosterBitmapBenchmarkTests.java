@@ -0,0 +1,148 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.dto.RosterOperation;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.MemberImportService;
+import com.chrisking.golfclub.service.SearchIndexService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares roster set operations (counts and first pages) through the bitmap index with the roster queries
+ * they replace.
+ * Run with: mvn test -Pbenchmark -Dtest=RosterBitmapBenchmarkTests [-Dbenchmark.roster.members=50000]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class RosterBitmapBenchmarkTests {
+
+    private static final int MEMBERS = Integer.getInteger("benchmark.roster.members", 50_000);
+
+    private static final int TOURNAMENTS = Integer.getInteger("benchmark.roster.tournaments", 10);
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.roster.iterations", 100);
+
+    private static final int PAGE = 50;
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+        searchIndexService.build();
+    }
+
+    @Test
+    void indexVersusRosterQueries() {
+        memberImportService.importMembers(new GolfClubDataGenerator(42).members(MEMBERS));
+        List<Long> memberIds = memberRepository.findAll().stream().map(Member::getId).sorted().toList();
+
+        // Every member plays in each tournament with a probability of 40%
+        Random random = new Random(3);
+        List<Long> tournaments = new ArrayList<>();
+        for (int t = 0; t < TOURNAMENTS; t++) {
+            Long id = tournamentService.createTournament(new Tournament(LocalDate.of(2026, 4, 1).plusDays(t),
+                    null, "Course " + t, new BigDecimal("50.00"), new BigDecimal("1000.00"))).getId();
+            tournaments.add(id);
+            List<Long> roster = memberIds.stream().filter(m -> random.nextInt(5) < 2).toList();
+            for (int from = 0; from < roster.size(); from += TournamentService.MAX_ENROLLMENT_BATCH) {
+                tournamentService.enrollMembers(id, roster.subList(from,
+                        Math.min(roster.size(), from + TournamentService.MAX_ENROLLMENT_BATCH)));
+            }
+        }
+        long buildStart = System.nanoTime();
+        searchIndexService.build();
+        System.out.printf("[benchmark] roster index build: %d tournaments, %d members in %.1f ms%n",
+                TOURNAMENTS, MEMBERS, (System.nanoTime() - buildStart) / 1_000_000.0);
+
+        List<Long> pair = tournaments.subList(0, 2);
+        List<Long> five = tournaments.subList(0, Math.min(5, TOURNAMENTS));
+        report("intersection of 2",
+                () -> searchIndexService.countRosterMembers(RosterOperation.INTERSECTION, pair),
+                () -> (long) tournamentRepository.findMemberIdsInAll(pair, 2, 0L, Limit.unlimited()).size(),
+                () -> searchIndexService.searchRosterMembers(RosterOperation.INTERSECTION, pair, 0L, PAGE),
+                () -> tournamentRepository.findMemberIdsInAll(pair, 2, 0L, Limit.of(PAGE)));
+        report("union of 5",
+                () -> searchIndexService.countRosterMembers(RosterOperation.UNION, five),
+                () -> (long) tournamentRepository.findMemberIdsInAny(five, 0L, Limit.unlimited()).size(),
+                () -> searchIndexService.searchRosterMembers(RosterOperation.UNION, five, 0L, PAGE),
+                () -> tournamentRepository.findMemberIdsInAny(five, 0L, Limit.of(PAGE)));
+        report("difference of 2",
+                () -> searchIndexService.countRosterMembers(RosterOperation.DIFFERENCE, pair),
+                () -> (long) tournamentRepository.findMemberIdsInFirstOnly(pair.get(0), pair.subList(1, 2), 0L,
+                        Limit.unlimited()).size(),
+                () -> searchIndexService.searchRosterMembers(RosterOperation.DIFFERENCE, pair, 0L, PAGE),
+                () -> tournamentRepository.findMemberIdsInFirstOnly(pair.get(0), pair.subList(1, 2), 0L,
+                        Limit.of(PAGE)));
+    }
+
+    private static void report(String name, Supplier<Long> indexCount, Supplier<Long> queryCount,
+                               Supplier<List<Long>> indexPage, Supplier<List<Long>> queryPage) {
+        // Both paths must find the same members
+        assertThat(indexCount.get()).isEqualTo(queryCount.get());
+        assertThat(indexPage.get()).isEqualTo(queryPage.get());
+
+        long[] indexCounts = measure(indexCount);
+        long[] queryCounts = measure(queryCount);
+        long[] indexPages = measure(indexPage);
+        long[] queryPages = measure(queryPage);
+        System.out.printf("[benchmark] %s (%d members): count index p50=%.3f ms p99=%.3f ms | query p50=%.3f ms "
+                        + "p99=%.3f ms; first page index p50=%.3f ms | query p50=%.3f ms%n",
+                name, indexCount.get(), percentile(indexCounts, 50), percentile(indexCounts, 99),
+                percentile(queryCounts, 50), percentile(queryCounts, 99), percentile(indexPages, 50),
+                percentile(queryPages, 50));
+    }
+
+    private static long[] measure(Supplier<?> operation) {
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            operation.get();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.SearchIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares date-range overlap search through the interval index with the range query it falls back to.
+ * Run with: mvn test -Pbenchmark -Dtest=TournamentDateRangeBenchmarkTests [-Dbenchmark.range.tournaments=50000]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentDateRangeBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentDateRangeBenchmarkTests.class);
+
+    private static final int TOURNAMENTS = Integer.getInteger("benchmark.range.tournaments", 50_000);
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.range.iterations", 200);
+
+    private static final int LIMIT = 500;
+
+    // Window lengths of the schedule views: a day, a week and a month
+    private static final List<Integer> WINDOWS = List.of(1, 7, 30);
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @AfterEach
+    void cleanUp() {
+        // The bulk delete bypasses the index listeners; the rebuild replaces the indexes with empty ones,
+        // so no intervals leak into the tests sharing this context
+        tournamentRepository.deleteAllInBatch();
+        searchIndexService.build();
+        assertThat(searchIndexService.searchTournamentDates(LocalDate.MIN, LocalDate.MAX, 1)).isEmpty();
+    }
+
+    @Test
+    void indexVersusRangeQuery() {
+        tournamentRepository.saveAll(new GolfClubDataGenerator(42).tournaments(TOURNAMENTS));
+        long buildStart = System.nanoTime();
+        searchIndexService.build();
+        log.info("[benchmark] date index build: {} tournaments in {} ms",
+                TOURNAMENTS, String.format("%.1f", (System.nanoTime() - buildStart) / 1_000_000.0));
+        assertThat(searchIndexService.isReady()).isTrue();
+
+        // The generator spreads start dates over 2500 days from April 2020
+        Random random = new Random(7);
+        List<LocalDate> starts = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            starts.add(LocalDate.of(2020, 4, 1).plusDays(random.nextInt(2500)));
+        }
+
+        for (int window : WINDOWS) {
+            long[] index = measure(from -> searchIndexService.searchTournamentDates(from,
+                    from.plusDays(window - 1), LIMIT).size(), starts);
+            long[] query = measure(from -> tournamentRepository.findOverlapping(from,
+                    from.plusDays(window - 1), Limit.of(LIMIT)).size(), starts);
+            log.info("[benchmark] {}-day window: index p50={} ms p99={} ms | query p50={} ms p99={} ms",
+                    window, percentile(index, 50), percentile(index, 99), percentile(query, 50), percentile(query, 99));
+
+            // Both paths must find the same tournaments
+            for (LocalDate from : starts.subList(0, 20)) {
+                assertThat(searchIndexService.searchTournamentDates(from, from.plusDays(window - 1), LIMIT))
+                        .isEqualTo(tournamentRepository.findOverlapping(from, from.plusDays(window - 1),
+                                Limit.of(LIMIT)).stream().map(Tournament::getId).toList());
+            }
+        }
+    }
+
+    private static long[] measure(Function<LocalDate, Integer> search, List<LocalDate> starts) {
+        for (LocalDate from : starts.subList(0, starts.size() / 4)) {
+            search.apply(from);
+        }
+        long[] samples = new long[starts.size()];
+        for (int i = 0; i < starts.size(); i++) {
+            long start = System.nanoTime();
+            search.apply(starts.get(i));
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    // Returns the percentile in milliseconds, formatted for the log
+    private static String percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return String.format("%.3f", sorted[Math.max(0, index)] / 1_000_000.0);
+    }
+}
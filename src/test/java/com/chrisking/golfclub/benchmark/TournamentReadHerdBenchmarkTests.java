@@ -0,0 +1,159 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fires a thundering herd of identical tournament and roster reads, as when a roster is published,
+ * and reports the SQL statements executed and the p99 latency with and without request coalescing.
+ * Run with: mvn test -Pbenchmark -Dtest=TournamentReadHerdBenchmarkTests [-Dbenchmark.herd.clients=200]
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TournamentReadHerdBenchmarkTests {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.herd.clients", 200);
+
+    private static final int ROUNDS = Integer.getInteger("benchmark.herd.rounds", 10);
+
+    private static final int ROSTER_SIZE = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void seed() {
+        List<Member> members = memberRepository.saveAll(new GolfClubDataGenerator(42).members(ROSTER_SIZE));
+        tournament = new GolfClubDataGenerator(42).tournaments(1).get(0);
+        tournament.getMembers().addAll(members);
+        tournament = tournamentRepository.save(tournament);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    class WithSingleFlight {
+
+        @Test
+        void herd() throws Exception {
+            runHerd("single-flight");
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "golfclub.single-flight.enabled=false")
+    class WithoutSingleFlight {
+
+        @Test
+        void herd() throws Exception {
+            runHerd("no coalescing");
+        }
+    }
+
+    private void runHerd(String label) throws Exception {
+        String tournamentUrl = "/api/tournaments/" + tournament.getId();
+        String rosterUrl = tournamentUrl + "/members";
+        // Warm up the request path once before measuring
+        mockMvc.perform(get(rosterUrl)).andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        double coalescedBefore = coalesced();
+        List<Long> latencies = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // Each round starts cold, as right after the roster is published
+                cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+                CyclicBarrier start = new CyclicBarrier(CLIENTS);
+                List<Future<Long>> requests = new ArrayList<>();
+                for (int client = 0; client < CLIENTS; client++) {
+                    String url = client % 2 == 0 ? rosterUrl : tournamentUrl;
+                    requests.add(executor.submit(() -> {
+                        start.await();
+                        long begin = System.nanoTime();
+                        mockMvc.perform(get(url)).andExpect(status().isOk());
+                        return System.nanoTime() - begin;
+                    }));
+                }
+                for (Future<Long> request : requests) {
+                    latencies.add(request.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        System.out.printf("[benchmark] tournament read herd (%s): %d clients x %d rounds, %d SQL statements, "
+                        + "%.0f coalesced, p50=%.1f ms p99=%.1f ms%n",
+                label, CLIENTS, ROUNDS, statistics.getPrepareStatementCount(), coalesced() - coalescedBefore,
+                percentile(sorted, 50), percentile(sorted, 99));
+        assertThat(latencies).hasSize(CLIENTS * ROUNDS);
+    }
+
+    private double coalesced() {
+        return meterRegistry.find("golfclub.singleflight.coalesced").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
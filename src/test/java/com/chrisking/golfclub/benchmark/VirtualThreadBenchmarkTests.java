@@ -0,0 +1,183 @@
+package com.chrisking.golfclub.benchmark;
+
+import com.chrisking.golfclub.datasource.ConcurrencyLimitingDataSource;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same burst of concurrent HTTP requests through Tomcat with platform request threads
+ * and with virtual threads, behind the same connection pool and database concurrency limit, and
+ * reports throughput, latency, failed requests, peak JVM threads and the peak number of requests
+ * queued for a connection. The virtual thread run needs Java 21 or later and is skipped otherwise.
+ * Run with: mvn test -Pbenchmark -Dtest=VirtualThreadBenchmarkTests [-Dbenchmark.vt.clients=1000]
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "golfclub.db.limiter.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.minimum-idle=10"})
+@ActiveProfiles("test")
+class VirtualThreadBenchmarkTests {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.vt.clients", 500);
+
+    private static final int ROUNDS = Integer.getInteger("benchmark.vt.rounds", 10);
+
+    private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.vt.warmup-rounds", 5);
+
+    private static final int MEMBERS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private List<Member> members;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void seed() {
+        members = memberRepository.saveAll(new GolfClubDataGenerator(7).members(MEMBERS));
+        tournament = new GolfClubDataGenerator(7).tournaments(1).get(0);
+        tournament.getMembers().addAll(members.subList(0, 100));
+        tournament = tournamentRepository.save(tournament);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Nested
+    class PlatformThreads {
+
+        @Test
+        void burst() throws Exception {
+            runBurst("platform threads");
+        }
+    }
+
+    @Nested
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads {
+
+        @Test
+        void burst() throws Exception {
+            runBurst("virtual threads");
+        }
+    }
+
+    private void runBurst(String label) throws Exception {
+        // Uncached, database-bound reads: lookups by phone number and by tournament start date
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            urls.add(i % 2 == 0
+                    ? "/api/members/search/by-phone?phoneNumber=" + members.get(i % MEMBERS).getPhoneNumber()
+                    : "/api/members/search/by-tournament-start-date?startDate=" + tournament.getStartDate());
+        }
+        // Requests are sent asynchronously from a few client threads, so that on a small machine the
+        // load generator does not compete with the server's request threads for CPU
+        ExecutorService clientThreads = Executors.newFixedThreadPool(4);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(clientThreads)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ConcurrencyLimitingDataSource limiter = dataSource.unwrap(ConcurrencyLimitingDataSource.class);
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger peakWaiting = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long begin = 0;
+        try {
+            // Unmeasured rounds first, so that whichever mode runs first is not measured on a cold JVM
+            for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                if (round == WARMUP_ROUNDS) {
+                    latencies.clear();
+                    failures.set(0);
+                    peakWaiting.set(0);
+                    threads.resetPeakThreadCount();
+                    begin = System.nanoTime();
+                }
+                List<CompletableFuture<?>> requests = new ArrayList<>();
+                for (String url : urls) {
+                    long sent = System.nanoTime();
+                    requests.add(send(client, url).thenAccept(status -> {
+                        latencies.add(System.nanoTime() - sent);
+                        if (status != 200) {
+                            failures.incrementAndGet();
+                        }
+                        peakWaiting.accumulateAndGet(limiter.getWaitingCallers(), Math::max);
+                    }));
+                }
+                CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+            }
+        } finally {
+            clientThreads.shutdown();
+        }
+        double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        System.out.printf("[benchmark] %s: %d clients x %d rounds, %.0f req/s, p50=%.1f ms p99=%.1f ms, "
+                        + "%d failed, peak JVM threads=%d, peak waiting for a connection=%d%n",
+                label, CLIENTS, ROUNDS, sorted.length / seconds, percentile(sorted, 50), percentile(sorted, 99),
+                failures.get(), threads.getPeakThreadCount(), peakWaiting.get());
+        assertThat(latencies).hasSize(CLIENTS * ROUNDS);
+        assertThat(failures.get()).isZero();
+    }
+
+    private CompletableFuture<Integer> send(HttpClient client, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
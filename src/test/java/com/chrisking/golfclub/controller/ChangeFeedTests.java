@@ -0,0 +1,190 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.dto.ChangeType;
+import com.chrisking.golfclub.dto.RosterChange;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.ChangeFeedService;
+import com.chrisking.golfclub.service.MemberService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that committed changes reach change feed subscribers in order, and that reconnecting clients
+ * receive the events they missed or a reset when those are no longer buffered.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "golfclub.changes.buffer-size=8")
+@ActiveProfiles("test")
+class ChangeFeedTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void committedChangesArePushedInOrder() throws Exception {
+        int subscribers = changeFeedService.subscriberCount();
+        CompletableFuture<List<Event>> events = read(null, 3);
+        // Changes made before the subscription is registered would not be sent to it
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (changeFeedService.subscriberCount() == subscribers && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Long memberId = memberService.createMember(newMember("feed@example.com")).id();
+        Long tournamentId = tournamentService.createTournament(newTournament()).getId();
+        tournamentService.addMemberToTournament(tournamentId, memberId);
+
+        List<Event> received = events.get(10, TimeUnit.SECONDS);
+        assertThat(received).extracting(Event::name)
+                .containsExactly("member.created", "tournament.created", "roster.enrolled");
+        assertThat(received.get(0).data()).contains("\"id\":" + memberId);
+        assertThat(received.get(1).data()).contains("\"id\":" + tournamentId, "\"location\":\"Pebble Creek\"");
+        assertThat(received.get(2).data()).contains("\"tournamentId\":" + tournamentId, "[" + memberId + "]");
+        assertThat(received.get(1).id()).isEqualTo(received.get(0).id() + 1);
+        assertThat(received.get(2).id()).isEqualTo(received.get(1).id() + 1);
+    }
+
+    @Test
+    void reconnectingClientsReceiveWhatTheyMissed() throws Exception {
+        memberService.createMember(newMember("a@example.com"));
+        long lastEventId = lastEventId();
+        memberService.createMember(newMember("b@example.com"));
+        Long tournamentId = tournamentService.createTournament(newTournament()).getId();
+
+        List<Event> missed = read(lastEventId, 2).get(10, TimeUnit.SECONDS);
+
+        assertThat(missed).extracting(Event::name).containsExactly("member.created", "tournament.created");
+        assertThat(missed.get(0).id()).isEqualTo(lastEventId + 1);
+        assertThat(missed.get(0).data()).contains("b@example.com");
+        assertThat(missed.get(1).data()).contains("\"id\":" + tournamentId);
+    }
+
+    @Test
+    void clientsTooFarBehindAreToldToReload() throws Exception {
+        memberService.createMember(newMember("first@example.com"));
+        long lastEventId = lastEventId();
+        // More changes than the buffer holds
+        for (int i = 0; i < 10; i++) {
+            tournamentService.createTournament(newTournament());
+        }
+
+        List<Event> received = read(lastEventId, 1).get(10, TimeUnit.SECONDS);
+
+        assertThat(received.get(0).name()).isEqualTo(ChangeFeedService.RESET_EVENT);
+        assertThat(received.get(0).id()).isEqualTo(lastEventId + 10);
+    }
+
+    @Test
+    void invalidLastEventIdIsRejected() throws Exception {
+        HttpResponse<Void> response = client.send(request("not-a-number"), HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).isEqualTo(400);
+    }
+
+    // Id of the latest event, published without a subscriber listening
+    private long lastEventId() {
+        return changeFeedService.publish(ChangeType.ROSTER_ENROLLED, new RosterChange(0L, List.of())).id();
+    }
+
+    // Subscribes and collects the given number of events, skipping comments and the retry hint
+    private CompletableFuture<List<Event>> read(Long lastEventId, int count) {
+        return client.sendAsync(request(lastEventId == null ? null : String.valueOf(lastEventId)),
+                        HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    try (InputStream body = response.body();
+                         BufferedReader reader = new BufferedReader(
+                                 new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                        List<Event> events = new ArrayList<>();
+                        Long id = null;
+                        String name = null;
+                        StringBuilder data = new StringBuilder();
+                        String line;
+                        while (events.size() < count && (line = reader.readLine()) != null) {
+                            if (line.startsWith("id:")) {
+                                id = Long.parseLong(line.substring(3).trim());
+                            } else if (line.startsWith("event:")) {
+                                name = line.substring(6).trim();
+                            } else if (line.startsWith("data:")) {
+                                data.append(line.substring(5));
+                            } else if (line.isEmpty() && name != null) {
+                                events.add(new Event(id, name, data.toString()));
+                                id = null;
+                                name = null;
+                                data.setLength(0);
+                            }
+                        }
+                        return events;
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+    }
+
+    private HttpRequest request(String lastEventId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/changes"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return builder.build();
+    }
+
+    private static Member newMember(String email) {
+        return new Member("Feed Member", "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12, "standard");
+    }
+
+    private static Tournament newTournament() {
+        return new Tournament(LocalDate.of(2026, 6, 1), null, "Pebble Creek", new BigDecimal("50.00"),
+                new BigDecimal("1000.00"));
+    }
+
+    private record Event(Long id, String name, String data) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the member, tournament and roster endpoints answer If-None-Match with 304 without loading
+ * the entity graph, and that enrollment changes the ETags of every response it affects.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member alice;
+
+    private Member bob;
+
+    private Tournament springOpen;
+
+    @BeforeEach
+    void seed() {
+        alice = memberRepository.save(new Member("Alice Smith", "1 Fairway Rd", "alice@example.com", "555-0101",
+                LocalDate.of(2025, 1, 1), 12, "premium"));
+        bob = memberRepository.save(new Member("Bob Jones", "2 Fairway Rd", "bob@example.com", "555-0102",
+                LocalDate.of(2025, 1, 1), 12, "standard"));
+        springOpen = tournamentRepository.save(new Tournament(LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 3),
+                "Pebble Creek", new BigDecimal("50.00"), new BigDecimal("1000.00")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void matchingETagIsAnsweredWithoutLoadingTheEntities() throws Exception {
+        enroll(springOpen, alice);
+        List<String> urls = List.of("/api/members/" + alice.getId(), "/api/tournaments/" + springOpen.getId(),
+                "/api/tournaments/" + springOpen.getId() + "/members");
+        for (String url : urls) {
+            String eTag = eTagOf(url);
+            cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""));
+
+            assertThat(statistics.getEntityLoadCount()).as(url).isZero();
+            assertThat(statistics.getPrepareStatementCount()).as(url).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void staleETagGetsTheFullResponse() throws Exception {
+        String url = "/api/members/" + alice.getId();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTagOf(url)))
+                .andExpect(content().string(containsString("Alice Smith")));
+    }
+
+    @Test
+    void enrollmentChangesTheETagsOfEveryAffectedResponse() throws Exception {
+        enroll(springOpen, alice);
+        Tournament autumnOpen = tournamentRepository.save(new Tournament(LocalDate.of(2026, 9, 1),
+                LocalDate.of(2026, 9, 2), "Oak Hills", new BigDecimal("75.00"), new BigDecimal("2500.00")));
+        String aliceUrl = "/api/members/" + alice.getId();
+        String bobUrl = "/api/members/" + bob.getId();
+        String tournamentUrl = "/api/tournaments/" + springOpen.getId();
+        String rosterUrl = tournamentUrl + "/members";
+        String alice1 = eTagOf(aliceUrl);
+        String bob1 = eTagOf(bobUrl);
+        String tournament1 = eTagOf(tournamentUrl);
+        String roster1 = eTagOf(rosterUrl);
+
+        // Bob joining changes the tournament (seat count), its roster and Bob, but not Alice
+        enroll(springOpen, bob);
+        assertThat(eTagOf(bobUrl)).isNotEqualTo(bob1);
+        assertThat(eTagOf(tournamentUrl)).isNotEqualTo(tournament1);
+        String roster2 = eTagOf(rosterUrl);
+        assertThat(roster2).isNotEqualTo(roster1);
+        assertThat(eTagOf(aliceUrl)).isEqualTo(alice1);
+
+        // Alice joining another tournament changes her summaries, so this roster's response changes too
+        enroll(autumnOpen, alice);
+        assertThat(eTagOf(aliceUrl)).isNotEqualTo(alice1);
+        assertThat(eTagOf(rosterUrl)).isNotEqualTo(roster2);
+    }
+
+    @Test
+    void cachedEntryDoesNotAnswerForAChangedRow() throws Exception {
+        String memberUrl = "/api/members/" + alice.getId();
+        String tournamentUrl = "/api/tournaments/" + springOpen.getId();
+        String memberETag = eTagOf(memberUrl);
+        String tournamentETag = eTagOf(tournamentUrl);
+
+        // Both responses are cached now; change the rows behind the caches' back
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.incrementVersions(List.of(alice.getId()));
+            tournamentRepository.claimSeats(springOpen.getId(), 1);
+        });
+
+        mockMvc.perform(get(memberUrl).header(HttpHeaders.IF_NONE_MATCH, memberETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(tournamentUrl).header(HttpHeaders.IF_NONE_MATCH, tournamentETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownIdsAreNotFound() throws Exception {
+        mockMvc.perform(get("/api/members/999999")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tournaments/999999")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tournaments/999999/members")).andExpect(status().isNotFound());
+    }
+
+    private void enroll(Tournament tournament, Member member) throws Exception {
+        mockMvc.perform(post("/api/tournaments/" + tournament.getId() + "/members/" + member.getId()))
+                .andExpect(status().isOk());
+    }
+
+    private String eTagOf(String url) throws Exception {
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).as(url).isNotBlank();
+        return eTag;
+    }
+}
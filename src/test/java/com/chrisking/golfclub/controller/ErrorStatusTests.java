@@ -0,0 +1,79 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that only a missing tournament or member is answered with 404 Not Found, while a request the
+ * database concurrency limiter cannot serve in time is answered with 503 Service Unavailable.
+ */
+@SpringBootTest(properties = {"golfclub.db.limiter.enabled=true", "golfclub.db.limiter.max-concurrency=2",
+        "golfclub.db.limiter.acquire-timeout=50ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ErrorStatusTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+    }
+
+    @Test
+    void missingTournamentOrMemberIsNotFound() throws Exception {
+        Tournament tournament = tournamentRepository.save(new Tournament(LocalDate.of(2026, 8, 1), null,
+                "Pebble Creek", new BigDecimal("50.00"), new BigDecimal("1000.00")));
+
+        mockMvc.perform(post("/api/tournaments/-1/members/1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/tournaments/" + tournament.getId() + "/members/-1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/tournaments/-1/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1]"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/stats/tournaments/-1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void requestThatCannotGetAConnectionIsUnavailable() throws Exception {
+        // Both connections the limiter allows are taken for longer than a request waits
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            mockMvc.perform(post("/api/tournaments/1/members/2"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+            mockMvc.perform(post("/api/tournaments/1/members")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[2]"))
+                    .andExpect(status().isServiceUnavailable());
+        }
+    }
+}
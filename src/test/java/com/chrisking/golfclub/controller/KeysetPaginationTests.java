@@ -0,0 +1,146 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.dto.PageCursor;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the keyset listings walk every row exactly once in sort order, break name ties by id,
+ * end with a null cursor, and answer tampered or mismatched cursors with 400.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class KeysetPaginationTests {
+
+    private static final int MEMBER_COUNT = 9;
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void seed() {
+        members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            // Three members per name, saved out of name order, so name pages have to break ties by id
+            members.add(new Member(List.of("Walker", "Adams", "Moore").get(i % 3), "1 Fairway Rd",
+                    "keyset" + i + "@example.com", "555-04" + i, LocalDate.of(2025, 1, 1), 12, "standard"));
+        }
+        members = memberRepository.saveAll(members);
+
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tournaments.add(new Tournament(LocalDate.of(2026, 6, 1 + i), LocalDate.of(2026, 6, 1 + i),
+                    "Course " + i, new BigDecimal("50.00"), new BigDecimal("1000.00")));
+        }
+        tournamentRepository.saveAll(tournaments);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void namePagesBreakTiesById() throws Exception {
+        List<Long> expected = members.stream()
+                .sorted(Comparator.comparing(Member::getMemberName).thenComparing(Member::getId))
+                .map(Member::getId)
+                .toList();
+
+        assertThat(walkPages("/api/members?sort=name&size=2")).isEqualTo(expected);
+    }
+
+    @Test
+    void idPagesWalkEveryMemberOnce() throws Exception {
+        List<Long> expected = members.stream().map(Member::getId).sorted().toList();
+
+        assertThat(walkPages("/api/members?size=4")).isEqualTo(expected);
+    }
+
+    @Test
+    void lastPageHasNoCursorEvenWhenItIsFull() throws Exception {
+        JsonNode first = getJson("/api/tournaments?size=3");
+        assertThat(first.get("items").size()).isEqualTo(3);
+        assertThat(first.get("next").isNull()).isFalse();
+
+        // Six tournaments: the second page is full, and the extra row fetched to look ahead is not there
+        JsonNode last = getJson("/api/tournaments?size=3&cursor=" + first.get("next").asString());
+        assertThat(last.get("items").size()).isEqualTo(3);
+        assertThat(last.get("next").isNull()).isTrue();
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() throws Exception {
+        String idCursor = getJson("/api/members?size=2").get("next").asString();
+
+        mockMvc.perform(get("/api/members?sort=name&size=2&cursor=" + idCursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void tamperedCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/members?cursor=not-a-cursor")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/members?cursor=" + new PageCursor("id", null, 0).encode().substring(2)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tournaments?sort=location&cursor=bG9jYXRpb24KeAo"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownSortIsRejected() throws Exception {
+        mockMvc.perform(get("/api/members?sort=email")).andExpect(status().isBadRequest());
+    }
+
+    // Follows the "next" cursors and returns the ids in the order they were listed
+    private List<Long> walkPages(String url) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String next = null;
+        do {
+            JsonNode page = getJson(next == null ? url : url + "&cursor=" + next);
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            next = page.get("next").isNull() ? null : page.get("next").asString();
+        } while (next != null);
+        return ids;
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JSON.readTree(body);
+    }
+}
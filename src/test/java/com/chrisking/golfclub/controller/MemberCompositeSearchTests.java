@@ -0,0 +1,165 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the combined member search applies every given filter in one query, pages by keyset
+ * over the filtered rows, and reuses the cached plan for repeated filter shapes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MemberCompositeSearchTests {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void seed() {
+        members = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // Alternating names and types; membership start dates one month apart through 2025
+            members.add(new Member((i % 2 == 0 ? "Smith " : "Jones ") + i, "1 Fairway Rd", "m" + i + "@example.com",
+                    "555-03" + i, LocalDate.of(2025, 1, 1).plusMonths(i % 12), 12,
+                    i % 4 < 2 ? "premium" : "standard"));
+        }
+        members = memberRepository.saveAll(members);
+
+        // Two tournaments on the same day, so members playing both must not be listed twice
+        Tournament morning = new Tournament(LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 1),
+                "Pebble Creek", new BigDecimal("50.00"), new BigDecimal("1000.00"));
+        Tournament afternoon = new Tournament(LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 2),
+                "Oak Hills", new BigDecimal("50.00"), new BigDecimal("1000.00"));
+        morning.getMembers().addAll(members.subList(0, 10));
+        afternoon.getMembers().addAll(members.subList(5, 15));
+        tournamentRepository.saveAll(List.of(morning, afternoon));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void combinedFiltersReturnTheIntersectionOnce() throws Exception {
+        JsonNode page = getJson("/api/members/search?name=smith&membershipType=PREMIUM"
+                + "&tournamentStartDate=2026-05-01&size=100");
+
+        // Smith = even index, premium = index % 4 in {0, 1}, playing = index < 15
+        assertThat(ids(page)).containsExactlyElementsOf(ids(0, 4, 8, 12));
+        assertThat(page.get("next").isNull()).isTrue();
+    }
+
+    @Test
+    void membershipStartRangeIsInclusive() throws Exception {
+        JsonNode page = getJson("/api/members/search?membershipStartFrom=2025-02-01&membershipStartTo=2025-03-01"
+                + "&membershipType=standard&size=100");
+
+        // February and March starts are indexes 1, 2, 13 and 14; of those 2 and 14 are standard
+        assertThat(ids(page)).containsExactlyElementsOf(ids(2, 14));
+    }
+
+    @Test
+    void keysetPagesByNameWalkTheWholeFilteredResult() throws Exception {
+        List<Long> walked = new ArrayList<>();
+        String next = null;
+        do {
+            JsonNode page = getJson("/api/members/search?tournamentStartDate=2026-05-01&sort=name&size=4"
+                    + (next == null ? "" : "&cursor=" + next));
+            walked.addAll(ids(page));
+            next = page.get("next").isNull() ? null : page.get("next").asString();
+        } while (next != null);
+
+        List<Long> all = ids(getJson("/api/members/search?tournamentStartDate=2026-05-01&sort=name&size=100"));
+        assertThat(walked).hasSize(15).doesNotHaveDuplicates().isEqualTo(all);
+    }
+
+    @Test
+    void projectedSearchReturnsOnlyTheRequestedFields() throws Exception {
+        JsonNode page = getJson("/api/members/search?phoneNumber=555-033&fields=memberName");
+
+        assertThat(page.get("items").size()).isEqualTo(1);
+        assertThat(page.get("items").get(0).propertyNames()).containsExactly("id", "memberName");
+        assertThat(page.get("items").get(0).get("memberName").asString()).isEqualTo("Jones 3");
+    }
+
+    @Test
+    void repeatedFilterShapesReuseTheCachedPlan() throws Exception {
+        getJson("/api/members/search?name=smith&membershipType=premium");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Same filters, different values
+        getJson("/api/members/search?name=jones&membershipType=standard");
+
+        // Criteria plans are looked up by the query itself, so a miss here would mean the values leaked into it
+        assertThat(statistics.getQueryPlanCacheHitCount()).isPositive();
+        assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+    }
+
+    @Test
+    void emptyDateRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/members/search?membershipStartFrom=2025-06-01&membershipStartTo=2025-05-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> ids(int... indexes) {
+        List<Long> ids = new ArrayList<>();
+        for (int index : indexes) {
+            ids.add(members.get(index).getId());
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JSON.readTree(body);
+    }
+}
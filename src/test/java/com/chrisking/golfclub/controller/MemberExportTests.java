@@ -0,0 +1,148 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the streaming exports: the format parameter picks the content type and row encoding, CSV values
+ * with separators, quotes or line breaks are quoted, and export requests get their own long async timeout.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MemberExportTests {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private Member plain;
+
+    private Member awkward;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void seed() {
+        plain = memberRepository.save(new Member("Ann Lee", "1 Fairway Rd", "ann@example.com", "555-0501",
+                LocalDate.of(2025, 1, 1), 12, "standard"));
+        // Every character CSV has to escape, and no phone number
+        awkward = memberRepository.save(new Member("O\"Neil, Pat", "2 Green Ln\nUnit 4", "pat@example.com", null,
+                LocalDate.of(2025, 2, 1), 6, "premium"));
+        tournament = new Tournament(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 2), "Pebble Creek",
+                new BigDecimal("50.00"), new BigDecimal("1000.00"));
+        tournament.getMembers().add(awkward);
+        tournament = tournamentRepository.save(tournament);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ndjsonIsTheDefaultFormat() throws Exception {
+        MvcResult result = export("/api/members/export");
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            rows.add(JSON.readTree(line));
+        }
+        assertThat(rows).extracting(row -> row.get("id").asLong()).containsExactly(plain.getId(), awkward.getId());
+        assertThat(rows.get(1).get("memberName").asString()).isEqualTo("O\"Neil, Pat");
+        assertThat(rows.get(1).get("address").asString()).isEqualTo("2 Green Ln\nUnit 4");
+        assertThat(rows.get(1).has("tournaments")).isFalse();
+    }
+
+    @Test
+    void csvQuotesOnlyTheValuesThatNeedIt() throws Exception {
+        MvcResult result = export("/api/members/export?format=CSV");
+
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(result.getResponse().getContentAsString()).isEqualTo(
+                "id,memberName,address,email,phoneNumber,membershipStartDate,membershipDurationMonths,membershipType\n"
+                        + plain.getId() + ",Ann Lee,1 Fairway Rd,ann@example.com,555-0501,2025-01-01,12,standard\n"
+                        + awkward.getId() + ",\"O\"\"Neil, Pat\",\"2 Green Ln\nUnit 4\",pat@example.com,,2025-02-01,6,"
+                        + "premium\n");
+    }
+
+    @Test
+    void rosterExportListsOnlyTheTournamentsMembers() throws Exception {
+        MvcResult result = export("/api/tournaments/" + tournament.getId() + "/members/export?format=csv");
+
+        assertThat(result.getResponse().getContentAsString())
+                .startsWith("id,memberName,")
+                .contains("\n" + awkward.getId() + ",")
+                .doesNotContain("Ann Lee");
+    }
+
+    @Test
+    void unsupportedFormatIsRejectedBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/members/export?format=xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    @Test
+    void rosterExportOfMissingTournamentIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/tournaments/" + (tournament.getId() + 1000) + "/members/export"))
+                .andExpect(status().isNotFound())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    @Test
+    void exportsGetTheirOwnAsyncTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/members/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // golfclub.export.request-timeout, while other async requests keep the default
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    // Starts the export, lets the streaming body run and returns the completed exchange
+    private MvcResult export(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
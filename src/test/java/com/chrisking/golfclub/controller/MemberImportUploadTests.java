@@ -0,0 +1,93 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that members can be imported as a JSON array, a text/csv body or an uploaded CSV file, each answered
+ * with the per-row results, and that CSV content without a header row is rejected with 400.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MemberImportUploadTests {
+
+    private static final String CSV = "memberName,email,membershipType\n"
+            + "\"Lee, Ann\",ann@example.com,standard\n"
+            + "Bo,ann@example.com,standard\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void jsonArrayIsImported() throws Exception {
+        mockMvc.perform(post("/api/members/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"memberName\":\"Ann\",\"email\":\"ann@example.com\"},{\"memberName\":\"Bo\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.rows[1].status").value("INVALID"));
+    }
+
+    @Test
+    void csvBodyIsImported() throws Exception {
+        mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.rows[1].row").value(2))
+                .andExpect(jsonPath("$.rows[1].status").value("DUPLICATE_EMAIL"));
+
+        assertThat(memberRepository.existsByEmail("ann@example.com")).isTrue();
+    }
+
+    @Test
+    void uploadedCsvFileIsImported() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "members.csv", "text/csv",
+                CSV.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/members/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rows[0].email").value("ann@example.com"));
+    }
+
+    @Test
+    void csvWithoutHeaderIsABadRequest() throws Exception {
+        mockMvc.perform(post("/api/members/import")
+                        .contentType("text/csv")
+                        .content(""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(multipart("/api/members/import")
+                        .file(new MockMultipartFile("file", "empty.csv", "text/csv", new byte[0])))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,120 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that member read endpoints run a constant number of SQL statements per request,
+ * no matter how many members are returned or how many tournaments each member plays in.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MemberReadStatementCountTests {
+
+    private static final int MEMBER_COUNT = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Tournament springOpen;
+
+    @BeforeEach
+    void seed() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(new Member("Smith " + i, "1 Fairway Rd", "smith" + i + "@example.com", "555-01" + i,
+                    LocalDate.of(2025, 1, 1), 12, "premium"));
+        }
+        members = memberRepository.saveAll(members);
+
+        springOpen = new Tournament(LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 3), "Pebble Creek",
+                new BigDecimal("50.00"), new BigDecimal("1000.00"));
+        Tournament summerOpen = new Tournament(LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 2), "Oak Hills",
+                new BigDecimal("75.00"), new BigDecimal("2500.00"));
+        springOpen.getMembers().addAll(members);
+        summerOpen.getMembers().addAll(members);
+        tournamentRepository.saveAll(List.of(springOpen, summerOpen));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void memberListingUsesTwoStatements() throws Exception {
+        mockMvc.perform(get("/api/members").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(MEMBER_COUNT))
+                .andExpect(jsonPath("$.items[0].tournaments.length()").value(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void nameSearchUsesTwoStatements() throws Exception {
+        mockMvc.perform(get("/api/members/search/by-name").param("name", "smith"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MEMBER_COUNT));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void membershipTypeSearchUsesTwoStatements() throws Exception {
+        mockMvc.perform(get("/api/members/search/by-membership-type").param("membershipType", "PREMIUM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MEMBER_COUNT));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void tournamentRosterUsesThreeStatements() throws Exception {
+        mockMvc.perform(get("/api/tournaments/{id}/members", springOpen.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(MEMBER_COUNT))
+                .andExpect(jsonPath("$[0].tournaments.length()").value(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,154 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.service.SearchIndexService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that roster set operations served by the bitmap index agree with the equivalent roster queries,
+ * page by member id, and follow enrollments.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RosterSetOperationTests {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private List<Long> members;
+
+    private List<Long> tournaments;
+
+    @BeforeEach
+    void seed() {
+        List<Member> created = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            created.add(new Member("Member " + i, "1 Fairway Rd", "r" + i + "@example.com", "555-04" + i,
+                    LocalDate.of(2025, 1, 1), 12, "standard"));
+        }
+        members = memberRepository.saveAll(created).stream().map(Member::getId).toList();
+
+        // Four tournaments with random, overlapping rosters
+        Random random = new Random(5);
+        tournaments = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Long id = tournamentService.createTournament(new Tournament(LocalDate.of(2026, 4, 1).plusDays(t * 7L),
+                    null, "Course " + t, new BigDecimal("50.00"), new BigDecimal("1000.00"))).getId();
+            tournaments.add(id);
+            tournamentService.enrollMembers(id, members.stream().filter(m -> random.nextInt(3) > 0).toList());
+        }
+        assertThat(searchIndexService.isReady()).isTrue();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void indexAgreesWithTheRosterQueries() throws Exception {
+        List<List<Long>> operands = List.of(tournaments.subList(0, 2), tournaments.subList(1, 4), tournaments,
+                List.of(tournaments.get(2), tournaments.get(0)));
+        for (List<Long> ids : operands) {
+            assertThat(walk("intersection", ids)).isEqualTo(tournamentRepository.findMemberIdsInAll(ids, ids.size(),
+                    0L, Limit.unlimited()));
+            assertThat(walk("union", ids))
+                    .isEqualTo(tournamentRepository.findMemberIdsInAny(ids, 0L, Limit.unlimited()));
+            assertThat(walk("difference", ids)).isEqualTo(tournamentRepository.findMemberIdsInFirstOnly(ids.get(0),
+                    ids.subList(1, ids.size()), 0L, Limit.unlimited()));
+            assertThat(count("intersection", ids)).isEqualTo(walk("intersection", ids).size());
+        }
+    }
+
+    @Test
+    void indexFollowsEnrollments() throws Exception {
+        Long first = tournaments.get(0);
+        Long second = tournaments.get(1);
+        List<Long> onlyInSecond = walk("difference", List.of(second, first));
+        assertThat(onlyInSecond).isNotEmpty();
+
+        tournamentService.addMemberToTournament(first, onlyInSecond.get(0));
+
+        assertThat(walk("difference", List.of(second, first))).isEqualTo(onlyInSecond.subList(1,
+                onlyInSecond.size()));
+        assertThat(walk("intersection", List.of(first, second))).contains(onlyInSecond.get(0));
+    }
+
+    @Test
+    void unknownTournamentsAndOperationsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/tournaments/rosters/intersection?ids=" + tournaments.get(0) + ",-1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/tournaments/rosters/xor/count?ids=" + tournaments.get(0)))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Reads every page of an operation's result through the endpoint, three members at a time
+    private List<Long> walk(String operation, List<Long> tournamentIds) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String next = null;
+        do {
+            JsonNode page = getJson("/api/tournaments/rosters/" + operation + "?ids=" + join(tournamentIds)
+                    + "&size=3" + (next == null ? "" : "&cursor=" + next));
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            next = page.get("next").isNull() ? null : page.get("next").asString();
+        } while (next != null);
+        return ids;
+    }
+
+    private long count(String operation, List<Long> tournamentIds) throws Exception {
+        return getJson("/api/tournaments/rosters/" + operation + "/count?ids=" + join(tournamentIds))
+                .get("count").asLong();
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JSON.readTree(body);
+    }
+}
@@ -0,0 +1,173 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import com.chrisking.golfclub.support.RecordingStatementInspector;
+import com.chrisking.golfclub.support.StatementCaptureConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the "fields" parameter returns only the requested fields, selects only their columns
+ * and never builds entities, and that projected keyset pages walk the same rows as the full listing.
+ */
+@SpringBootTest
+@Import(StatementCaptureConfig.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SparseFieldsetTests {
+
+    private static final int MEMBER_COUNT = 25;
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RecordingStatementInspector statementInspector;
+
+    private Tournament springOpen;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            // Repeated names, so name order has to fall back to the id
+            members.add(new Member("Smith " + (i % 7), "1 Fairway Rd", "smith" + i + "@example.com", "555-02" + i,
+                    LocalDate.of(2025, 1, 1), 12, i % 2 == 0 ? "premium" : "standard"));
+        }
+        members = memberRepository.saveAll(members);
+
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            // Every third tournament has no location; those sort last
+            tournaments.add(new Tournament(LocalDate.of(2026, 5, 1 + i), LocalDate.of(2026, 5, 2 + i),
+                    i % 3 == 0 ? null : "Course " + (i % 4), new BigDecimal("50.00"), new BigDecimal("1000.00")));
+        }
+        springOpen = tournaments.get(1);
+        springOpen.getMembers().addAll(members.subList(0, 5));
+        tournamentRepository.saveAll(tournaments);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statementInspector.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void searchSelectsOnlyTheRequestedColumns() throws Exception {
+        JsonNode rows = getJson("/api/members/search/by-name?name=smith&limit=100&fields=memberName");
+
+        assertThat(rows.size()).isEqualTo(MEMBER_COUNT);
+        for (JsonNode row : rows) {
+            assertThat(row.propertyNames()).containsExactly("id", "memberName");
+        }
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        String sql = statementInspector.statements().get(0).toLowerCase();
+        assertThat(sql).contains("member_name").doesNotContain("address").doesNotContain("email");
+    }
+
+    @Test
+    void tournamentsFieldIsReadWithOneBatchedQuery() throws Exception {
+        JsonNode rows = getJson("/api/members/search/by-tournament-start-date?startDate="
+                + springOpen.getStartDate() + "&fields=email,tournaments");
+
+        assertThat(rows.size()).isEqualTo(5);
+        for (JsonNode row : rows) {
+            assertThat(row.propertyNames()).containsExactly("id", "email", "tournaments");
+            assertThat(row.get("tournaments").get(0).get("id").asLong()).isEqualTo(springOpen.getId());
+        }
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void projectedMemberPagesMatchTheFullListing() throws Exception {
+        assertThat(walkPages("/api/members?sort=name&size=4&fields=membershipType"))
+                .isEqualTo(walkPages("/api/members?sort=name&size=4"));
+    }
+
+    @Test
+    void projectedTournamentPagesMatchTheFullListingIncludingMissingLocations() throws Exception {
+        assertThat(walkPages("/api/tournaments?sort=location&size=2&fields=startDate"))
+                .hasSize(9)
+                .isEqualTo(walkPages("/api/tournaments?sort=location&size=2"));
+    }
+
+    @Test
+    void tournamentSearchReturnsOnlyTheRequestedFields() throws Exception {
+        JsonNode rows = getJson("/api/tournaments/search/by-start-date?startDate=" + springOpen.getStartDate()
+                + "&fields=location,registeredPlayers");
+
+        assertThat(rows.size()).isEqualTo(1);
+        assertThat(rows.get(0).propertyNames()).containsExactly("id", "location", "registeredPlayers");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        mockMvc.perform(get("/api/members/search/by-name?name=smith&fields=password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tournaments?fields=members")).andExpect(status().isBadRequest());
+    }
+
+    // Follows the "next" cursors and returns the ids in the order they were listed
+    private List<Long> walkPages(String url) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String next = null;
+        do {
+            JsonNode page = getJson(next == null ? url : url + "&cursor=" + next);
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            next = page.get("next").isNull() ? null : page.get("next").asString();
+        } while (next != null);
+        return ids;
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JSON.readTree(body);
+    }
+}
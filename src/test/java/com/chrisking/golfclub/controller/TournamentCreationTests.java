@@ -0,0 +1,70 @@
+package com.chrisking.golfclub.controller;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that server-maintained tournament fields cannot be set through the create request body.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TournamentCreationTests {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void registeredPlayersInTheBodyIsIgnored() throws Exception {
+        String body = mockMvc.perform(post("/api/tournaments").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"startDate": "2026-08-01", "location": "Cedar Ridge",
+                                 "maxPlayers": 2, "registeredPlayers": 2}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = JSON.readTree(body);
+        long tournamentId = created.get("id").asLong();
+
+        assertThat(created.get("registeredPlayers").asInt()).isZero();
+        assertThat(tournamentRepository.findById(tournamentId).orElseThrow().getRegisteredPlayers()).isZero();
+
+        // Both seats are still free
+        for (int i = 0; i < 2; i++) {
+            Long memberId = memberRepository.save(new Member("Player " + i, null, "seat" + i + "@example.com", null,
+                    LocalDate.of(2025, 1, 1), 12, "standard")).getId();
+            mockMvc.perform(post("/api/tournaments/{tournamentId}/members/{memberId}", tournamentId, memberId))
+                    .andExpect(status().is2xxSuccessful());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.chrisking.golfclub.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitingDataSourceTests {
+
+    private JdbcDataSource target;
+
+    @BeforeEach
+    void setUp() {
+        target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:limiter-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        target.setUser("sa");
+    }
+
+    @Test
+    void callersBeyondTheLimitTimeOut() throws Exception {
+        ConcurrencyLimitingDataSource limiter = new ConcurrencyLimitingDataSource(target, 2, Duration.ofMillis(50));
+
+        try (Connection first = limiter.getConnection(); Connection second = limiter.getConnection()) {
+            assertThat(limiter.getActiveConnections()).isEqualTo(2);
+            assertThatThrownBy(limiter::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class)
+                    .hasMessageContaining("limit of 2");
+        }
+        assertThat(limiter.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void waitingCallerGetsTheConnectionOnceOneIsClosed() throws Exception {
+        ConcurrencyLimitingDataSource limiter = new ConcurrencyLimitingDataSource(target, 1, Duration.ofSeconds(10));
+        Connection held = limiter.getConnection();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try (Connection connection = limiter.getConnection()) {
+                return connection.isValid(1);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (limiter.getWaitingCallers() == 0) {
+            Thread.onSpinWait();
+        }
+        held.close();
+
+        assertThat(waiter.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(limiter.getActiveConnections()).isZero();
+    }
+
+    @Test
+    void closingTwiceReleasesOnePermit() throws Exception {
+        ConcurrencyLimitingDataSource limiter = new ConcurrencyLimitingDataSource(target, 2, Duration.ofMillis(50));
+        Connection held = limiter.getConnection();
+        Connection connection = limiter.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(limiter.getActiveConnections()).isEqualTo(1);
+        held.close();
+    }
+
+    @Nested
+    @SpringBootTest(properties = "golfclub.db.limiter.enabled=true")
+    @ActiveProfiles("test")
+    class WhenEnabled {
+
+        @Autowired
+        private DataSource dataSource;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Value("${spring.datasource.hikari.maximum-pool-size}")
+        private int poolSize;
+
+        @Test
+        void wrapsTheApplicationDataSourceSizedToThePool() throws Exception {
+            assertThat(dataSource).isInstanceOf(ConcurrencyLimitingDataSource.class);
+            assertThat(meterRegistry.get("golfclub.db.limiter.max").gauge().value()).isEqualTo(poolSize);
+            // The Hikari pool behind the limiter is still found and instrumented
+            assertThat(meterRegistry.find("hikaricp.connections.max").gauge()).isNotNull();
+        }
+    }
+}
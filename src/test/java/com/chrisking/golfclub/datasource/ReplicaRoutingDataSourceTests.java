@@ -0,0 +1,191 @@
+package com.chrisking.golfclub.datasource;
+
+import com.chrisking.golfclub.config.CacheConfig;
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.dto.TournamentResponse;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.service.MemberService;
+import com.chrisking.golfclub.service.SearchIndexService;
+import com.chrisking.golfclub.service.TournamentService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies read/write splitting with two embedded databases standing in for the primary and the replica.
+ * Nothing replicates between them, so where a row is visible shows which database served a query, and the
+ * replica behaves like one lagging arbitrarily far behind.
+ */
+@SpringBootTest(properties = "golfclub.datasource.replica.url=jdbc:h2:mem:golfclub-replica-${random.uuid};"
+        + "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingDataSourceTests {
+
+    private static final String TYPE = "replica-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @AfterEach
+    void cleanUp() {
+        for (DataSource dataSource : List.of(primary, replica)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.update("delete from tournament_members");
+            jdbcTemplate.update("delete from tournaments");
+            jdbcTemplate.update("delete from members");
+        }
+        searchIndexService.build();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws Exception {
+        insertIntoReplica("replica@example.com");
+
+        assertThat(memberService.searchByMembershipType(TYPE)).extracting(MemberResponse::email)
+                .containsExactly("replica@example.com");
+        mockMvc.perform(get("/api/members/search/by-membership-type").param("membershipType", TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("replica@example.com"));
+    }
+
+    @Test
+    void writesUseThePrimary() throws Exception {
+        memberService.createMember(newMember("service@example.com"));
+        mockMvc.perform(post("/api/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberName\":\"Http Member\",\"email\":\"http@example.com\","
+                                + "\"membershipType\":\"" + TYPE + "\"}"))
+                .andExpect(status().isCreated());
+
+        assertThat(emails(primary)).containsExactlyInAnyOrder("service@example.com", "http@example.com");
+        assertThat(emails(replica)).isEmpty();
+        // Outside a request nothing pins reads to the primary, and the replica has not caught up
+        assertThat(memberService.searchByMembershipType(TYPE)).isEmpty();
+    }
+
+    @Test
+    void requestsReadTheirOwnWrites() {
+        ReplicaRoutingDataSource.beginRequest();
+        try {
+            assertThat(ReplicaRoutingDataSource.currentTarget()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+            assertThat(memberService.searchByMembershipType(TYPE)).isEmpty();
+
+            memberService.createMember(newMember("own@example.com"));
+
+            assertThat(memberService.searchByMembershipType(TYPE)).extracting(MemberResponse::email)
+                    .containsExactly("own@example.com");
+        } finally {
+            ReplicaRoutingDataSource.endRequest();
+        }
+        assertThat(memberService.searchByMembershipType(TYPE)).isEmpty();
+    }
+
+    @Test
+    void cacheMissesAreFilledFromThePrimary() {
+        MemberResponse member = memberService.createMember(newMember("primary@example.com"));
+        Long tournamentId = tournamentService.createTournament(new Tournament(LocalDate.of(2026, 6, 1), null,
+                "Pebble Creek", new BigDecimal("50.00"), new BigDecimal("1000.00"))).getId();
+        tournamentService.enrollMembers(tournamentId, List.of(member.id()));
+        // The replica still has the member under an older name, and not the tournament at all
+        new JdbcTemplate(replica).update("insert into members (id, member_name, email, membership_start_date, "
+                + "membership_duration_months, membership_type) values (?, ?, ?, ?, ?, ?)",
+                member.id(), "Stale Member", member.email(), LocalDate.of(2025, 1, 1), 12, TYPE);
+        Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+        Cache tournaments = cacheManager.getCache(CacheConfig.TOURNAMENTS);
+        members.evict(member.id());
+        tournaments.evict(tournamentId);
+
+        assertThat(memberService.getMemberById(member.id())).get().extracting(MemberResponse::memberName)
+                .isEqualTo("Service Member");
+        assertThat(members.get(member.id(), MemberResponse.class).memberName()).isEqualTo("Service Member");
+        assertThat(tournamentService.getTournamentById(tournamentId).registeredPlayers()).isEqualTo(1);
+        assertThat(tournaments.get(tournamentId, TournamentResponse.class).registeredPlayers()).isEqualTo(1);
+        assertThat(tournamentService.getMembersInTournament(tournamentId)).extracting(MemberResponse::id)
+                .containsExactly(member.id());
+    }
+
+    @Test
+    void indexesAreBuiltFromThePrimary() {
+        MemberResponse member = memberService.createMember(newMember("primary@example.com"));
+        insertIntoReplica("replica@example.com");
+
+        searchIndexService.build();
+
+        assertThat(searchIndexService.searchMemberNames("service member", 10)).containsExactly(member.id());
+        assertThat(searchIndexService.searchMemberNames("replica member", 10)).isEmpty();
+    }
+
+    private void insertIntoReplica(String email) {
+        new JdbcTemplate(replica).update("insert into members (id, member_name, email, membership_start_date, "
+                + "membership_duration_months, membership_type) values (nextval('members_seq'), ?, ?, ?, ?, ?)",
+                "Replica Member", email, LocalDate.of(2025, 1, 1), 12, TYPE);
+    }
+
+    private static List<String> emails(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("select email from members where membership_type = ?",
+                String.class, TYPE);
+    }
+
+    private static Member newMember(String email) {
+        return new Member("Service Member", "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12, TYPE);
+    }
+
+    @TestConfiguration
+    static class ReplicaSchema {
+
+        // Gives the stand-in replica the same schema as the primary
+        @Bean
+        FlywayMigrationStrategy migrateReplicaToo(@Qualifier("replicaDataSource") DataSource replica) {
+            return flyway -> {
+                flyway.migrate();
+                Flyway.configure().configuration(flyway.getConfiguration()).dataSource(replica).load().migrate();
+            };
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.chrisking.golfclub.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that keyset cursors survive a round trip, including sort keys that contain the separator or are
+ * null, and that tampered cursors and cursors issued for another sort are rejected.
+ */
+class PageCursorTests {
+
+    @Test
+    void roundTripKeepsSortKeyAndId() {
+        PageCursor cursor = new PageCursor("name", "Smith, John\nJr.", 42L);
+
+        assertThat(PageCursor.decode(cursor.encode(), "name")).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsNullAndEmptyKeysApart() {
+        PageCursor nullKey = new PageCursor("location", null, 7L);
+        PageCursor emptyKey = new PageCursor("location", "", 7L);
+
+        assertThat(PageCursor.decode(nullKey.encode(), "location").key()).isNull();
+        assertThat(PageCursor.decode(emptyKey.encode(), "location").key()).isEmpty();
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String token = new PageCursor("name", "???>>>", Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void cursorIssuedForAnotherSortIsRejected() {
+        String token = new PageCursor("id", null, 10L).encode();
+
+        assertThatThrownBy(() -> PageCursor.decode(token, "name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    void tamperedCursorsAreRejected() {
+        assertInvalid("not a cursor!");
+        assertInvalid(raw("id"));
+        assertInvalid(raw("id\n10"));
+        assertInvalid(raw("id\n10\n"));
+        assertInvalid(raw("id\nten\n-"));
+        assertInvalid(raw("id\n99999999999999999999\n-"));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> PageCursor.decode(token, "id"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static String raw(String decoded) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+}
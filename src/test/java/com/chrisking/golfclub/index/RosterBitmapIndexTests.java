@@ -0,0 +1,67 @@
+package com.chrisking.golfclub.index;
+
+import com.chrisking.golfclub.dto.RosterOperation;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the roster index combines and pages rosters in ascending id order, including member ids
+ * beyond the int range, and forgets removed members.
+ */
+class RosterBitmapIndexTests {
+
+    private static final long BEYOND_INT = Integer.MAX_VALUE + 10L;
+
+    private final RosterBitmapIndex index = new RosterBitmapIndex();
+
+    @Test
+    void combinesRostersWithIdsBeyondTheIntRange() {
+        index.addMembers(1, List.of(3L, BEYOND_INT, BEYOND_INT + 1));
+        index.replaceMembers(2, List.of(3L, 4L, BEYOND_INT + 1));
+
+        assertThat(RosterBitmapIndex.page(index.combine(RosterOperation.INTERSECTION, List.of(1L, 2L)), 0, 10))
+                .containsExactly(3L, BEYOND_INT + 1);
+        assertThat(RosterBitmapIndex.page(index.combine(RosterOperation.UNION, List.of(1L, 2L)), 0, 10))
+                .containsExactly(3L, 4L, BEYOND_INT, BEYOND_INT + 1);
+        assertThat(RosterBitmapIndex.page(index.combine(RosterOperation.DIFFERENCE, List.of(1L, 2L)), 0, 10))
+                .containsExactly(BEYOND_INT);
+        assertThat(index.notOnRoster(1, List.of(4L, BEYOND_INT))).containsExactly(4L);
+    }
+
+    @Test
+    void pagesStartAfterTheLastIdOfThePreviousPage() {
+        index.addMembers(1, List.of(5L, 7L, 9L, BEYOND_INT, BEYOND_INT + 2));
+        Roaring64NavigableMap members = index.combine(RosterOperation.UNION, List.of(1L));
+
+        assertThat(RosterBitmapIndex.page(members, 0, 2)).containsExactly(5L, 7L);
+        assertThat(RosterBitmapIndex.page(members, 7, 2)).containsExactly(9L, BEYOND_INT);
+        assertThat(RosterBitmapIndex.page(members, 8, 2)).containsExactly(9L, BEYOND_INT);
+        assertThat(RosterBitmapIndex.page(members, BEYOND_INT, 2)).containsExactly(BEYOND_INT + 2);
+        assertThat(RosterBitmapIndex.page(members, BEYOND_INT + 2, 2)).isEmpty();
+    }
+
+    @Test
+    void removedMembersLeaveEveryRoster() {
+        index.addMembers(1, List.of(1L, BEYOND_INT));
+        index.addMembers(2, List.of(BEYOND_INT));
+
+        index.removeMember(BEYOND_INT);
+
+        assertThat(RosterBitmapIndex.page(index.combine(RosterOperation.UNION, List.of(1L, 2L)), 0, 10))
+                .containsExactly(1L);
+    }
+
+    @Test
+    void combiningDoesNotChangeTheIndexedRosters() {
+        index.addMembers(1, List.of(1L, 2L));
+        index.addMembers(2, List.of(2L));
+
+        index.combine(RosterOperation.DIFFERENCE, List.of(1L, 2L));
+
+        assertThat(index.notOnRoster(1, List.of(1L, 2L))).isEmpty();
+    }
+}
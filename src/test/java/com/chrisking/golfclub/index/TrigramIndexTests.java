@@ -0,0 +1,96 @@
+package com.chrisking.golfclub.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the trigram index finds substrings case-insensitively, ranks exact, prefix, word-start and
+ * inner matches in that order, and forgets replaced and removed texts.
+ */
+class TrigramIndexTests {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    void ranksExactThenPrefixThenWordStartThenSubstring() {
+        index.put(1, "Marshharbour");
+        index.put(2, "Harbour");
+        index.put(3, "Old Harbour Links");
+        index.put(4, "Harbourside");
+        index.put(5, "Pine Valley");
+
+        assertThat(index.search("harbour", 10)).containsExactly(2L, 4L, 3L, 1L);
+    }
+
+    @Test
+    void ignoresCaseAndSurroundingWhitespace() {
+        index.put(1, "  McALLISTER ");
+
+        assertThat(index.search("mcallister", 10)).containsExactly(1L);
+        assertThat(index.search(" ALLIS ", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void breaksTiesByLengthThenId() {
+        index.put(9, "Ann Lee");
+        index.put(4, "Ann Leeds");
+        index.put(2, "Ann Lee");
+
+        assertThat(index.search("ann", 10)).containsExactly(2L, 9L, 4L);
+    }
+
+    @Test
+    void keepsOnlyTheBestMatchesUpToTheLimit() {
+        for (long id = 1; id <= 50; id++) {
+            index.put(id, "Player " + id);
+        }
+        index.put(100, "Player");
+
+        assertThat(index.search("player", 3)).containsExactly(100L, 1L, 2L);
+        assertThat(index.search("player", 0)).isEmpty();
+    }
+
+    @Test
+    void shortQueriesScanEveryDocument() {
+        index.put(1, "Jo");
+        index.put(2, "John");
+        index.put(3, "Bjorn");
+
+        assertThat(index.search("jo", 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("", 10)).isEmpty();
+    }
+
+    @Test
+    void queryWithAnUnknownTrigramMatchesNothing() {
+        index.put(1, "Augusta");
+
+        assertThat(index.search("augz", 10)).isEmpty();
+    }
+
+    @Test
+    void replacingOrRemovingATextForgetsTheOldOne() {
+        index.put(1, "Carnoustie");
+        index.put(1, "St Andrews");
+        index.put(2, "Carnoustie");
+        index.remove(2);
+        index.put(3, "Troon");
+        index.put(3, null);
+
+        assertThat(index.search("carnoustie", 10)).isEmpty();
+        assertThat(index.search("andrews", 10)).containsExactly(1L);
+        assertThat(index.search("troon", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void clearRemovesEveryDocument() {
+        index.put(1, "Muirfield");
+        index.put(2, "Turnberry");
+        index.clear();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.search("muirfield", 10)).isEmpty();
+        assertThat(index.search("tu", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+package com.chrisking.golfclub.metrics;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the metrics published for endpoints and the persistence layer: latency percentiles per route,
+ * repository timings and row counts, slow query counts and Hibernate session statistics.
+ * The slow query threshold is zero here so every repository call counts as slow.
+ */
+@SpringBootTest(properties = "golfclub.metrics.slow-query.threshold=0ms")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PersistenceMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() {
+        memberRepository.saveAll(List.of(
+                new Member("Ada Green", "1 Fairway Rd", "ada@example.com", "555-0001", LocalDate.of(2025, 1, 1), 12, "premium"),
+                new Member("Bo Green", "2 Fairway Rd", "bo@example.com", "555-0002", LocalDate.of(2025, 1, 1), 12, "premium"),
+                new Member("Cy Brown", "3 Fairway Rd", "cy@example.com", "555-0003", LocalDate.of(2025, 1, 1), 12, "junior")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void endpointLatencyIsPublishedPerRouteWithPercentiles() throws Exception {
+        mockMvc.perform(get("/api/members/search/by-membership-type").param("membershipType", "premium"))
+                .andExpect(status().isOk());
+
+        Timer requests = meterRegistry.get("http.server.requests").tag("uri", "/api/members/search/by-membership-type")
+                .timer();
+        assertThat(requests.count()).isEqualTo(1);
+        assertThat(Arrays.stream(requests.takeSnapshot().percentileValues()).map(ValueAtPercentile::percentile))
+                .containsExactly(0.5, 0.95, 0.99);
+    }
+
+    @Test
+    void repositoryCallsRecordTimingsAndRowCounts() {
+        double callsBefore = invocations("findByPhoneNumber").count();
+        double phoneRowsBefore = rows("findByPhoneNumber").totalAmount();
+        long phoneCallsBefore = rows("findByPhoneNumber").count();
+        double typeRowsBefore = rows("findByMembershipTypeIgnoreCase").totalAmount();
+
+        memberRepository.findByMembershipTypeIgnoreCase("premium");
+        memberRepository.findByPhoneNumber("555-0003");
+        memberRepository.findByPhoneNumber("nobody");
+
+        assertThat(invocations("findByPhoneNumber").count() - callsBefore).isEqualTo(2);
+        assertThat(rows("findByMembershipTypeIgnoreCase").totalAmount() - typeRowsBefore).isEqualTo(2);
+        assertThat(rows("findByPhoneNumber").count() - phoneCallsBefore).isEqualTo(2);
+        assertThat(rows("findByPhoneNumber").totalAmount() - phoneRowsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void streamedRowsAreCountedWhenTheStreamIsClosed() {
+        double rowsBefore = rows("streamAll").totalAmount();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (Stream<Member> members = memberRepository.streamAll()) {
+                assertThat(members.count()).isEqualTo(3);
+            }
+        });
+
+        assertThat(rows("streamAll").totalAmount() - rowsBefore).isEqualTo(3);
+    }
+
+    @Test
+    void slowCallsAreCounted() {
+        memberRepository.findByPhoneNumber("555-0001");
+
+        assertThat(meterRegistry.get("golfclub.repository.slow").tag("repository", "MemberRepository")
+                .tag("method", "findByPhoneNumber").counter().count()).isPositive();
+    }
+
+    @Test
+    void hibernateStatisticsArePublished() {
+        memberRepository.findByPhoneNumber("555-0001");
+
+        assertThat(meterRegistry.get("hibernate.statements").tag("status", "prepared").functionCounter().count())
+                .isPositive();
+    }
+
+    private Timer invocations(String method) {
+        Timer timer = meterRegistry.find("spring.data.repository.invocations").tag("repository", "MemberRepository")
+                .tag("method", method).timer();
+        return timer != null ? timer : meterRegistry.timer("unused");
+    }
+
+    private DistributionSummary rows(String method) {
+        // Registered on the first call, so it may not exist yet
+        DistributionSummary summary = meterRegistry.find("golfclub.repository.rows").tag("repository", "MemberRepository")
+                .tag("method", method).summary();
+        return summary != null ? summary : meterRegistry.summary("unused");
+    }
+}
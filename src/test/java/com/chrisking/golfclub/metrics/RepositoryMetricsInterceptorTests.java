@@ -0,0 +1,113 @@
+package com.chrisking.golfclub.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a streamed result counts as slow only if opening it was slow, however long the caller then
+ * takes to consume it, while its rows are still recorded when it is closed.
+ */
+class RepositoryMetricsInterceptorTests {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(50);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RepositoryMetricsInterceptor interceptor = new RepositoryMetricsInterceptor("TestRepository",
+            () -> meterRegistry, THRESHOLD, 0.0);
+
+    @Test
+    void slowlyConsumedStreamIsNotASlowQuery() throws Throwable {
+        @SuppressWarnings("unchecked")
+        Stream<Integer> rows = (Stream<Integer>) interceptor.invoke(invocation("streamAll",
+                () -> Stream.of(1, 2, 3)));
+        try (rows) {
+            rows.forEach(row -> sleep(THRESHOLD.toMillis()));
+        }
+
+        assertThat(meterRegistry.find("golfclub.repository.slow").counter()).isNull();
+        assertThat(meterRegistry.get("golfclub.repository.rows").tag("method", "streamAll").summary()
+                .totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void slowlyOpenedStreamIsASlowQuery() throws Throwable {
+        Stream<?> rows = (Stream<?>) interceptor.invoke(invocation("streamAll", () -> {
+            sleep(THRESHOLD.toMillis() * 2);
+            return Stream.of(1);
+        }));
+        rows.close();
+
+        assertThat(meterRegistry.get("golfclub.repository.slow").tag("method", "streamAll").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void slowListQueryIsASlowQuery() throws Throwable {
+        interceptor.invoke(invocation("findAll", () -> {
+            sleep(THRESHOLD.toMillis() * 2);
+            return List.of(1, 2);
+        }));
+
+        assertThat(meterRegistry.get("golfclub.repository.slow").tag("method", "findAll").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("golfclub.repository.rows").tag("method", "findAll").summary()
+                .totalAmount()).isEqualTo(2);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // An invocation of a method with the given name whose result comes from the call
+    private static MethodInvocation invocation(String name, Callable<Object> call) throws NoSuchMethodException {
+        Method method = Fixture.class.getDeclaredMethod(name);
+        return new MethodInvocation() {
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return new Object[0];
+            }
+
+            @Override
+            public Object proceed() throws Throwable {
+                return call.call();
+            }
+
+            @Override
+            public Object getThis() {
+                return null;
+            }
+
+            @Override
+            public AccessibleObject getStaticPart() {
+                return method;
+            }
+        };
+    }
+
+    private interface Fixture {
+
+        Stream<Integer> streamAll();
+
+        List<Integer> findAll();
+    }
+}
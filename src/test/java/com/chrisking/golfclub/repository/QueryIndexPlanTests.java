@@ -0,0 +1,156 @@
+package com.chrisking.golfclub.repository;
+
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.support.RecordingStatementInspector;
+import com.chrisking.golfclub.support.StatementCaptureConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the SQL generated for the derived lookup queries is answered from the indexes
+ * created by the schema migrations rather than by scanning whole tables.
+ * Runs against the embedded database by default; point spring.datasource.* at PostgreSQL to also
+ * check the upper(membership_type) expression index, which only exists there.
+ */
+@SpringBootTest(properties = "golfclub.search.index.enabled=false")
+@Import(StatementCaptureConfig.class)
+@ActiveProfiles("test")
+class QueryIndexPlanTests {
+
+    private static final int MEMBER_COUNT = 500;
+
+    private static final int TOURNAMENT_COUNT = 50;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecordingStatementInspector statementInspector;
+
+    @BeforeEach
+    void seed() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(new Member("Member " + i, "1 Fairway Rd", "member" + i + "@example.com", "555-" + i,
+                    LocalDate.of(2025, 1, 1), 12, i % 2 == 0 ? "premium" : "standard"));
+        }
+        members = memberRepository.saveAll(members);
+
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < TOURNAMENT_COUNT; i++) {
+            Tournament tournament = new Tournament(LocalDate.of(2026, 1, 1).plusDays(i), LocalDate.of(2026, 1, 2).plusDays(i),
+                    "Course " + i, new BigDecimal("50.00"), new BigDecimal("1000.00"));
+            tournament.getMembers().addAll(members.subList(i * 10, i * 10 + 10));
+            tournaments.add(tournament);
+        }
+        tournamentRepository.saveAll(tournaments);
+
+        // Both databases plan joins from collected statistics
+        jdbcTemplate.execute("analyze");
+        statementInspector.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findByPhoneNumberUsesPhoneIndex() {
+        memberRepository.findByPhoneNumber("555-42");
+
+        assertThat(explainLastQuery("555-42")).containsIgnoringCase("idx_members_phone_number");
+    }
+
+    @Test
+    void findByStartDateUsesStartDateIndex() {
+        LocalDate startDate = LocalDate.of(2026, 1, 10);
+        tournamentRepository.findByStartDate(startDate);
+
+        assertThat(explainLastQuery(startDate)).containsIgnoringCase("idx_tournaments_start_date");
+    }
+
+    @Test
+    void findByTournamentsStartDateJoinsThroughIndexes() {
+        LocalDate startDate = LocalDate.of(2026, 1, 10);
+        memberRepository.findByTournaments_StartDate(startDate);
+
+        assertThat(explainLastQuery(startDate))
+                .containsIgnoringCase("idx_tournaments_start_date")
+                .containsIgnoringCase("idx_tournament_members_tournament_member");
+    }
+
+    @Test
+    void findByMembershipTypeIgnoreCaseUsesExpressionIndex() {
+        assumeTrue(isPostgres(), "expression indexes only exist on PostgreSQL");
+        memberRepository.findByMembershipTypeIgnoreCase("Premium");
+
+        assertThat(explainLastQuery("Premium")).containsIgnoringCase("idx_members_membership_type_upper");
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("PostgreSQL")));
+    }
+
+    /**
+     * Explains the last SELECT Hibernate issued, bound to the given arguments.
+     * On PostgreSQL sequential scans are disabled for the check, so a tiny table cannot hide a missing index.
+     */
+    private String explainLastQuery(Object... args) {
+        String sql = statementInspector.lastSelect();
+        boolean postgres = isPostgres();
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement settings = connection.createStatement()) {
+                if (postgres) {
+                    settings.execute("set enable_seqscan = off");
+                }
+                try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+                    for (int i = 0; i < args.length; i++) {
+                        explain.setObject(i + 1, args[i]);
+                    }
+                    StringBuilder lines = new StringBuilder();
+                    try (ResultSet rs = explain.executeQuery()) {
+                        while (rs.next()) {
+                            lines.append(rs.getString(1)).append('\n');
+                        }
+                    }
+                    return lines.toString();
+                } finally {
+                    if (postgres) {
+                        settings.execute("reset enable_seqscan");
+                    }
+                }
+            }
+        });
+        // H2 marks full scans as "tableScan", PostgreSQL as "Seq Scan"
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").doesNotContainIgnoringCase("Seq Scan");
+        return plan;
+    }
+}
@@ -0,0 +1,75 @@
+package com.chrisking.golfclub.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that loads are cached, except when a write to the same key commits while the load is running,
+ * in which case the loaded value is returned to its caller but does not stay in the cache.
+ */
+class CacheFillTests {
+
+    private final ConcurrentMapCache cache = new ConcurrentMapCache("test", false);
+
+    private final CacheFill<Long, String> cacheFill = new CacheFill<>(cache, String.class);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void missesAreLoadedOnceAndCached() {
+        assertThat(cacheFill.get(1L, () -> load("v1"))).isEqualTo("v1");
+        assertThat(cacheFill.get(1L, () -> load("v2"))).isEqualTo("v1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(1L, String.class)).isEqualTo("v1");
+    }
+
+    @Test
+    void loadThatRacedWithAWriteIsNotCached() {
+        String loaded = cacheFill.get(1L, () -> {
+            // The write commits and invalidates while the old state is being read
+            cacheFill.invalidate(1L);
+            return load("before write");
+        });
+
+        assertThat(loaded).isEqualTo("before write");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cacheFill.get(1L, () -> load("after write"))).isEqualTo("after write");
+        assertThat(cache.get(1L, String.class)).isEqualTo("after write");
+    }
+
+    @Test
+    void writeToAnotherKeyDoesNotUsuallyDiscardTheLoad() {
+        cacheFill.get(1L, () -> {
+            cacheFill.invalidate(2L);
+            return load("v1");
+        });
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("v1");
+    }
+
+    @Test
+    void invalidateEvictsTheCachedValue() {
+        cacheFill.get(1L, () -> load("v1"));
+        cacheFill.invalidate(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cacheFill.get(1L, () -> load("v2"))).isEqualTo("v2");
+    }
+
+    @Test
+    void nothingIsCachedWhenTheLoaderFindsNothing() {
+        assertThat(cacheFill.get(1L, () -> null)).isNull();
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
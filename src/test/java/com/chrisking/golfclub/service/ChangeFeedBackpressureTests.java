@@ -0,0 +1,42 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ChangeType;
+import com.chrisking.golfclub.dto.RosterChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a subscriber whose sends do not keep up is disconnected instead of slowing down publishing
+ * or buffering without bound.
+ */
+class ChangeFeedBackpressureTests {
+
+    @Test
+    void subscribersFallingAWholeBufferBehindAreDropped() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // Sends are queued here and never run, like a client that stopped reading
+        List<Runnable> stalledSends = new ArrayList<>();
+        ChangeFeedService changeFeed = new ChangeFeedService(registry, 16, 4, Duration.ofMinutes(1),
+                stalledSends::add);
+        changeFeed.subscribe(null);
+        changeFeed.subscribe(null);
+
+        for (int i = 0; i < 4; i++) {
+            changeFeed.publish(ChangeType.ROSTER_ENROLLED, new RosterChange(1L, List.of((long) i)));
+        }
+        assertThat(changeFeed.subscriberCount()).isEqualTo(2);
+
+        changeFeed.publish(ChangeType.ROSTER_ENROLLED, new RosterChange(1L, List.of(4L)));
+
+        assertThat(changeFeed.subscriberCount()).isZero();
+        assertThat(registry.get("golfclub.changes.subscribers.dropped").counter().count()).isEqualTo(2);
+        // One drain per subscriber was scheduled, however many events were queued
+        assertThat(stalledSends).hasSize(2);
+    }
+}
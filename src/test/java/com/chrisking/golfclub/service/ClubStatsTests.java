@@ -0,0 +1,184 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ClubStats;
+import com.chrisking.golfclub.dto.ImportResult;
+import com.chrisking.golfclub.dto.TournamentStats;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the club statistics follow member, tournament and enrollment writes without a database read,
+ * and that reconciliation corrects writes the incremental updates did not see.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClubStatsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ClubStats before;
+
+    @BeforeEach
+    void reconcile() {
+        // Earlier tests delete their data behind the aggregates' back
+        statsService.reconcile();
+        before = statsService.getClubStats();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void statsFollowWrites() throws Exception {
+        Long gold = memberService.createMember(newMember("gold@example.com", "Gold")).id();
+        Long alsoGold = memberService.createMember(newMember("gold2@example.com", "gold")).id();
+        Long none = memberService.createMember(newMember("none@example.com", null)).id();
+        Tournament open = tournamentService.createTournament(newTournament("50.00", "1000.00"));
+        Tournament free = tournamentService.createTournament(newTournament(null, null));
+        tournamentService.enrollMembers(open.getId(), List.of(gold, alsoGold));
+        tournamentService.addMemberToTournament(open.getId(), none);
+        tournamentService.addMemberToTournament(free.getId(), gold);
+
+        ClubStats after = statsService.getClubStats();
+        assertThat(after.members() - before.members()).isEqualTo(3);
+        assertThat(after.membersByType().get("gold") - before.membersByType().getOrDefault("gold", 0L)).isEqualTo(2);
+        assertThat(after.membersByType().get("unspecified")
+                - before.membersByType().getOrDefault("unspecified", 0L)).isEqualTo(1);
+        assertThat(after.tournaments() - before.tournaments()).isEqualTo(2);
+        assertThat(after.registeredPlayers() - before.registeredPlayers()).isEqualTo(4);
+        assertThat(after.entryFeeRevenue().subtract(before.entryFeeRevenue())).isEqualByComparingTo("150");
+        assertThat(after.cashPrizes().subtract(before.cashPrizes())).isEqualByComparingTo("1000");
+
+        TournamentStats stats = statsService.getTournamentStats(open.getId());
+        assertThat(stats.registeredPlayers()).isEqualTo(3);
+        assertThat(stats.entryFeeRevenue()).isEqualByComparingTo("150");
+        assertThat(stats.margin()).isEqualByComparingTo("-850");
+        assertThat(statsService.getTournamentStats(free.getId()).entryFeeRevenue()).isEqualByComparingTo("0");
+
+        // The incremental figures agree with the database
+        assertThat(statsService.reconcile()).isFalse();
+
+        mockMvc.perform(get("/api/stats/tournaments/" + open.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.registeredPlayers").value(3));
+        mockMvc.perform(get("/api/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.membersByType.gold").value(after.membersByType().get("gold")));
+        mockMvc.perform(get("/api/stats/tournaments/-1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void reconciliationCorrectsUnseenWrites() {
+        // Saved through the repository, as the bulk import does, so the statistics are not told
+        memberRepository.save(newMember("imported@example.com", "junior"));
+        Tournament tournament = tournamentRepository.save(newTournament("20.00", "100.00"));
+        assertThat(statsService.getClubStats().members()).isEqualTo(before.members());
+
+        assertThat(statsService.reconcile()).isTrue();
+
+        ClubStats after = statsService.getClubStats();
+        assertThat(after.members()).isEqualTo(before.members() + 1);
+        assertThat(after.membersByType()).containsKey("junior");
+        assertThat(after.tournaments()).isEqualTo(before.tournaments() + 1);
+        assertThat(after.reconciledAt()).isAfterOrEqualTo(before.reconciledAt());
+        assertThat(statsService.getTournamentStats(tournament.getId()).margin()).isEqualByComparingTo("-100");
+
+        tournamentRepository.deleteById(tournament.getId());
+        assertThat(statsService.reconcile()).isTrue();
+        assertThat(statsService.getClubStats().tournaments()).isEqualTo(before.tournaments());
+    }
+
+    @Test
+    void importedMembersAreCountedOnceTheirChunkCommits() {
+        // The second row is a duplicate and the third the database rejects, so only two members are created
+        ImportResult result = memberImportService.importMembers(List.of(
+                newMember("import1@example.com", "junior"),
+                newMember("import1@example.com", "junior"),
+                new Member("x".repeat(300), null, "import3@example.com", null, null, null, "junior"),
+                newMember("import4@example.com", "junior")));
+        assertThat(result.created()).isEqualTo(2);
+
+        ClubStats after = statsService.getClubStats();
+        assertThat(after.members()).isEqualTo(before.members() + 2);
+        assertThat(after.membersByType().get("junior") - before.membersByType().getOrDefault("junior", 0L))
+                .isEqualTo(2);
+        assertThat(statsService.reconcile()).isFalse();
+    }
+
+    @Test
+    void reconciliationCountsTheRosterRows() {
+        Tournament tournament = tournamentService.createTournament(newTournament("20.00", "100.00"));
+        Long first = memberService.createMember(newMember("first@example.com", "gold")).id();
+        Long second = memberService.createMember(newMember("second@example.com", "gold")).id();
+        // Written straight to the roster table, so neither the registered players counter nor the statistics
+        // are told
+        for (Long memberId : List.of(first, second)) {
+            jdbcTemplate.update("insert into tournament_members (tournament_id, member_id) values (?, ?)",
+                    tournament.getId(), memberId);
+        }
+
+        assertThat(statsService.reconcile()).isTrue();
+
+        TournamentStats stats = statsService.getTournamentStats(tournament.getId());
+        assertThat(stats.registeredPlayers()).isEqualTo(2);
+        assertThat(stats.entryFeeRevenue()).isEqualByComparingTo("40");
+        assertThat(stats.margin()).isEqualByComparingTo("-60");
+    }
+
+    private static Member newMember(String email, String membershipType) {
+        return new Member("Stats Member", "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12,
+                membershipType);
+    }
+
+    private static Tournament newTournament(String entryFee, String cashPrize) {
+        return new Tournament(LocalDate.of(2026, 7, 1), null, "Pebble Creek", entryFee == null ? null
+                : new BigDecimal(entryFee), cashPrize == null ? null : new BigDecimal(cashPrize));
+    }
+}
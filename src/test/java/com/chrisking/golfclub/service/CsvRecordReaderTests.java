@@ -0,0 +1,57 @@
+package com.chrisking.golfclub.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that the import's CSV reader splits records as RFC 4180 describes, including quoted fields that
+ * hold separators, quotes and line breaks, and that it ignores a leading byte order mark.
+ */
+class CsvRecordReaderTests {
+
+    @Test
+    void quotedFieldsKeepSeparatorsQuotesAndLineBreaks() throws IOException {
+        List<List<String>> records = read("name,address\n"
+                + "\"Lee, Ann\",\"12 \"\"Old\"\" Course Rd\"\n"
+                + "\"Bo\",\"Unit 4\nHarbour View\"\n");
+
+        assertThat(records).containsExactly(
+                List.of("name", "address"),
+                List.of("Lee, Ann", "12 \"Old\" Course Rd"),
+                List.of("Bo", "Unit 4\nHarbour View"));
+    }
+
+    @Test
+    void windowsLineEndingsAndBlankLinesSeparateRecords() throws IOException {
+        assertThat(read("a,b\r\n\r\n1,\r\n")).containsExactly(List.of("a", "b"), List.of("1", ""));
+    }
+
+    @Test
+    void byteOrderMarkIsNotPartOfTheFirstField() throws IOException {
+        assertThat(read("\uFEFFmemberName,email\nAnn,ann@example.com"))
+                .containsExactly(List.of("memberName", "email"), List.of("Ann", "ann@example.com"));
+    }
+
+    @Test
+    void unterminatedQuotedFieldIsRejected() {
+        assertThatThrownBy(() -> read("name\n\"Ann\n")).isInstanceOf(IOException.class);
+    }
+
+    private static List<List<String>> read(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,112 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.config.CacheConfig;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that lookups by id are served from the entity caches and that enrollment
+ * invalidates the entries it changes, so cached reads never lag behind writes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EntityCacheTests {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.MEMBERS).clear();
+        cacheManager.getCache(CacheConfig.TOURNAMENTS).clear();
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        Long memberId = memberService.createMember(newMember("cached@example.com")).id();
+        double hitsBefore = hits(CacheConfig.MEMBERS);
+
+        memberService.getMemberById(memberId);
+        memberService.getMemberById(memberId);
+
+        assertThat(hits(CacheConfig.MEMBERS) - hitsBefore).isEqualTo(2);
+    }
+
+    @Test
+    void enrollmentEvictsMemberAndTournament() {
+        Long memberId = memberService.createMember(newMember("enrolled@example.com")).id();
+        Tournament tournament = tournamentService.createTournament(newTournament());
+        assertThat(memberService.getMemberById(memberId).orElseThrow().tournaments()).isEmpty();
+        assertThat(tournamentService.getTournamentById(tournament.getId()).registeredPlayers()).isZero();
+
+        tournamentService.addMemberToTournament(tournament.getId(), memberId);
+
+        assertThat(memberService.getMemberById(memberId).orElseThrow().tournaments()).hasSize(1);
+        assertThat(tournamentService.getTournamentById(tournament.getId()).registeredPlayers()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkEnrollmentEvictsEveryAddedMember() {
+        Long first = memberService.createMember(newMember("first@example.com")).id();
+        Long second = memberService.createMember(newMember("second@example.com")).id();
+        Tournament tournament = tournamentService.createTournament(newTournament());
+
+        tournamentService.enrollMembers(tournament.getId(), List.of(first, second));
+
+        assertThat(memberService.getMemberById(first).orElseThrow().tournaments()).hasSize(1);
+        assertThat(memberService.getMemberById(second).orElseThrow().tournaments()).hasSize(1);
+        assertThat(tournamentService.getTournamentById(tournament.getId()).registeredPlayers()).isEqualTo(2);
+    }
+
+    @Test
+    void missingMembersAreNotCached() {
+        Long missingId = memberRepository.save(newMember("gone@example.com")).getId() + 1_000;
+
+        assertThat(memberService.getMemberById(missingId)).isEmpty();
+
+        assertThat(cacheManager.getCache(CacheConfig.MEMBERS).get(missingId)).isNull();
+    }
+
+    private double hits(String cacheName) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", "hit").functionCounter().count();
+    }
+
+    private static Member newMember(String email) {
+        return new Member("Cache Member", "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12, "premium");
+    }
+
+    private static Tournament newTournament() {
+        return new Tournament(LocalDate.of(2026, 8, 1), LocalDate.of(2026, 8, 2), "Willow Bend", null, null);
+    }
+}
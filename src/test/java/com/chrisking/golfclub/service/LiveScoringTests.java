@@ -0,0 +1,184 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.Leaderboard;
+import com.chrisking.golfclub.dto.LeaderboardEntry;
+import com.chrisking.golfclub.dto.ScoreSubmission;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.ScoreEvent;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.ScoreEventRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that hole scores keep the live leaderboard in order, are written to the database in the background,
+ * and rebuild the same leaderboard when replayed, and that a row the database rejects costs only that row.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LiveScoringTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScoringService scoringService;
+
+    @Autowired
+    private ScoreEventWriter scoreEventWriter;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ScoreEventRepository scoreEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long tournamentId;
+
+    private List<Long> players;
+
+    @BeforeEach
+    void seed() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            members.add(new Member("Player " + i, "1 Fairway Rd", "p" + i + "@example.com", "555-05" + i,
+                    LocalDate.of(2025, 1, 1), 12, "standard"));
+        }
+        players = memberRepository.saveAll(members).stream().map(Member::getId).toList();
+        tournamentId = tournamentService.createTournament(new Tournament(LocalDate.of(2026, 5, 1), null,
+                "Pebble Creek", new BigDecimal("50.00"), new BigDecimal("1000.00"))).getId();
+        // The last member is not playing
+        tournamentService.enrollMembers(tournamentId, players.subList(0, 3));
+    }
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        assertThat(scoreEventWriter.flush(Duration.ofSeconds(10))).isTrue();
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+        scoringService.rebuild();
+    }
+
+    @Test
+    void leaderboardFollowsEveryScore() {
+        Long first = players.get(0);
+        Long second = players.get(1);
+        Long third = players.get(2);
+        scoringService.submitScores(tournamentId, List.of(
+                score(first, 1, 4, 4), score(first, 2, 3, 4),
+                score(second, 1, 3, 4), score(second, 2, 5, 4),
+                score(third, 1, 5, 4)));
+
+        assertThat(scoringService.getLeaderboard(tournamentId, 10).entries()).containsExactly(
+                new LeaderboardEntry(1, first, -1, 7, 2),
+                new LeaderboardEntry(2, second, 0, 8, 2),
+                new LeaderboardEntry(3, third, 1, 5, 1));
+
+        // A correction for hole 2 and third's next hole bring everyone level; the tie shares the position
+        scoringService.submitScores(tournamentId, List.of(score(second, 2, 4, 4), score(third, 2, 2, 4)));
+
+        Leaderboard leaderboard = scoringService.getLeaderboard(tournamentId, 10);
+        assertThat(leaderboard.version()).isEqualTo(7);
+        assertThat(leaderboard.players()).isEqualTo(3);
+        assertThat(leaderboard.entries()).extracting(LeaderboardEntry::position).containsExactly(1, 1, 1);
+        assertThat(leaderboard.entries()).extracting(LeaderboardEntry::memberId).containsExactly(first, second, third);
+        assertThat(scoringService.getLeaderboard(tournamentId, 2).entries()).hasSize(2);
+    }
+
+    @Test
+    void scoresArePersistedAndReplayed() throws InterruptedException {
+        for (int hole = 1; hole <= 18; hole++) {
+            int round = hole;
+            scoringService.submitScores(tournamentId, players.subList(0, 3).stream()
+                    .map(player -> score(player, round, 3 + (int) ((player + round) % 3), 4)).toList());
+        }
+        // A correction, which the replay must apply after the original
+        scoringService.submitScores(tournamentId, List.of(score(players.get(2), 18, 7, 4)));
+        Leaderboard live = scoringService.getLeaderboard(tournamentId, 10);
+
+        assertThat(scoreEventWriter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(scoreEventRepository.countByTournamentId(tournamentId)).isEqualTo(55);
+
+        scoringService.rebuild();
+        assertThat(scoringService.getLeaderboard(tournamentId, 10)).isEqualTo(live);
+    }
+
+    @Test
+    void rowsTheDatabaseRejectsAreDroppedAlone() throws InterruptedException {
+        double failedBefore = meterRegistry.get("golfclub.scoring.events.failed").counter().count();
+        LocalDateTime now = LocalDateTime.now();
+        List<ScoreEvent> events = new ArrayList<>();
+        for (int hole = 1; hole <= 18; hole++) {
+            events.add(new ScoreEvent(tournamentId, players.get(0), hole, 4, 4, now));
+        }
+        // A score of a member deleted after it was accepted fails the foreign key
+        events.add(9, new ScoreEvent(tournamentId, -1L, 10, 4, 4, now));
+
+        scoreEventWriter.enqueue(events);
+
+        assertThat(scoreEventWriter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(scoreEventRepository.countByTournamentId(tournamentId)).isEqualTo(18);
+        assertThat(meterRegistry.get("golfclub.scoring.events.failed").counter().count() - failedBefore)
+                .isEqualTo(1);
+    }
+
+    @Test
+    void invalidBatchesAreRejectedWhole() throws Exception {
+        Long outsider = players.get(3);
+        assertThatThrownBy(() -> scoringService.submitScores(tournamentId,
+                List.of(score(players.get(0), 1, 4, 4), score(outsider, 1, 4, 4))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoringService.submitScores(tournamentId, List.of(score(players.get(0), 19, 4, 4))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(scoringService.getLeaderboard(tournamentId, 10).players()).isZero();
+
+        mockMvc.perform(post("/api/tournaments/" + tournamentId + "/scores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"memberId\":" + players.get(0) + ",\"hole\":1,\"strokes\":3,\"par\":4}]"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1));
+        mockMvc.perform(get("/api/tournaments/" + tournamentId + "/leaderboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].toPar").value(-1));
+        mockMvc.perform(get("/api/tournaments/-1/leaderboard"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ScoreSubmission score(Long memberId, int hole, int strokes, int par) {
+        return new ScoreSubmission(memberId, hole, strokes, par);
+    }
+}
@@ -0,0 +1,119 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.ImportResult;
+import com.chrisking.golfclub.dto.ImportRowResult;
+import com.chrisking.golfclub.dto.ImportRowStatus;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Verifies that a bulk import reports every row on its own: duplicate emails, invalid rows and rows the
+ * database rejects are skipped without losing the other rows of their chunk.
+ */
+@SpringBootTest(properties = "golfclub.import.chunk-size=3")
+@ActiveProfiles("test")
+class MemberImportTests {
+
+    private static final String HEADER = "memberName,address,email,phoneNumber,membershipStartDate,"
+            + "membershipDurationMonths,membershipType\n";
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void duplicatesAndInvalidRowsAreReportedPerRow() {
+        memberRepository.save(newMember("Existing", "taken@example.com"));
+
+        ImportResult result = memberImportService.importMembers(List.of(
+                newMember("Ann", "ann@example.com"),
+                newMember("Taken", "taken@example.com"),
+                newMember("Ann Again", "ann@example.com"),
+                newMember(null, "nameless@example.com"),
+                newMember("Bo", "bo@example.com")));
+
+        assertThat(result.rows()).extracting(ImportRowResult::row, ImportRowResult::status).containsExactly(
+                tuple(1, ImportRowStatus.CREATED),
+                tuple(2, ImportRowStatus.DUPLICATE_EMAIL),
+                tuple(3, ImportRowStatus.DUPLICATE_EMAIL),
+                tuple(4, ImportRowStatus.INVALID),
+                tuple(5, ImportRowStatus.CREATED));
+        assertThat(result.rows().get(1).message()).isEqualTo("A member with this email already exists");
+        assertThat(result.rows().get(2).message()).isEqualTo("Email appears earlier in this import");
+        assertThat(result).extracting(ImportResult::total, ImportResult::created, ImportResult::duplicates,
+                ImportResult::invalid).containsExactly(5, 2, 2, 1);
+        assertThat(memberRepository.existsByEmail("bo@example.com")).isTrue();
+    }
+
+    @Test
+    void rowTheDatabaseRejectsCostsOnlyThatRow() {
+        // Longer than the column, which only the database notices, so the whole chunk fails at first
+        String tooLong = "x".repeat(300);
+
+        ImportResult result = memberImportService.importMembers(List.of(
+                newMember("Ann", "ann@example.com"),
+                newMember(tooLong, "long@example.com"),
+                newMember("Bo", "bo@example.com")));
+
+        assertThat(result.rows()).extracting(ImportRowResult::status).containsExactly(ImportRowStatus.CREATED,
+                ImportRowStatus.INVALID, ImportRowStatus.CREATED);
+        assertThat(result.rows().get(1).message()).isEqualTo("Row violates a database constraint");
+        assertThat(result.rows().get(0).id()).isNotNull();
+        assertThat(memberRepository.existsByEmail("ann@example.com")).isTrue();
+        assertThat(memberRepository.existsByEmail("long@example.com")).isFalse();
+        assertThat(memberRepository.existsByEmail("bo@example.com")).isTrue();
+    }
+
+    @Test
+    void csvRowsAreMatchedByHeaderNameAndParsed() throws IOException {
+        String csv = "\uFEFF" + HEADER
+                + "\"Lee, Ann\",\"1 Fairway Rd\nUnit 4\",ann@example.com,555-0100,2025-01-01,12,standard\n"
+                + "Bo,,bo@example.com,,not-a-date,12,standard\n"
+                + "Cy,,cy@example.com,,,,\n";
+
+        ImportResult result = memberImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.rows()).extracting(ImportRowResult::status).containsExactly(ImportRowStatus.CREATED,
+                ImportRowStatus.INVALID, ImportRowStatus.CREATED);
+        assertThat(result.rows().get(1).message()).isEqualTo("Invalid membershipStartDate 'not-a-date'");
+        Member ann = memberRepository.findById(result.rows().get(0).id()).orElseThrow();
+        assertThat(ann.getMemberName()).isEqualTo("Lee, Ann");
+        assertThat(ann.getAddress()).isEqualTo("1 Fairway Rd\nUnit 4");
+        assertThat(ann.getMembershipStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(memberRepository.findById(result.rows().get(2).id()).orElseThrow().getMembershipType())
+                .isNull();
+    }
+
+    @Test
+    void csvWithoutHeaderIsRejected() {
+        assertThatThrownBy(() -> memberImportService.importCsv(new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static Member newMember(String memberName, String email) {
+        return new Member(memberName, "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12, "standard");
+    }
+}
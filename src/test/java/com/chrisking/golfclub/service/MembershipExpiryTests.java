@@ -0,0 +1,176 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.RenewalRunResult;
+import com.chrisking.golfclub.model.JobCheckpoint;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.RenewalNotice;
+import com.chrisking.golfclub.repository.JobCheckpointRepository;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.RenewalNoticeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the membership expiry date is derived on every write, that the expiring listing pages through
+ * a date range, and that the renewal job raises each notice once and resumes from its checkpoint.
+ */
+@SpringBootTest(properties = {"golfclub.renewals.chunk-size=3", "golfclub.renewals.lead-days=30",
+        "golfclub.renewals.enabled=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MembershipExpiryTests {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MembershipRenewalJob membershipRenewalJob;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RenewalNoticeRepository renewalNoticeRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    // Members expiring inside the run's window, in expiry order
+    private List<Member> expiring;
+
+    @BeforeEach
+    void seed() {
+        // Twelve-month memberships expiring every third day from the run date; two pairs share an expiry date
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int day = i < 4 ? (i / 2) * 3 : i * 3;
+            members.add(newMember("m" + i + "@example.com", RUN_DATE.minusMonths(12).plusDays(day), 12));
+        }
+        expiring = memberRepository.saveAll(members);
+        // Outside the window on both sides, and without a start date
+        memberRepository.save(newMember("early@example.com", RUN_DATE.minusMonths(12).minusDays(1), 12));
+        memberRepository.save(newMember("late@example.com", RUN_DATE.minusMonths(12).plusDays(31), 12));
+        memberRepository.save(newMember("unknown@example.com", null, 12));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        renewalNoticeRepository.deleteAllInBatch();
+        jobCheckpointRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void expiryDateIsDerivedOnEveryWrite() {
+        // Month-end starts clamp to the last day of a shorter month
+        Member member = memberRepository.save(newMember("clamp@example.com", LocalDate.of(2025, 1, 31), 1));
+        assertThat(member.getMembershipExpiryDate()).isEqualTo(LocalDate.of(2025, 2, 28));
+
+        member.setMembershipDurationMonths(13);
+        memberRepository.saveAndFlush(member);
+
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getMembershipExpiryDate())
+                .isEqualTo(LocalDate.of(2026, 2, 28));
+    }
+
+    @Test
+    void expiringListingPagesThroughTheRange() throws Exception {
+        List<Long> walked = new ArrayList<>();
+        String next = null;
+        do {
+            JsonNode page = getJson("/api/members/expiring?from=" + RUN_DATE + "&to=" + RUN_DATE.plusDays(30)
+                    + "&size=3" + (next == null ? "" : "&cursor=" + next));
+            page.get("items").forEach(item -> walked.add(item.get("id").asLong()));
+            next = page.get("next").isNull() ? null : page.get("next").asString();
+        } while (next != null);
+
+        assertThat(walked).containsExactlyElementsOf(expiring.stream().map(Member::getId).toList());
+
+        JsonNode narrow = getJson("/api/members/expiring?from=" + RUN_DATE.plusDays(3)
+                + "&to=" + RUN_DATE.plusDays(12));
+        assertThat(narrow.get("items").size()).isEqualTo(3);
+        assertThat(narrow.get("items").get(0).get("membershipExpiryDate").asString())
+                .isEqualTo(RUN_DATE.plusDays(3).toString());
+
+        mockMvc.perform(get("/api/members/expiring?from=" + RUN_DATE + "&to=" + RUN_DATE.minusDays(1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void renewalRunRaisesEachNoticeOnce() {
+        RenewalRunResult result = membershipRenewalJob.run(RUN_DATE);
+
+        // Ten members in chunks of three: the last chunk is short, which completes the run
+        assertThat(result.chunks()).isEqualTo(4);
+        assertThat(result.processed()).isEqualTo(10);
+        assertThat(result.noticesCreated()).isEqualTo(10);
+        assertThat(result.completed()).isTrue();
+        assertThat(noticedMemberIds()).containsExactlyInAnyOrderElementsOf(
+                expiring.stream().map(Member::getId).toList());
+
+        // A completed run does nothing, and a fresh run over the same window raises no duplicates
+        assertThat(membershipRenewalJob.run(RUN_DATE).chunks()).isZero();
+        jobCheckpointRepository.deleteAllInBatch();
+        RenewalRunResult replay = membershipRenewalJob.run(RUN_DATE);
+        assertThat(replay.processed()).isEqualTo(10);
+        assertThat(replay.noticesCreated()).isZero();
+        assertThat(renewalNoticeRepository.count()).isEqualTo(10);
+
+        Member first = expiring.get(0);
+        List<RenewalNotice> notices = renewalNoticeRepository.findByMemberIdOrderByExpiryDateAsc(first.getId());
+        assertThat(notices).extracting(RenewalNotice::getExpiryDate).containsExactly(RUN_DATE);
+    }
+
+    @Test
+    void interruptedRunResumesAfterTheCheckpoint() {
+        // A previous invocation committed two chunks (six members) before it stopped
+        Member lastDone = expiring.get(5);
+        JobCheckpoint checkpoint = new JobCheckpoint(MembershipRenewalJob.JOB_NAME, RUN_DATE, LocalDateTime.now());
+        checkpoint.advance(lastDone.getMembershipExpiryDate(), lastDone.getId(), 6, LocalDateTime.now());
+        jobCheckpointRepository.save(checkpoint);
+
+        RenewalRunResult result = membershipRenewalJob.run(RUN_DATE);
+
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.processed()).isEqualTo(10);
+        assertThat(result.completed()).isTrue();
+        assertThat(noticedMemberIds()).containsExactlyInAnyOrderElementsOf(
+                expiring.subList(6, 10).stream().map(Member::getId).toList());
+    }
+
+    private List<Long> noticedMemberIds() {
+        return renewalNoticeRepository.findAll().stream().map(RenewalNotice::getMemberId).toList();
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JSON.readTree(body);
+    }
+
+    private static Member newMember(String email, LocalDate start, int months) {
+        return new Member("Test Member", "1 Fairway Rd", email, "555-" + email.hashCode(), start, months, "standard");
+    }
+}
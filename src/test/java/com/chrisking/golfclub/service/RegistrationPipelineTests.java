@@ -0,0 +1,178 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.EnrollmentResult;
+import com.chrisking.golfclub.dto.RegistrationStatus;
+import com.chrisking.golfclub.dto.RegistrationTicket;
+import com.chrisking.golfclub.exception.RegistrationQueueFullException;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that queued registrations are committed with the outcome each request would have had on its own,
+ * admitting members in queue order while seats last, and that a full queue refuses further requests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RegistrationPipelineTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RegistrationPipeline registrationPipeline;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        registrationPipeline.flush(Duration.ofSeconds(10));
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void queuedRegistrationsGetTheirOwnOutcome() throws Exception {
+        List<Long> members = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            members.add(memberRepository.save(newMember("queued" + i + "@example.com")).getId());
+        }
+        Tournament tournament = newTournament();
+        tournament.setMaxPlayers(2);
+        Long tournamentId = tournamentRepository.save(tournament).getId();
+        tournamentService.addMemberToTournament(tournamentId, members.get(0));
+
+        List<RegistrationTicket> tickets = List.of(
+                registrationPipeline.submit(tournamentId, members.get(0)),
+                registrationPipeline.submit(tournamentId, members.get(1)),
+                registrationPipeline.submit(tournamentId, members.get(1)),
+                registrationPipeline.submit(tournamentId, members.get(2)),
+                registrationPipeline.submit(tournamentId, -1L),
+                registrationPipeline.submit(-1L, members.get(3)));
+        assertThat(tickets).extracting(RegistrationTicket::status).containsOnly(RegistrationStatus.PENDING);
+
+        List<RegistrationStatus> outcomes = new ArrayList<>();
+        for (RegistrationTicket ticket : tickets) {
+            RegistrationTicket done = registrationPipeline.awaitTicket(ticket.ticketId(), Duration.ofSeconds(10))
+                    .orElseThrow();
+            assertThat(done.completedAt()).isNotNull();
+            outcomes.add(done.status());
+        }
+
+        assertThat(outcomes).containsExactly(RegistrationStatus.ALREADY_ENROLLED, RegistrationStatus.ENROLLED,
+                RegistrationStatus.ALREADY_ENROLLED, RegistrationStatus.TOURNAMENT_FULL,
+                RegistrationStatus.NOT_FOUND, RegistrationStatus.NOT_FOUND);
+        assertThat(tournamentRepository.findById(tournamentId).orElseThrow().getRegisteredPlayers()).isEqualTo(2);
+        assertThat(tournamentService.getMembersInTournament(tournamentId)).hasSize(2);
+    }
+
+    @Test
+    void ticketsArePolledOverHttp() throws Exception {
+        Long memberId = memberRepository.save(newMember("http@example.com")).getId();
+        Long tournamentId = tournamentRepository.save(newTournament()).getId();
+
+        String location = mockMvc.perform(post("/api/tournaments/" + tournamentId + "/members/" + memberId
+                        + "/registrations"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getHeader("Location");
+
+        mockMvc.perform(get(location).param("waitMillis", "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ENROLLED"))
+                .andExpect(jsonPath("$.memberId").value(memberId));
+        mockMvc.perform(get("/api/tournaments/registrations/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void fullQueueRefusesRequests() throws Exception {
+        // Never started, so nothing leaves the queue
+        RegistrationPipeline stalled = new RegistrationPipeline(tournamentService, tournamentRepository,
+                transactionManager, new SimpleMeterRegistry(), 2, 10, Duration.ofMinutes(1), Duration.ZERO);
+        stalled.submit(1L, 1L);
+        stalled.submit(1L, 2L);
+
+        assertThatThrownBy(() -> stalled.submit(1L, 3L)).isInstanceOf(RegistrationQueueFullException.class);
+        assertThat(stalled.backlog()).isEqualTo(2);
+
+        // Shutting down gives up on what is still queued, and later requests are refused
+        stalled.stop();
+        assertThat(stalled.backlog()).isZero();
+        assertThatThrownBy(() -> stalled.submit(1L, 4L)).isInstanceOf(RegistrationQueueFullException.class);
+        assertThat(stalled.flush(Duration.ofSeconds(1))).isTrue();
+    }
+
+    @Test
+    void batchClaimsTheSeatsThatAreLeft() {
+        List<Long> members = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            members.add(memberRepository.save(newMember("batch" + i + "@example.com")).getId());
+        }
+        Tournament tournament = newTournament();
+        tournament.setMaxPlayers(3);
+        Long limitedId = tournamentRepository.save(tournament).getId();
+        Long openId = tournamentRepository.save(newTournament()).getId();
+        tournamentService.addMemberToTournament(limitedId, members.get(0));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        EnrollmentResult limited = transactionTemplate.execute(status ->
+                tournamentService.enrollAvailable(limitedId, members.subList(1, 4)));
+        EnrollmentResult open = transactionTemplate.execute(status ->
+                tournamentService.enrollAvailable(openId, members));
+        EnrollmentResult full = transactionTemplate.execute(status ->
+                tournamentService.enrollAvailable(limitedId, members.subList(3, 4)));
+
+        assertThat(limited.added()).containsExactly(members.get(1), members.get(2));
+        assertThat(open.added()).containsExactlyElementsOf(members);
+        assertThat(full.added()).isEmpty();
+        assertThat(tournamentRepository.findById(limitedId).orElseThrow().getRegisteredPlayers()).isEqualTo(3);
+        assertThat(tournamentRepository.findById(openId).orElseThrow().getRegisteredPlayers()).isEqualTo(4);
+    }
+
+    private static Member newMember(String email) {
+        return new Member("Queued Member", "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12,
+                "standard");
+    }
+
+    private static Tournament newTournament() {
+        return new Tournament(LocalDate.of(2026, 8, 1), null, "Pebble Creek", new BigDecimal("50.00"),
+                new BigDecimal("1000.00"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.chrisking.golfclub.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that concurrent callers of the same key share one load, its result and its failure.
+ * The leader's load is held open on a latch until every follower has joined, so the outcome does not
+ * depend on thread timing.
+ */
+class SingleFlightTests {
+
+    private static final int FOLLOWERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<Long, List<String>> flight = new SingleFlight<>("test", meterRegistry, true);
+
+        Future<List<String>> leader = executor.submit(() -> flight.execute(1L, () -> blockingLoad(List.of("roster"))));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<List<String>>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> flight.execute(1L, () -> blockingLoad(List.of("second load")))));
+        }
+        awaitUntil(() -> coalesced() == FOLLOWERS);
+        releaseLoad.countDown();
+
+        List<String> result = leader.get(5, TimeUnit.SECONDS);
+        for (Future<List<String>> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(coalesced()).isEqualTo(FOLLOWERS);
+    }
+
+    @Test
+    void followersReceiveTheLeadersFailure() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry, true);
+        RuntimeException failure = new RuntimeException("Tournament not found with id: 1");
+
+        Future<String> leader = executor.submit(() -> flight.execute(1L, () -> {
+            blockingLoad("unused");
+            throw failure;
+        }));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> flight.execute(1L, () -> "second load"));
+        awaitUntil(() -> coalesced() == 1);
+        releaseLoad.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    void callsAfterCompletionLoadAgain() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", meterRegistry, true);
+
+        assertThat(flight.execute(1L, loads::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.execute(1L, loads::incrementAndGet)).isEqualTo(2);
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotShareLoads() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry, true);
+
+        Future<String> first = executor.submit(() -> flight.execute(1L, () -> blockingLoad("first")));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(flight.execute(2L, () -> "second")).isEqualTo("second");
+        releaseLoad.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    void forgottenLoadIsNotJoined() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry, true);
+
+        Future<String> stale = executor.submit(() -> flight.execute(1L, () -> blockingLoad("before write")));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        flight.forget(1L);
+
+        assertThat(flight.execute(1L, () -> "after write")).isEqualTo("after write");
+        releaseLoad.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        assertThat(coalesced()).isZero();
+    }
+
+    @Test
+    void disabledFlightRunsEveryLoad() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", meterRegistry, false);
+
+        flight.execute(1L, loads::incrementAndGet);
+        flight.execute(1L, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private <V> V blockingLoad(V value) {
+        loads.incrementAndGet();
+        loadStarted.countDown();
+        try {
+            if (!releaseLoad.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Load was never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("golfclub.singleflight.coalesced").tag("operation", "test").counter().count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
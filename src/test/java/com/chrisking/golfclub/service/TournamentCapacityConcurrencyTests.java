@@ -0,0 +1,183 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.exception.TournamentFullException;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stress test for registration under contention: many threads register for the same tournament at once
+ * and the roster must never exceed the tournament's capacity.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentCapacityConcurrencyTests {
+
+    private static final int THREADS = 64;
+
+    private static final int MEMBERS = 300;
+
+    private static final int CAPACITY = 40;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private List<Long> memberIds;
+
+    private Long tournamentId;
+
+    @BeforeEach
+    void seed() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("Player " + i, null, "player" + i + "@example.com", null,
+                    LocalDate.of(2025, 1, 1), 12, "standard"));
+        }
+        memberIds = memberRepository.saveAll(members).stream().map(Member::getId).toList();
+
+        Tournament tournament = new Tournament(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 2), "Cedar Ridge",
+                null, null);
+        tournament.setMaxPlayers(CAPACITY);
+        tournamentId = tournamentService.createTournament(tournament).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentSingleRegistrationsNeverOverbook() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Every member tries twice, so duplicate registrations race as well
+        List<Runnable> attempts = new ArrayList<>();
+        for (int round = 0; round < 2; round++) {
+            for (Long memberId : memberIds) {
+                attempts.add(() -> {
+                    try {
+                        tournamentService.addMemberToTournament(tournamentId, memberId);
+                    } catch (TournamentFullException ex) {
+                        rejected.incrementAndGet();
+                    }
+                });
+            }
+        }
+        runConcurrently(attempts);
+
+        assertThat(rejected.get()).isGreaterThan(0);
+        assertRosterMatchesCapacity();
+    }
+
+    @Test
+    void concurrentBulkAndSingleRegistrationsNeverOverbook() throws Exception {
+        AtomicInteger fullBatches = new AtomicInteger();
+
+        List<Runnable> attempts = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i += 6) {
+            List<Long> batch = memberIds.subList(i, Math.min(i + 6, MEMBERS));
+            attempts.add(() -> {
+                try {
+                    tournamentService.enrollMembers(tournamentId, batch);
+                } catch (TournamentFullException ex) {
+                    fullBatches.incrementAndGet();
+                }
+            });
+            attempts.add(() -> {
+                try {
+                    tournamentService.addMemberToTournament(tournamentId, batch.get(0));
+                } catch (TournamentFullException ex) {
+                    fullBatches.incrementAndGet();
+                }
+            });
+        }
+        runConcurrently(attempts);
+
+        assertThat(fullBatches.get()).isGreaterThan(0);
+        assertRosterMatchesCapacity();
+    }
+
+    @Test
+    void overlappingBulkEnrollmentsReportEachMemberAddedOnce() throws Exception {
+        Long openTournamentId = tournamentService.createTournament(new Tournament(LocalDate.of(2026, 7, 1),
+                LocalDate.of(2026, 7, 2), "Cedar Ridge", null, null)).getId();
+        Map<Long, Long> versionsBefore = new HashMap<>();
+        memberIds.forEach(id -> versionsBefore.put(id, memberRepository.findVersionById(id).orElseThrow()));
+        Queue<Long> reportedAdded = new ConcurrentLinkedQueue<>();
+
+        // Each batch of ten overlaps the next by five, and every batch is sent three times
+        List<Runnable> attempts = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < MEMBERS; i += 5) {
+                List<Long> batch = memberIds.subList(i, Math.min(i + 10, MEMBERS));
+                attempts.add(() -> reportedAdded.addAll(
+                        tournamentService.enrollMembers(openTournamentId, batch).added()));
+            }
+        }
+        runConcurrently(attempts);
+
+        List<Long> roster = memberRepository.findByTournaments_IdOrderByIdAsc(openTournamentId).stream()
+                .map(Member::getId).toList();
+        assertThat(roster).hasSize(MEMBERS);
+        assertThat(reportedAdded).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(roster);
+        assertThat(tournamentService.getTournamentById(openTournamentId).registeredPlayers()).isEqualTo(MEMBERS);
+        memberIds.forEach(id -> assertThat(memberRepository.findVersionById(id).orElseThrow())
+                .as("version of member %d", id).isEqualTo(versionsBefore.get(id) + 1));
+    }
+
+    private void assertRosterMatchesCapacity() {
+        int rosterSize = memberRepository.findByTournaments_IdOrderByIdAsc(tournamentId).size();
+        int counter = tournamentService.getTournamentById(tournamentId).registeredPlayers();
+
+        assertThat(rosterSize).isEqualTo(CAPACITY);
+        assertThat(counter).isEqualTo(rosterSize);
+    }
+
+    private static void runConcurrently(List<Runnable> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
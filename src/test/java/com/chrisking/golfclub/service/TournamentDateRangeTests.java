@@ -0,0 +1,152 @@
+package com.chrisking.golfclub.service;
+
+import com.chrisking.golfclub.dto.MemberResponse;
+import com.chrisking.golfclub.model.Member;
+import com.chrisking.golfclub.model.Tournament;
+import com.chrisking.golfclub.repository.MemberRepository;
+import com.chrisking.golfclub.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that date-range searches served by the interval index return exactly what the database range
+ * query returns, and that the index follows tournament writes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TournamentDateRangeTests {
+
+    private static final LocalDate SEASON_START = LocalDate.of(2026, 4, 1);
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tournamentRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void indexAgreesWithTheRangeQuery() {
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            LocalDate start = SEASON_START.plusDays(random.nextInt(180));
+            // Some single-day tournaments have no end date
+            LocalDate end = random.nextInt(10) == 0 ? null : start.plusDays(random.nextInt(5));
+            tournamentService.createTournament(newTournament(start, end));
+        }
+        assertThat(searchIndexService.isReady()).isTrue();
+
+        for (int i = 0; i < 100; i++) {
+            LocalDate from = SEASON_START.minusDays(5).plusDays(random.nextInt(200));
+            LocalDate to = from.plusDays(random.nextInt(14));
+            List<Long> indexed = ids(tournamentService.searchByDateRange(from, to,
+                    TournamentService.MAX_SEARCH_RESULTS));
+            List<Long> queried = ids(tournamentRepository.findOverlapping(from, to,
+                    Limit.of(TournamentService.MAX_SEARCH_RESULTS)));
+            assertThat(indexed).as("%s..%s", from, to).isEqualTo(queried);
+        }
+    }
+
+    @Test
+    void indexFollowsCreatesAndDeletes() {
+        LocalDate day = SEASON_START.plusDays(10);
+        Tournament before = tournamentService.createTournament(newTournament(day.minusDays(3), day.minusDays(1)));
+        Tournament spanning = tournamentService.createTournament(newTournament(day.minusDays(2), day.plusDays(2)));
+        Tournament sameDay = tournamentService.createTournament(newTournament(day, null));
+
+        assertThat(ids(tournamentService.searchActiveOn(day, 50))).containsExactly(spanning.getId(), sameDay.getId());
+        assertThat(ids(tournamentService.searchByDateRange(day.minusDays(1), day, 50)))
+                .containsExactly(before.getId(), spanning.getId(), sameDay.getId());
+
+        tournamentRepository.deleteById(spanning.getId());
+
+        assertThat(ids(tournamentService.searchActiveOn(day, 50))).containsExactly(sameDay.getId());
+    }
+
+    @Test
+    void rebuildDropsRowsDeletedBehindTheListeners() {
+        LocalDate day = SEASON_START.plusDays(40);
+        Tournament stale = tournamentService.createTournament(newTournament(day, null));
+        assertThat(ids(tournamentService.searchActiveOn(day, 50))).containsExactly(stale.getId());
+
+        // A bulk delete skips the entity listeners, so only a rebuild can notice it
+        tournamentRepository.deleteAllInBatch();
+        Tournament kept = tournamentService.createTournament(newTournament(day, day.plusDays(1)));
+        searchIndexService.build();
+
+        assertThat(ids(tournamentService.searchActiveOn(day, 50))).containsExactly(kept.getId());
+        assertThat(searchIndexService.searchTournamentLocations("pebble", 50)).containsExactly(kept.getId());
+    }
+
+    @Test
+    void membersPlayingDuringTheRangeAreListedOnce() {
+        Member alice = memberRepository.save(newMember("alice@example.com"));
+        Member bob = memberRepository.save(newMember("bob@example.com"));
+        Member carol = memberRepository.save(newMember("carol@example.com"));
+        Tournament first = tournamentService.createTournament(newTournament(SEASON_START, SEASON_START.plusDays(1)));
+        Tournament second = tournamentService.createTournament(newTournament(SEASON_START.plusDays(1), null));
+        Tournament later = tournamentService.createTournament(newTournament(SEASON_START.plusDays(30), null));
+        tournamentService.enrollMembers(first.getId(), List.of(alice.getId(), bob.getId()));
+        tournamentService.enrollMembers(second.getId(), List.of(alice.getId()));
+        tournamentService.enrollMembers(later.getId(), List.of(carol.getId()));
+
+        List<MemberResponse> playing = memberService.searchByTournamentDateRange(SEASON_START,
+                SEASON_START.plusDays(6), 50);
+
+        assertThat(playing).extracting(MemberResponse::id).containsExactly(alice.getId(), bob.getId());
+        assertThat(memberRepository.findPlayingBetween(SEASON_START, SEASON_START.plusDays(6), Limit.of(50)))
+                .extracting(Member::getId).containsExactly(alice.getId(), bob.getId());
+    }
+
+    @Test
+    void invertedRangesAreRejected() {
+        LocalDate day = SEASON_START;
+        assertThatThrownBy(() -> tournamentService.searchByDateRange(day, day.minusDays(1), 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberService.searchByTournamentDateRange(day, day.minusDays(1), 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> tournamentService.createTournament(newTournament(day, day.minusDays(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(List<Tournament> tournaments) {
+        List<Long> ids = new ArrayList<>();
+        tournaments.forEach(tournament -> ids.add(tournament.getId()));
+        return ids;
+    }
+
+    private static Tournament newTournament(LocalDate start, LocalDate end) {
+        return new Tournament(start, end, "Pebble Creek", new BigDecimal("50.00"), new BigDecimal("1000.00"));
+    }
+
+    private static Member newMember(String email) {
+        return new Member("Test Member", "1 Fairway Rd", email, "555-0100", LocalDate.of(2025, 1, 1), 12, "standard");
+    }
+}
@@ -0,0 +1,51 @@
+package com.chrisking.golfclub.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate prepares, so tests can check which columns a query selects or explain what it runs.
+ * Registered by StatementCaptureConfig.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    /**
+     * Returns the statements recorded since the last clear, oldest first.
+     * @return the recorded SQL
+     */
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Forgets every recorded statement.
+     */
+    public void clear() {
+        statements.clear();
+    }
+
+    /**
+     * Returns the most recently recorded SELECT.
+     * @return the SQL of the last SELECT
+     * @throws IllegalStateException if no SELECT has been recorded
+     */
+    public String lastSelect() {
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("No SELECT statement was recorded");
+    }
+}
@@ -0,0 +1,24 @@
+package com.chrisking.golfclub.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Installs a RecordingStatementInspector in the test's persistence unit; import it into a SpringBootTest
+ * and autowire the inspector.
+ */
+@TestConfiguration
+public class StatementCaptureConfig {
+
+    @Bean
+    RecordingStatementInspector recordingStatementInspector() {
+        return new RecordingStatementInspector();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(RecordingStatementInspector inspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}